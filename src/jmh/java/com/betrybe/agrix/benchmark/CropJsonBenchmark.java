@@ -0,0 +1,70 @@
+package com.betrybe.agrix.benchmark;
+
+import com.betrybe.agrix.controllers.dto.CropDto;
+import com.betrybe.agrix.util.NdjsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Time and allocation of serializing a list of crops to JSON with a mapper configured like
+ * the one of Spring Boot (ISO dates): as one JSON array, the way the list endpoints answer,
+ * and as one line per crop with {@link NdjsonWriter}, the way the exports stream. The
+ * output is discarded, so only serialization is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CropJsonBenchmark {
+
+  @Param({"1000", "100000", "1000000"})
+  private int rows;
+
+  private ObjectMapper objectMapper;
+
+  private List<CropDto> crops;
+
+  @Setup
+  public void setUp() {
+    objectMapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    LocalDate today = LocalDate.now();
+    crops = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      crops.add(new CropDto((long) i + 1, "Plantação " + i, 10.0 + i % 100, (long) i % 50 + 1,
+          today.minusDays(i % 90), today.plusDays(i % 120)));
+    }
+  }
+
+  @Benchmark
+  public void jsonArray() throws IOException {
+    objectMapper.writeValue(OutputStream.nullOutputStream(), crops);
+  }
+
+  @Benchmark
+  public void ndjson() {
+    NdjsonWriter writer = new NdjsonWriter(objectMapper, OutputStream.nullOutputStream());
+    crops.forEach(writer::write);
+  }
+}
@@ -0,0 +1,102 @@
+package com.betrybe.agrix.benchmark;
+
+import com.betrybe.agrix.AgrixApplication;
+import com.betrybe.agrix.controllers.dto.CropDto;
+import com.betrybe.agrix.models.entity.Crop;
+import com.betrybe.agrix.models.entity.Farm;
+import com.betrybe.agrix.models.repository.CropRepository;
+import com.betrybe.agrix.models.repository.FarmRepository;
+import com.betrybe.agrix.util.DtoConverter;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Time and allocation of reading one page of crops the way a request does, against the
+ * in-memory test database: loading Crop entities and converting them with
+ * {@link DtoConverter}, as the read endpoints used to, compared with the constructor
+ * projections they use now. The gc profiler enabled by the benchmark profile reports the
+ * bytes allocated per page as gc.alloc.rate.norm.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CropReadBenchmark {
+
+  @Param({"20", "100"})
+  private int pageSize;
+
+  private ConfigurableApplicationContext context;
+
+  private CropRepository cropRepository;
+
+  private TransactionTemplate transactionTemplate;
+
+  @Setup
+  public void setUp() {
+    context = new SpringApplicationBuilder(AgrixApplication.class)
+        .web(WebApplicationType.NONE)
+        .profiles("test")
+        .properties("spring.jpa.show-sql=false", "logging.level.root=WARN")
+        .run();
+    cropRepository = context.getBean(CropRepository.class);
+    transactionTemplate = new TransactionTemplate(
+        context.getBean(PlatformTransactionManager.class));
+    transactionTemplate.setReadOnly(true);
+
+    FarmRepository farmRepository = context.getBean(FarmRepository.class);
+    List<Farm> farms = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      farms.add(farmRepository.save(new Farm(null, "Fazenda " + i, 1000.0)));
+    }
+    LocalDate today = LocalDate.now();
+    List<Crop> crops = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      crops.add(new Crop(null, farms.get(i % farms.size()), "Plantação " + i, 10.0,
+          today.minusDays(i % 90), today.plusDays(i % 120)));
+    }
+    cropRepository.saveAll(crops);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public List<CropDto> entityPage() {
+    return transactionTemplate.execute(status ->
+        cropRepository.findAll(PageRequest.of(0, pageSize, Sort.by("id"))).stream()
+            .map(DtoConverter::cropToDto)
+            .toList());
+  }
+
+  @Benchmark
+  public List<CropDto> projectionPage() {
+    return transactionTemplate.execute(status ->
+        cropRepository.findDtoByIdGreaterThan(0L, PageRequest.of(0, pageSize)));
+  }
+}
@@ -0,0 +1,66 @@
+package com.betrybe.agrix.benchmark;
+
+import com.betrybe.agrix.controllers.dto.CropDto;
+import com.betrybe.agrix.controllers.dto.FertilizerDto;
+import com.betrybe.agrix.controllers.dto.PersonDto;
+import com.betrybe.agrix.models.entity.Crop;
+import com.betrybe.agrix.models.entity.Farm;
+import com.betrybe.agrix.models.entity.Fertilizer;
+import com.betrybe.agrix.models.entity.Person;
+import com.betrybe.agrix.security.Role;
+import com.betrybe.agrix.util.DtoConverter;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time and allocation of converting one entity with {@link DtoConverter}, the cost paid per
+ * row by the endpoints that still return entities converted in memory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DtoConverterBenchmark {
+
+  private Crop crop;
+
+  private Fertilizer fertilizer;
+
+  private Person person;
+
+  @Setup
+  public void setUp() {
+    Farm farm = new Farm(1L, "Fazenda", 1000.0);
+    LocalDate today = LocalDate.now();
+    crop = new Crop(1L, farm, "Plantação", 10.0, today.minusDays(30), today.plusDays(60));
+    fertilizer = new Fertilizer(1L, "Adubo", "Marca", "Nitrogênio, fósforo e potássio");
+    person = new Person(1L, "benchmark", "password", Role.USER);
+  }
+
+  @Benchmark
+  public CropDto cropToDto() {
+    return DtoConverter.cropToDto(crop);
+  }
+
+  @Benchmark
+  public FertilizerDto fertilizerToDto() {
+    return DtoConverter.fertilizerToDto(fertilizer);
+  }
+
+  @Benchmark
+  public PersonDto personToDto() {
+    return DtoConverter.personToDto(person);
+  }
+}
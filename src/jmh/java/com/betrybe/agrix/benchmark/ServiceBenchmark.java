@@ -0,0 +1,134 @@
+package com.betrybe.agrix.benchmark;
+
+import com.betrybe.agrix.AgrixApplication;
+import com.betrybe.agrix.controllers.dto.CropDto;
+import com.betrybe.agrix.controllers.dto.CropSearchDto;
+import com.betrybe.agrix.controllers.dto.FarmUtilizationDto;
+import com.betrybe.agrix.controllers.dto.HarvestWeekDto;
+import com.betrybe.agrix.controllers.dto.MonthlyPlantedAreaDto;
+import com.betrybe.agrix.models.entity.Crop;
+import com.betrybe.agrix.models.entity.Farm;
+import com.betrybe.agrix.models.repository.CropRepository;
+import com.betrybe.agrix.models.repository.FarmRepository;
+import com.betrybe.agrix.services.CropService;
+import com.betrybe.agrix.services.StatisticsService;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Time of the read methods of {@link CropService} and {@link StatisticsService}, through
+ * their transactions, against the in-memory test database seeded with 20 farms and 10,000
+ * crops. Measures the service and query cost of the read endpoints without HTTP.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ServiceBenchmark {
+
+  private static final int FARMS = 20;
+
+  private static final int CROPS = 10_000;
+
+  private ConfigurableApplicationContext context;
+
+  private CropService cropService;
+
+  private StatisticsService statisticsService;
+
+  private Long farmId;
+
+  private Long cropId;
+
+  private CropSearchDto search;
+
+  private LocalDate today;
+
+  @Setup
+  public void setUp() {
+    context = new SpringApplicationBuilder(AgrixApplication.class)
+        .web(WebApplicationType.NONE)
+        .profiles("test")
+        .properties("spring.jpa.show-sql=false", "logging.level.root=WARN")
+        .run();
+    cropService = context.getBean(CropService.class);
+    statisticsService = context.getBean(StatisticsService.class);
+
+    FarmRepository farmRepository = context.getBean(FarmRepository.class);
+    CropRepository cropRepository = context.getBean(CropRepository.class);
+    List<Farm> farms = new ArrayList<>();
+    for (int i = 0; i < FARMS; i++) {
+      farms.add(farmRepository.save(new Farm(null, "Fazenda " + i, 10000.0)));
+    }
+    today = LocalDate.now();
+    List<Crop> crops = new ArrayList<>();
+    for (int i = 0; i < CROPS; i++) {
+      crops.add(new Crop(null, farms.get(i % FARMS), "Plantação " + i % 100, 1.0 + i % 50,
+          today.minusDays(i % 365), today.plusDays(i % 180)));
+    }
+    cropId = cropRepository.saveAll(crops).get(CROPS / 2).getId();
+    farmId = farms.get(0).getId();
+    search = new CropSearchDto(today, today.plusDays(30), null, null, null, "Plantação 1",
+        null, null);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public List<CropDto> getCropPage() {
+    return cropService.getCropPage(CROPS / 2, 100);
+  }
+
+  @Benchmark
+  public Slice<CropDto> findByFarmId() throws Exception {
+    return cropService.findByFarmId(farmId, 2, 100);
+  }
+
+  @Benchmark
+  public CropDto getByIdCrop() throws Exception {
+    return cropService.getByIdCrop(cropId);
+  }
+
+  @Benchmark
+  public Page<CropDto> searchCrops() {
+    return cropService.searchCrops(search, 0, 100, "harvestDate");
+  }
+
+  @Benchmark
+  public List<FarmUtilizationDto> getFarmUtilization() {
+    return statisticsService.getFarmUtilization();
+  }
+
+  @Benchmark
+  public List<MonthlyPlantedAreaDto> getMonthlyPlantedArea() throws Exception {
+    return statisticsService.getMonthlyPlantedArea(farmId);
+  }
+
+  @Benchmark
+  public List<HarvestWeekDto> getUpcomingHarvests() throws Exception {
+    return statisticsService.getUpcomingHarvests(null, 12, today);
+  }
+}
@@ -0,0 +1,81 @@
+package com.betrybe.agrix.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.betrybe.agrix.models.entity.Person;
+import com.betrybe.agrix.security.Role;
+import com.betrybe.agrix.services.TokenService;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Tokens issued and verified per second by {@link TokenService}, which shares one algorithm
+ * and verifier across threads, compared with the previous implementation that built a new
+ * algorithm and verifier on every call.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+public class TokenServiceBenchmark {
+
+  private static final String SECRET = "benchmark-secret";
+
+  private TokenService tokenService;
+
+  private Person person;
+
+  private String token;
+
+  @Setup
+  public void setUp() {
+    tokenService = new TokenService(SECRET, "HS256", "", "");
+    person = new Person(1L, "benchmark", "password", Role.USER);
+    token = tokenService.generateToken(person);
+  }
+
+  @Benchmark
+  public String generateTokenShared() {
+    return tokenService.generateToken(person);
+  }
+
+  @Benchmark
+  public String validateTokenShared() {
+    return tokenService.validateToken(token);
+  }
+
+  @Benchmark
+  public String generateTokenPerCall() {
+    Algorithm algorithm = Algorithm.HMAC256(SECRET);
+    return JWT.create()
+        .withIssuer("trybetrack")
+        .withSubject(person.getUsername())
+        .withExpiresAt(Instant.now().plus(2, ChronoUnit.HOURS))
+        .sign(algorithm);
+  }
+
+  @Benchmark
+  public String validateTokenPerCall() {
+    Algorithm algorithm = Algorithm.HMAC256(SECRET);
+    return JWT.require(algorithm)
+        .withIssuer("trybetrack")
+        .build()
+        .verify(token)
+        .getSubject();
+  }
+}
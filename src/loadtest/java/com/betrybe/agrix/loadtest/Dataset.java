@@ -0,0 +1,38 @@
+package com.betrybe.agrix.loadtest;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The ids and credentials of the seeded data the scenarios pick their requests from.
+ *
+ * @param farmIds       The ids of the seeded farms.
+ * @param cropIds       The ids of the seeded crops.
+ * @param fertilizerIds The ids of the seeded fertilizers.
+ * @param usernames     The usernames of the seeded users.
+ * @param password      The password of every seeded user.
+ */
+public record Dataset(
+    List<Long> farmIds,
+    List<Long> cropIds,
+    List<Long> fertilizerIds,
+    List<String> usernames,
+    String password
+) {
+
+  long randomFarmId() {
+    return random(farmIds);
+  }
+
+  long randomCropId() {
+    return random(cropIds);
+  }
+
+  long randomFertilizerId() {
+    return random(fertilizerIds);
+  }
+
+  private static long random(List<Long> ids) {
+    return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+  }
+}
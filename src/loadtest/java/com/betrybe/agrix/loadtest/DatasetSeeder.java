@@ -0,0 +1,116 @@
+package com.betrybe.agrix.loadtest;
+
+import com.betrybe.agrix.controllers.dto.CropFertilizerPairDto;
+import com.betrybe.agrix.models.entity.Crop;
+import com.betrybe.agrix.models.entity.Farm;
+import com.betrybe.agrix.models.entity.Fertilizer;
+import com.betrybe.agrix.models.entity.Person;
+import com.betrybe.agrix.models.repository.CropRepository;
+import com.betrybe.agrix.models.repository.FarmRepository;
+import com.betrybe.agrix.models.repository.FertilizerRepository;
+import com.betrybe.agrix.security.Role;
+import com.betrybe.agrix.services.CropService;
+import com.betrybe.agrix.services.PersonService;
+import com.betrybe.agrix.services.RollupService;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Seeds the database of the application under test with farms, crops, fertilizers,
+ * associations and users. Rows are written in chunks, one transaction each, so the
+ * persistence context stays small whatever the size of the dataset. The random choices use
+ * a fixed seed, so runs with the same settings get the same dataset.
+ */
+public class DatasetSeeder {
+
+  private static final int CHUNK_SIZE = 1000;
+
+  private static final String PASSWORD = "loadtest-password";
+
+  private final ApplicationContext context;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final Random random = new Random(42);
+
+  /**
+   * Constructs a new DatasetSeeder.
+   *
+   * @param context The context of the application under test.
+   */
+  public DatasetSeeder(ApplicationContext context) {
+    this.context = context;
+    this.transactionTemplate =
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+  }
+
+  /**
+   * Seeds the dataset described by the settings.
+   *
+   * @param settings The settings of the run.
+   * @return The ids and credentials of the seeded data.
+   */
+  public Dataset seed(LoadTestSettings settings) {
+    FarmRepository farmRepository = context.getBean(FarmRepository.class);
+    List<Long> farmIds = new ArrayList<>();
+    for (int i = 0; i < settings.farms(); i++) {
+      farmIds.add(farmRepository.save(new Farm(null, "Fazenda " + i, 10000.0)).getId());
+    }
+
+    CropRepository cropRepository = context.getBean(CropRepository.class);
+    LocalDate today = LocalDate.now();
+    List<Long> cropIds = new ArrayList<>();
+    int crops = settings.farms() * settings.cropsPerFarm();
+    for (int start = 0; start < crops; start += CHUNK_SIZE) {
+      int end = Math.min(start + CHUNK_SIZE, crops);
+      int first = start;
+      cropIds.addAll(transactionTemplate.execute(status -> {
+        List<Crop> chunk = new ArrayList<>(end - first);
+        for (int i = first; i < end; i++) {
+          Farm farm = farmRepository.getReferenceById(farmIds.get(i % farmIds.size()));
+          chunk.add(new Crop(null, farm, "Plantação " + i % 100, 1.0 + random.nextInt(50),
+              today.minusDays(random.nextInt(365)), today.plusDays(random.nextInt(180))));
+        }
+        return cropRepository.saveAll(chunk).stream().map(Crop::getId).toList();
+      }));
+    }
+
+    FertilizerRepository fertilizerRepository = context.getBean(FertilizerRepository.class);
+    List<Fertilizer> fertilizers = new ArrayList<>();
+    for (int i = 0; i < settings.fertilizers(); i++) {
+      fertilizers.add(new Fertilizer(null, "Fertilizante " + i, "Marca " + i % 10,
+          "Composição " + i));
+    }
+    List<Long> fertilizerIds = fertilizerRepository.saveAll(fertilizers).stream()
+        .map(Fertilizer::getId)
+        .toList();
+
+    CropService cropService = context.getBean(CropService.class);
+    for (int start = 0; start < settings.associations(); start += CHUNK_SIZE) {
+      int end = Math.min(start + CHUNK_SIZE, settings.associations());
+      List<CropFertilizerPairDto> pairs = new ArrayList<>(end - start);
+      for (int i = start; i < end; i++) {
+        pairs.add(new CropFertilizerPairDto(cropIds.get(random.nextInt(cropIds.size())),
+            fertilizerIds.get(random.nextInt(fertilizerIds.size()))));
+      }
+      cropService.associateAll(pairs);
+    }
+
+    context.getBean(RollupService.class).rebuild();
+
+    PersonService personService = context.getBean(PersonService.class);
+    List<String> usernames = new ArrayList<>();
+    for (int i = 0; i < settings.users(); i++) {
+      String username = "loadtest-" + i;
+      personService.create(new Person(null, username, PASSWORD, Role.ADMIN));
+      usernames.add(username);
+    }
+
+    return new Dataset(farmIds, cropIds, fertilizerIds, usernames, PASSWORD);
+  }
+}
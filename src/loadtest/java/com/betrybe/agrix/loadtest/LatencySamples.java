@@ -0,0 +1,76 @@
+package com.betrybe.agrix.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * The latencies of one endpoint recorded by one worker, in nanoseconds. Each worker keeps
+ * its own samples, so recording needs no synchronization; the samples of the workers are
+ * merged once the run ends. Every latency is kept, so percentiles are exact.
+ */
+public class LatencySamples {
+
+  private long[] latencies = new long[1024];
+
+  private int size;
+
+  private long errors;
+
+  /**
+   * Records the latency of a request.
+   *
+   * @param nanos   The time from sending the request to reading the whole response.
+   * @param success Whether the response had a 2xx status.
+   */
+  public void record(long nanos, boolean success) {
+    if (size == latencies.length) {
+      latencies = Arrays.copyOf(latencies, size * 2);
+    }
+    latencies[size++] = nanos;
+    if (!success) {
+      errors++;
+    }
+  }
+
+  /**
+   * Adds the samples of another worker to these.
+   *
+   * @param other The samples to add.
+   */
+  public void merge(LatencySamples other) {
+    if (size + other.size > latencies.length) {
+      latencies = Arrays.copyOf(latencies, size + other.size);
+    }
+    System.arraycopy(other.latencies, 0, latencies, size, other.size);
+    size += other.size;
+    errors += other.errors;
+  }
+
+  /**
+   * Summarizes the samples.
+   *
+   * @param seconds The measured duration, used for the throughput.
+   * @return The statistics of the endpoint, with latencies in milliseconds.
+   */
+  public LoadReport.EndpointStats summarize(double seconds) {
+    long[] sorted = Arrays.copyOf(latencies, size);
+    Arrays.sort(sorted);
+    return new LoadReport.EndpointStats(
+        size,
+        errors,
+        size / seconds,
+        percentile(sorted, 50),
+        percentile(sorted, 95),
+        percentile(sorted, 99),
+        percentile(sorted, 99.9),
+        size == 0 ? 0 : sorted[size - 1] / 1_000_000.0
+    );
+  }
+
+  private static double percentile(long[] sorted, double percentile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+    return sorted[Math.max(rank, 1) - 1] / 1_000_000.0;
+  }
+}
@@ -0,0 +1,106 @@
+package com.betrybe.agrix.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcome of a load test run, written as JSON. A report kept as the baseline is what
+ * later runs are compared against.
+ *
+ * @param farms           The number of farms seeded.
+ * @param crops           The number of crops seeded.
+ * @param fertilizers     The number of fertilizers seeded.
+ * @param associations    The number of associations seeded.
+ * @param threads         The threads requests ran on: platform or virtual.
+ * @param concurrency     The number of workers.
+ * @param durationSeconds The measured duration.
+ * @param endpoints       The statistics of each endpoint.
+ */
+public record LoadReport(
+    int farms,
+    int crops,
+    int fertilizers,
+    int associations,
+    String threads,
+    int concurrency,
+    double durationSeconds,
+    Map<String, EndpointStats> endpoints
+) {
+
+  /**
+   * The statistics of one endpoint; latencies are in milliseconds.
+   *
+   * @param requests   The number of requests sent.
+   * @param errors     The number of responses without a 2xx status.
+   * @param throughput The requests per second.
+   * @param p50        The median latency.
+   * @param p95        The 95th percentile latency.
+   * @param p99        The 99th percentile latency.
+   * @param p999       The 99.9th percentile latency.
+   * @param max        The largest latency.
+   */
+  public record EndpointStats(
+      long requests,
+      long errors,
+      double throughput,
+      double p50,
+      double p95,
+      double p99,
+      double p999,
+      double max
+  ) {}
+
+  /**
+   * Compares the run with a baseline. An endpoint regresses when its p99 grew, or its
+   * throughput dropped, by more than the tolerance, or when its error rate grew.
+   *
+   * @param baseline  The report of the baseline run.
+   * @param tolerance The fraction of change allowed.
+   * @return A description of each regression, empty when there is none.
+   */
+  public List<String> regressionsAgainst(LoadReport baseline, double tolerance) {
+    List<String> regressions = new ArrayList<>();
+    baseline.endpoints().forEach((endpoint, before) -> {
+      EndpointStats after = endpoints.get(endpoint);
+      if (after == null) {
+        regressions.add(endpoint + ": não executado nesta rodada");
+        return;
+      }
+      if (after.p99() > before.p99() * (1 + tolerance)) {
+        regressions.add(String.format("%s: p99 %.2f ms, baseline %.2f ms",
+            endpoint, after.p99(), before.p99()));
+      }
+      if (after.throughput() < before.throughput() * (1 - tolerance)) {
+        regressions.add(String.format("%s: %.1f req/s, baseline %.1f req/s",
+            endpoint, after.throughput(), before.throughput()));
+      }
+      if (errorRate(after) > errorRate(before)) {
+        regressions.add(String.format("%s: %d erros em %d requisições, baseline %d em %d",
+            endpoint, after.errors(), after.requests(), before.errors(), before.requests()));
+      }
+    });
+    return regressions;
+  }
+
+  private static double errorRate(EndpointStats stats) {
+    return stats.requests() == 0 ? 0 : (double) stats.errors() / stats.requests();
+  }
+
+  /**
+   * Formats the statistics of each endpoint as a table.
+   *
+   * @return The table, one line per endpoint.
+   */
+  public String toTable() {
+    StringBuilder table = new StringBuilder(String.format(
+        "%-50s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+        "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms",
+        "max ms"));
+    endpoints.forEach((endpoint, stats) -> table.append(String.format(
+        "%-50s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+        endpoint, stats.requests(), stats.errors(), stats.throughput(), stats.p50(),
+        stats.p95(), stats.p99(), stats.p999(), stats.max())));
+    return table.toString();
+  }
+}
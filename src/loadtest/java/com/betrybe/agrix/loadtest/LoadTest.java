@@ -0,0 +1,205 @@
+package com.betrybe.agrix.loadtest;
+
+import com.betrybe.agrix.AgrixApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the application on a random port against a seeded database, sends a weighted mix
+ * of requests from a fixed number of workers, and reports the throughput and the p50, p95,
+ * p99 and p99.9 latencies of each endpoint. The report is compared with the baseline, when
+ * there is one, and the run fails when an endpoint regressed.
+ *
+ * <p>Each worker sends its next request as soon as the previous one is answered, so the
+ * latencies are those seen at the throughput the application sustains for that
+ * concurrency.</p>
+ */
+public class LoadTest {
+
+  private final LoadTestSettings settings;
+
+  private final HttpClient httpClient = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_1_1)
+      .build();
+
+  private final ObjectMapper objectMapper = new ObjectMapper()
+      .enable(SerializationFeature.INDENT_OUTPUT);
+
+  private final String baseUrl;
+
+  private final Dataset dataset;
+
+  private volatile boolean measuring;
+
+  private volatile boolean running = true;
+
+  LoadTest(LoadTestSettings settings, String baseUrl, Dataset dataset) {
+    this.settings = settings;
+    this.baseUrl = baseUrl;
+    this.dataset = dataset;
+  }
+
+  /**
+   * Runs the load test.
+   *
+   * @param args Unused; the settings are read from loadtest.* system properties.
+   * @throws Exception If the application cannot start or the report cannot be written.
+   */
+  public static void main(String[] args) throws Exception {
+    LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+    int exitCode;
+    // Passed as arguments, which take precedence over application.properties and the
+    // profile files, e.g. over spring.profiles.active=dev and spring.jpa.show-sql=true
+    try (ConfigurableApplicationContext context =
+        new SpringApplicationBuilder(AgrixApplication.class)
+            .run("--spring.profiles.active=" + settings.profile(), "--server.port=0",
+                "--spring.jpa.show-sql=false", "--logging.level.root=WARN",
+                "--agrix.threads.virtual.enabled=" + settings.virtualThreads())) {
+      Dataset dataset = new DatasetSeeder(context).seed(settings);
+      String baseUrl = "http://localhost:"
+          + context.getEnvironment().getProperty("local.server.port");
+      exitCode = new LoadTest(settings, baseUrl, dataset).run();
+    }
+    System.exit(exitCode);
+  }
+
+  int run() throws InterruptedException, IOException {
+    List<Worker> workers = new ArrayList<>();
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < settings.concurrency(); i++) {
+      Worker worker = new Worker(dataset.usernames().get(i % dataset.usernames().size()));
+      Thread thread = new Thread(worker, "loadtest-" + i);
+      thread.start();
+      workers.add(worker);
+      threads.add(thread);
+    }
+
+    Thread.sleep(settings.warmup().toMillis());
+    measuring = true;
+    long start = System.nanoTime();
+    Thread.sleep(settings.duration().toMillis());
+    measuring = false;
+    double seconds = (System.nanoTime() - start) / 1e9;
+    running = false;
+    for (Thread thread : threads) {
+      thread.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    Map<Scenario, LatencySamples> merged = new EnumMap<>(Scenario.class);
+    for (Worker worker : workers) {
+      worker.samples.forEach((scenario, samples) ->
+          merged.computeIfAbsent(scenario, key -> new LatencySamples()).merge(samples));
+    }
+    Map<String, LoadReport.EndpointStats> endpoints = new LinkedHashMap<>();
+    merged.forEach((scenario, samples) ->
+        endpoints.put(scenario.getEndpoint(), samples.summarize(seconds)));
+    LoadReport report = new LoadReport(settings.farms(), dataset.cropIds().size(),
+        settings.fertilizers(), settings.associations(),
+        settings.virtualThreads() ? "virtual" : "platform", settings.concurrency(), seconds,
+        endpoints);
+
+    System.out.println("Threads " + report.threads() + ":");
+    System.out.print(report.toTable());
+    Files.createDirectories(settings.report().toAbsolutePath().getParent());
+    objectMapper.writeValue(settings.report().toFile(), report);
+    System.out.println("Relatório: " + settings.report());
+
+    if (settings.updateBaseline()) {
+      objectMapper.writeValue(settings.baseline().toFile(), report);
+      System.out.println("Baseline atualizado: " + settings.baseline());
+      return 0;
+    }
+    if (!Files.exists(settings.baseline())) {
+      System.out.println("Sem baseline em " + settings.baseline()
+          + "; use -Dloadtest.update-baseline=true para gravar este relatório como baseline.");
+      return 0;
+    }
+    LoadReport baseline = objectMapper.readValue(settings.baseline().toFile(), LoadReport.class);
+    System.out.println("Baseline com threads " + baseline.threads() + ":");
+    System.out.print(baseline.toTable());
+    List<String> regressions = report.regressionsAgainst(baseline, settings.tolerance());
+    regressions.forEach(regression -> System.out.println("Regressão: " + regression));
+    return regressions.isEmpty() ? 0 : 1;
+  }
+
+  private Scenario pickScenario() {
+    int total = settings.mix().values().stream().mapToInt(Integer::intValue).sum();
+    int pick = ThreadLocalRandom.current().nextInt(total);
+    for (Map.Entry<Scenario, Integer> entry : settings.mix().entrySet()) {
+      pick -= entry.getValue();
+      if (pick < 0) {
+        return entry.getKey();
+      }
+    }
+    throw new IllegalStateException();
+  }
+
+  private class Worker implements Runnable {
+
+    private final String username;
+
+    private final Map<Scenario, LatencySamples> samples = new EnumMap<>(Scenario.class);
+
+    private String token;
+
+    Worker(String username) {
+      this.username = username;
+    }
+
+    @Override
+    public void run() {
+      try {
+        while (running) {
+          if (token == null) {
+            send(Scenario.LOGIN, false);
+          }
+          send(pickScenario(), measuring);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    /**
+     * Sends one request of the scenario. A request that fails without a response, such as
+     * a refused connection, is recorded as an error.
+     */
+    private void send(Scenario scenario, boolean record) throws InterruptedException {
+      HttpRequest.Builder request = scenario.request(baseUrl, dataset, username);
+      if (scenario != Scenario.LOGIN) {
+        request.header("Authorization", "Bearer " + token);
+      }
+      long start = System.nanoTime();
+      boolean success;
+      try {
+        HttpResponse<byte[]> response =
+            httpClient.send(request.build(), BodyHandlers.ofByteArray());
+        success = response.statusCode() / 100 == 2;
+        if (scenario == Scenario.LOGIN && success) {
+          token = objectMapper.readTree(response.body()).get("token").asText();
+        }
+      } catch (IOException e) {
+        success = false;
+      }
+      long nanos = System.nanoTime() - start;
+      if (record) {
+        samples.computeIfAbsent(scenario, key -> new LatencySamples()).record(nanos, success);
+      }
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.betrybe.agrix.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The settings of a load test run, read from loadtest.* system properties, which the
+ * loadtest Maven profile passes on from the command line.
+ *
+ * @param profile             The Spring profile the application runs with; test uses H2.
+ * @param farms               The number of farms seeded.
+ * @param cropsPerFarm        The number of crops seeded per farm.
+ * @param fertilizers         The number of fertilizers seeded.
+ * @param associations        The number of crop and fertilizer associations seeded.
+ * @param users               The number of users seeded; each worker logs in as one of them.
+ * @param concurrency         The number of workers sending requests in a loop.
+ * @param warmup              How long requests are sent before measuring.
+ * @param duration            How long requests are measured.
+ * @param mix                 The relative weight of each scenario.
+ * @param report              The file the report of the run is written to.
+ * @param baseline            The report the run is compared against.
+ * @param tolerance           The fraction by which p99 may grow, or throughput drop, against
+ *                            the baseline before it counts as a regression.
+ * @param updateBaseline      Whether the report of the run replaces the baseline.
+ * @param virtualThreads      Whether the application runs each request on a virtual thread.
+ */
+public record LoadTestSettings(
+    String profile,
+    int farms,
+    int cropsPerFarm,
+    int fertilizers,
+    int associations,
+    int users,
+    int concurrency,
+    Duration warmup,
+    Duration duration,
+    Map<Scenario, Integer> mix,
+    Path report,
+    Path baseline,
+    double tolerance,
+    boolean updateBaseline,
+    boolean virtualThreads
+) {
+
+  /**
+   * Reads the settings from the system properties, with defaults for the ones not set.
+   *
+   * @return The settings of the run.
+   */
+  public static LoadTestSettings fromSystemProperties() {
+    return new LoadTestSettings(
+        System.getProperty("loadtest.profile", "test"),
+        Integer.getInteger("loadtest.farms", 20),
+        Integer.getInteger("loadtest.crops-per-farm", 200),
+        Integer.getInteger("loadtest.fertilizers", 50),
+        Integer.getInteger("loadtest.associations", 2000),
+        Integer.getInteger("loadtest.users", 4),
+        Integer.getInteger("loadtest.concurrency", 16),
+        Duration.ofSeconds(Integer.getInteger("loadtest.warmup-seconds", 10)),
+        Duration.ofSeconds(Integer.getInteger("loadtest.duration-seconds", 60)),
+        parseMix(System.getProperty("loadtest.mix", "login:5,farms:35,search:40,associate:20")),
+        Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json")),
+        Path.of(System.getProperty("loadtest.baseline", "src/loadtest/resources/baseline.json")),
+        Double.parseDouble(System.getProperty("loadtest.tolerance", "0.2")),
+        Boolean.getBoolean("loadtest.update-baseline"),
+        Boolean.getBoolean("loadtest.virtual-threads")
+    );
+  }
+
+  /**
+   * Parses a mix written as "scenario:weight" pairs separated by commas, such as
+   * "login:5,farms:35,search:40,associate:20". Scenarios left out are not run.
+   *
+   * @param mix The mix to parse.
+   * @return The weight of each scenario.
+   */
+  static Map<Scenario, Integer> parseMix(String mix) {
+    Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+    for (String entry : mix.split(",")) {
+      String[] parts = entry.split(":");
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("Mix inválido: " + mix);
+      }
+      Scenario scenario = Scenario.valueOf(parts[0].trim().toUpperCase(Locale.ROOT));
+      int weight = Integer.parseInt(parts[1].trim());
+      if (weight > 0) {
+        weights.put(scenario, weight);
+      }
+    }
+    if (weights.isEmpty()) {
+      throw new IllegalArgumentException("Mix inválido: " + mix);
+    }
+    return weights;
+  }
+}
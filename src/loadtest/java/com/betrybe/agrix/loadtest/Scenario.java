@@ -0,0 +1,87 @@
+package com.betrybe.agrix.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The requests of the load test, each reported as one endpoint.
+ */
+public enum Scenario {
+
+  /**
+   * Logs in as the worker's user; the token returned replaces the worker's token.
+   */
+  LOGIN("POST /auth/login") {
+    @Override
+    HttpRequest.Builder request(String baseUrl, Dataset dataset, String username) {
+      String body = String.format("{\"username\":\"%s\",\"password\":\"%s\"}",
+          username, dataset.password());
+      return HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+          .header("Content-Type", "application/json")
+          .POST(BodyPublishers.ofString(body));
+    }
+  },
+
+  /**
+   * Lists the first page of farms.
+   */
+  FARMS("GET /farms") {
+    @Override
+    HttpRequest.Builder request(String baseUrl, Dataset dataset, String username) {
+      return HttpRequest.newBuilder(URI.create(baseUrl + "/farms?size=20")).GET();
+    }
+  },
+
+  /**
+   * Searches the crops of a random farm harvested in a random 30-day window.
+   */
+  SEARCH("GET /crops/search") {
+    @Override
+    HttpRequest.Builder request(String baseUrl, Dataset dataset, String username) {
+      LocalDate start = LocalDate.now().plusDays(ThreadLocalRandom.current().nextInt(150));
+      return HttpRequest.newBuilder(URI.create(baseUrl + "/crops/search?farmId="
+          + dataset.randomFarmId() + "&start=" + start + "&end=" + start.plusDays(30)
+          + "&size=50")).GET();
+    }
+  },
+
+  /**
+   * Associates a random fertilizer with a random crop.
+   */
+  ASSOCIATE("POST /crops/{cropId}/fertilizers/{fertilizerId}") {
+    @Override
+    HttpRequest.Builder request(String baseUrl, Dataset dataset, String username) {
+      return HttpRequest.newBuilder(URI.create(baseUrl + "/crops/" + dataset.randomCropId()
+          + "/fertilizers/" + dataset.randomFertilizerId()))
+          .POST(BodyPublishers.noBody());
+    }
+  };
+
+  private final String endpoint;
+
+  Scenario(String endpoint) {
+    this.endpoint = endpoint;
+  }
+
+  /**
+   * Get the endpoint the scenario is reported as.
+   *
+   * @return The method and path template of the request.
+   */
+  public String getEndpoint() {
+    return endpoint;
+  }
+
+  /**
+   * Builds the request of the scenario, without the authorization header.
+   *
+   * @param baseUrl  The URL of the application.
+   * @param dataset  The seeded data.
+   * @param username The user of the worker.
+   * @return The request builder.
+   */
+  abstract HttpRequest.Builder request(String baseUrl, Dataset dataset, String username);
+}
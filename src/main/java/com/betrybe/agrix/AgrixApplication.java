@@ -3,7 +3,6 @@ package com.betrybe.agrix;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
-import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 /**
@@ -12,7 +11,6 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 @SpringBootApplication
 @EntityScan("com.betrybe.agrix.models.entity")
 @EnableJpaRepositories("com.betrybe.agrix.models.repository")
-@ComponentScan("com.betrybe.agrix")
 public class AgrixApplication {
 
   public static void main(String[] args) {
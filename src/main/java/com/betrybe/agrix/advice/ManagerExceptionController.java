@@ -3,8 +3,11 @@ package com.betrybe.agrix.advice;
 import com.betrybe.agrix.exception.ErrorRequestException;
 import com.betrybe.agrix.exception.ForbiddenException;
 import com.betrybe.agrix.exception.NotFoundException;
+import com.betrybe.agrix.exception.ServiceUnavailableException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
@@ -65,6 +68,36 @@ public class ManagerExceptionController {
         .body(exception.getMessage());
   }
 
+  /**
+   * Exception handler method for handling accessDeniedException, thrown by
+   * {@code @PreAuthorize} when the role does not match.
+   *
+   * @param exception The AccessDeniedException that occurred.
+   * @return A ResponseEntity with HTTP status code.
+   */
+  @ExceptionHandler(AccessDeniedException.class)
+  public ResponseEntity<String> handleAccessDeniedException(
+      AccessDeniedException exception) {
+    return ResponseEntity
+        .status(HttpStatus.FORBIDDEN)
+        .body(exception.getMessage());
+  }
+
+  /**
+   * Exception handler method for handling serviceUnavailableException.
+   *
+   * @param exception The ServiceUnavailableException that occurred.
+   * @return A ResponseEntity with HTTP status code.
+   */
+  @ExceptionHandler(ServiceUnavailableException.class)
+  public ResponseEntity<String> handleServiceUnavailableException(
+      ServiceUnavailableException exception) {
+    return ResponseEntity
+        .status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(exception.getMessage());
+  }
+
   /**
    * Exception handler method for handling Exception.
    *
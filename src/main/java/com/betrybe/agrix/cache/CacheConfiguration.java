@@ -0,0 +1,55 @@
+package com.betrybe.agrix.cache;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * Configuration of the in-process caches of reference data.
+ * The caches are Caffeine caches (W-TinyLFU eviction, bounded size and TTL, statistics
+ * recorded) configured by the spring.cache properties. Writes to the caches are deferred
+ * until the surrounding transaction commits, so a rolled back change never reaches them.
+ *
+ * <p>The caches hold immutable DTOs, never entities: a cached value is shared by every
+ * thread and outlives the persistence context that loaded it.</p>
+ *
+ * @since 2026-10-18
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfiguration {
+
+  /**
+   * The cache of farms, keyed by id.
+   */
+  public static final String FARMS = "farms";
+
+  /**
+   * The cache of fertilizers, keyed by id.
+   */
+  public static final String FERTILIZERS = "fertilizers";
+
+  /**
+   * The Caffeine caches configured by spring.cache, made transaction aware.
+   *
+   * @param cacheProperties The spring.cache properties.
+   * @return The cache manager.
+   */
+  @Bean
+  public CacheManager cacheManager(CacheProperties cacheProperties) {
+    CaffeineCacheManager caffeine = new CaffeineCacheManager();
+    String spec = cacheProperties.getCaffeine().getSpec();
+    if (StringUtils.hasText(spec)) {
+      caffeine.setCacheSpecification(spec);
+    }
+    caffeine.setCacheNames(cacheProperties.getCacheNames());
+    return new TransactionAwareCacheManagerProxy(caffeine);
+  }
+}
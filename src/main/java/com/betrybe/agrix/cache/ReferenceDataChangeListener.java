@@ -0,0 +1,62 @@
+package com.betrybe.agrix.cache;
+
+import com.betrybe.agrix.models.entity.Farm;
+import com.betrybe.agrix.models.entity.Fertilizer;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that evicts a farm or fertilizer from its cache whenever it is
+ * created, updated or removed, whichever repository method or service made the change.
+ *
+ * <p>Bulk JPQL updates and deletes, such as deleteAllInBatch, skip entity callbacks and
+ * therefore leave the caches to expire on their own. Contexts without a cache manager, such
+ * as the JPA test slices, have nothing to evict.</p>
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class ReferenceDataChangeListener {
+
+  private final ObjectProvider<CacheManager> cacheManager;
+
+  /**
+   * Constructs a new ReferenceDataChangeListener with the caches to invalidate.
+   *
+   * @param cacheManager The application cache manager, when there is one.
+   */
+  @Autowired
+  public ReferenceDataChangeListener(ObjectProvider<CacheManager> cacheManager) {
+    this.cacheManager = cacheManager;
+  }
+
+  /**
+   * Evicts the changed entity from its cache.
+   *
+   * @param entity The farm or fertilizer that was created, updated or removed.
+   */
+  @PostPersist
+  @PostUpdate
+  @PostRemove
+  public void onReferenceDataChange(Object entity) {
+    if (entity instanceof Farm farm) {
+      evict(CacheConfiguration.FARMS, farm.getId());
+    } else if (entity instanceof Fertilizer fertilizer) {
+      evict(CacheConfiguration.FERTILIZERS, fertilizer.getId());
+    }
+  }
+
+  private void evict(String cacheName, Long id) {
+    CacheManager manager = cacheManager.getIfAvailable();
+    Cache cache = manager == null ? null : manager.getCache(cacheName);
+    if (cache != null && id != null) {
+      cache.evict(id);
+    }
+  }
+}
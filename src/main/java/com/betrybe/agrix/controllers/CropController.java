@@ -1,16 +1,23 @@
 package com.betrybe.agrix.controllers;
 
+import com.betrybe.agrix.controllers.dto.BulkAssociationDto;
+import com.betrybe.agrix.controllers.dto.BulkAssociationResultDto;
 import com.betrybe.agrix.controllers.dto.CropCreationDto;
 import com.betrybe.agrix.controllers.dto.CropDto;
+import com.betrybe.agrix.controllers.dto.CropSearchDto;
 import com.betrybe.agrix.models.entity.Crop;
 import com.betrybe.agrix.services.CropService;
+import com.betrybe.agrix.util.CursorPagination;
 import com.betrybe.agrix.util.DtoConverter;
+import com.betrybe.agrix.util.NdjsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
-import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,6 +27,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * The CropController class provides a REST API for managing crops.
@@ -34,19 +42,39 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping
 public class CropController {
 
+  /**
+   * The response header carrying the total number of crops matching a search.
+   */
+  public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
   /**
    * The crop service used for managing crop-related operations.
    */
   private final CropService cropService;
 
+  /**
+   * The keyset pagination helper.
+   */
+  private final CursorPagination cursorPagination;
+
+  /**
+   * The mapper used to write streamed crops.
+   */
+  private final ObjectMapper objectMapper;
+
   /**
    * Constructs a new CropController with the given crop service.
    *
-   * @param cropService The crop service to be injected into the controller.
+   * @param cropService      The crop service to be injected into the controller.
+   * @param cursorPagination The keyset pagination helper.
+   * @param objectMapper     The mapper used to write streamed crops.
    */
   @Autowired
-  public CropController(CropService cropService) {
+  public CropController(CropService cropService, CursorPagination cursorPagination,
+      ObjectMapper objectMapper) {
     this.cropService = cropService;
+    this.cursorPagination = cursorPagination;
+    this.objectMapper = objectMapper;
   }
 
   /**
@@ -69,41 +97,57 @@ public class CropController {
   }
 
   /**
-   * Retrieves a list of crops associated with a specific farm.
+   * Retrieves a page of crops associated with a specific farm.
    *
    * @param farmId The unique identifier of the farm.
+   * @param page   The zero-based page index.
+   * @param size   The number of crops per page.
    * @return A ResponseEntity containing a list of CropNewDto objects associated with the farm.
    */
   @GetMapping("farms/{farmId}/crops")
-  public ResponseEntity<List<CropDto>> findByFarmId(@PathVariable Long farmId) {
-    List<Crop> listFarmId = cropService.findByFarmId(farmId);
-
-    DtoConverter dtoConverter = new DtoConverter();
-
-    List<CropDto> cropDtos = listFarmId.stream()
-        .map(crop -> dtoConverter.cropToDto(crop))
-        .collect(Collectors.toList());
+  public ResponseEntity<List<CropDto>> findByFarmId(
+      @PathVariable Long farmId,
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "100") int size
+  ) {
+    Slice<CropDto> listFarmId = cropService.findByFarmId(farmId, page, size);
 
-    return ResponseEntity.ok(cropDtos);
+    return ResponseEntity.ok(listFarmId.getContent());
   }
 
   /**
-   * Retrieves a list of all crops in the database.
+   * Retrieves a page of crops in the database, ordered by id.
    *
-   * @return A ResponseEntity containing a list of CropNewDto objects for all crops.
+   * @param cursor The cursor returned with the previous page, or null for the first page.
+   * @param size   The number of crops per page.
+   * @return A ResponseEntity containing a list of CropNewDto objects and, when there may be
+   *     more crops, the cursor of the next page in the X-Next-Cursor header.
    */
   @GetMapping("/crops")
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
-  public ResponseEntity<List<CropDto>> findByFarmId() {
-    List<Crop> listFarmId = cropService.allcrop();
-
-    DtoConverter dtoConverter = new DtoConverter();
+  public ResponseEntity<List<CropDto>> findByFarmId(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size
+  ) {
+    int pageSize = cursorPagination.resolveSize(size);
+    List<CropDto> cropDtos = cropService.getCropPage(cursorPagination.decode(cursor), pageSize);
 
-    List<CropDto> cropDtos = listFarmId.stream()
-        .map(crop -> dtoConverter.cropToDto(crop))
-        .collect(Collectors.toList());
+    return cursorPagination.toResponse(cropDtos, pageSize, CropDto::id);
+  }
 
-    return ResponseEntity.ok(cropDtos);
+  /**
+   * Streams all crops as newline-delimited JSON, written as they are read from the database.
+   *
+   * @return A ResponseEntity streaming one CropNewDto per line.
+   */
+  @GetMapping(value = "/crops", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+  public ResponseEntity<StreamingResponseBody> streamAllCrop() {
+    StreamingResponseBody body = outputStream -> {
+      NdjsonWriter writer = new NdjsonWriter(objectMapper, outputStream);
+      cropService.streamAllCrop(writer::write);
+    };
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
   }
 
   /**
@@ -114,35 +158,34 @@ public class CropController {
    */
   @GetMapping("crops/{id}")
   public ResponseEntity<CropDto> findByCropId(@PathVariable Long id) {
-    Crop cropId = cropService.getByIdCrop(id);
-
-    DtoConverter dtoConverter = new DtoConverter();
-    CropDto newCropDto = dtoConverter.cropToDto(cropId);
+    CropDto crop = cropService.getByIdCrop(id);
 
-    return ResponseEntity.ok(newCropDto);
+    return ResponseEntity.ok(crop);
   }
 
   /**
-   * Get all crops in a specified time range.
+   * Searches crops by harvest window and, optionally, planting window, farm, name prefix and
+   * planted area.
    *
-   * @param startDate the lower limit.
-   * @param endDate the upper limit.
-   * @return A list of crops.
+   * @param filter The search filters; start and end bound the harvest date.
+   * @param page   The zero-based page index.
+   * @param size   The number of crops per page.
+   * @param sort   The order of the results, such as "harvestDate,desc".
+   * @return A ResponseEntity with the crops of the page and the total number of matching
+   *     crops in the X-Total-Count header.
    */
   @GetMapping("crops/search")
-  public ResponseEntity<List<CropDto>> serchCropByHarvestDate(
-      @RequestParam("start") LocalDate startDate,
-      @RequestParam("end") LocalDate endDate
+  public ResponseEntity<List<CropDto>> searchCrops(
+      CropSearchDto filter,
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "100") int size,
+      @RequestParam(defaultValue = "harvestDate,asc") String sort
   ) {
-    List<Crop> listFarmId = cropService.serchCropByHarvestDate(startDate, endDate);
+    Page<CropDto> result = cropService.searchCrops(filter, page, size, sort);
 
-    DtoConverter dtoConverter = new DtoConverter();
-
-    List<CropDto> cropDtos = listFarmId.stream()
-        .map(crop -> dtoConverter.cropToDto(crop))
-        .collect(Collectors.toList());
-
-    return ResponseEntity.ok(cropDtos);
+    return ResponseEntity.ok()
+        .header(TOTAL_COUNT_HEADER, String.valueOf(result.getTotalElements()))
+        .body(result.getContent());
   }
 
   /**
@@ -162,4 +205,18 @@ public class CropController {
     return ResponseEntity.status(HttpStatus.CREATED).body(associatedMessage);
   }
 
-}
\ No newline at end of file
+  /**
+   * Associates many crops and fertilizers in one request.
+   *
+   * @param bulkAssociationDto The crop and fertilizer pairs to associate.
+   * @return A ResponseEntity with the outcome of each pair and an HTTP status code of 200 (OK).
+   */
+  @PostMapping("crops/fertilizers")
+  public ResponseEntity<BulkAssociationResultDto> associateAll(
+      @RequestBody @Valid BulkAssociationDto bulkAssociationDto
+  ) {
+    BulkAssociationResultDto result = cropService.associateAll(
+        bulkAssociationDto.associations());
+    return ResponseEntity.ok(result);
+  }
+}
@@ -0,0 +1,179 @@
+package com.betrybe.agrix.controllers;
+
+import com.betrybe.agrix.controllers.dto.CacheStatsDto;
+import com.betrybe.agrix.controllers.dto.PasswordHashingStatsDto;
+import com.betrybe.agrix.controllers.dto.PoolStatsDto;
+import com.betrybe.agrix.controllers.dto.ReplicaStatusDto;
+import com.betrybe.agrix.controllers.dto.RollupCheckDto;
+import com.betrybe.agrix.datasource.PoolMetrics;
+import com.betrybe.agrix.datasource.ReplicaRoutingDataSource;
+import com.betrybe.agrix.security.PasswordHashingService;
+import com.betrybe.agrix.security.TokenCache;
+import com.betrybe.agrix.services.RollupService;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * The DiagnosticsController class exposes runtime statistics of the application internals,
+ * such as in-process caches, to administrators, along with maintenance of the rollups.
+ *
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping(value = "diagnostics")
+@PreAuthorize("hasRole('ADMIN')")
+public class DiagnosticsController {
+
+  private final TokenCache tokenCache;
+
+  private final PasswordHashingService passwordHashingService;
+
+  private final CacheManager cacheManager;
+
+  private final RollupService rollupService;
+
+  private final ObjectProvider<ReplicaRoutingDataSource> replicaRouting;
+
+  private final PoolMetrics poolMetrics;
+
+  /**
+   * Constructs a new DiagnosticsController.
+   *
+   * @param tokenCache             The cache of verified tokens.
+   * @param passwordHashingService The password hashing service.
+   * @param cacheManager           The manager of the reference data caches.
+   * @param rollupService          The service maintaining the rollups.
+   * @param replicaRouting         The replica routing, when replicas are configured.
+   * @param poolMetrics            The statistics of the connection pools.
+   */
+  @Autowired
+  public DiagnosticsController(TokenCache tokenCache,
+      PasswordHashingService passwordHashingService, CacheManager cacheManager,
+      RollupService rollupService, ObjectProvider<ReplicaRoutingDataSource> replicaRouting,
+      PoolMetrics poolMetrics) {
+    this.tokenCache = tokenCache;
+    this.passwordHashingService = passwordHashingService;
+    this.cacheManager = cacheManager;
+    this.rollupService = rollupService;
+    this.replicaRouting = replicaRouting;
+    this.poolMetrics = poolMetrics;
+  }
+
+  /**
+   * Get the hit, miss and eviction statistics of every in-process cache.
+   *
+   * @return A ResponseEntity with the statistics of each cache.
+   */
+  @GetMapping("/caches")
+  public ResponseEntity<List<CacheStatsDto>> getCacheStats() {
+    List<CacheStatsDto> stats = new ArrayList<>();
+    stats.add(CacheStatsDto.of("tokens", tokenCache.size(), tokenCache.stats()));
+
+    for (String name : cacheManager.getCacheNames()) {
+      Cache cache = cacheManager.getCache(name);
+      if (cache != null && cache.getNativeCache()
+          instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+        stats.add(CacheStatsDto.of(name, nativeCache.estimatedSize(), nativeCache.stats()));
+      }
+    }
+    return ResponseEntity.ok(stats);
+  }
+
+  /**
+   * Get the hit, miss and eviction statistics of the verified token cache.
+   *
+   * @return A ResponseEntity with the token cache statistics.
+   */
+  @GetMapping("/token-cache")
+  public ResponseEntity<CacheStatsDto> getTokenCacheStats() {
+    return ResponseEntity.ok(
+        CacheStatsDto.of("tokens", tokenCache.size(), tokenCache.stats()));
+  }
+
+  /**
+   * Drop the cached tokens of a person, forcing them to be verified again.
+   *
+   * @param username The username whose tokens are dropped.
+   * @return A ResponseEntity with an HTTP status code of 204 (NO CONTENT).
+   */
+  @DeleteMapping("/token-cache/{username}")
+  public ResponseEntity<Void> invalidateTokens(@PathVariable String username) {
+    tokenCache.invalidateUsername(username);
+    return ResponseEntity.noContent().build();
+  }
+
+  /**
+   * Get the saturation of the password hashing pool.
+   *
+   * @return A ResponseEntity with the password hashing statistics.
+   */
+  @GetMapping("/password-hashing")
+  public ResponseEntity<PasswordHashingStatsDto> getPasswordHashingStats() {
+    return ResponseEntity.ok(new PasswordHashingStatsDto(
+        passwordHashingService.getAlgorithm(),
+        passwordHashingService.getPoolSize(),
+        passwordHashingService.getActiveCount(),
+        passwordHashingService.getQueueDepth(),
+        passwordHashingService.getQueueCapacity(),
+        passwordHashingService.getCompletedCount(),
+        passwordHashingService.getRejectedCount()
+    ));
+  }
+
+  /**
+   * Get the routing state of every read replica.
+   *
+   * @return A ResponseEntity with the state of each replica, empty when none is configured.
+   */
+  @GetMapping("/replicas")
+  public ResponseEntity<List<ReplicaStatusDto>> getReplicaStatus() {
+    ReplicaRoutingDataSource routing = replicaRouting.getIfAvailable();
+    if (routing == null) {
+      return ResponseEntity.ok(List.of());
+    }
+    return ResponseEntity.ok(routing.getReplicas().stream().map(ReplicaStatusDto::of).toList());
+  }
+
+  /**
+   * Get the connections of every database pool and the time requests waited for them.
+   *
+   * @return A ResponseEntity with the statistics of each pool.
+   */
+  @GetMapping("/db-pool")
+  public ResponseEntity<List<PoolStatsDto>> getPoolStats() {
+    return ResponseEntity.ok(poolMetrics.snapshot());
+  }
+
+  /**
+   * Compare the rollups with totals recomputed from the crop and association tables.
+   *
+   * @return A ResponseEntity with the differences found, if any.
+   */
+  @GetMapping("/rollups/check")
+  public ResponseEntity<RollupCheckDto> checkRollups() {
+    return ResponseEntity.ok(rollupService.check());
+  }
+
+  /**
+   * Recompute the rollups from the crop and association tables.
+   *
+   * @return A ResponseEntity with the outcome of checking the rebuilt rollups.
+   */
+  @PostMapping("/rollups/rebuild")
+  public ResponseEntity<RollupCheckDto> rebuildRollups() {
+    return ResponseEntity.ok(rollupService.rebuild());
+  }
+}
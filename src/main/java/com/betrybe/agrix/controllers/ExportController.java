@@ -0,0 +1,122 @@
+package com.betrybe.agrix.controllers;
+
+import com.betrybe.agrix.controllers.dto.ExportFilterDto;
+import com.betrybe.agrix.exception.ErrorRequestException;
+import com.betrybe.agrix.services.ExportService;
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.function.BiConsumer;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * The ExportController class provides a REST API for downloading the crop and fertilizer
+ * datasets as CSV or NDJSON files, optionally gzip-compressed. The files are streamed to the
+ * client while they are read from the database.
+ *
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping(value = "exports")
+@PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+public class ExportController {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final ExportService exportService;
+
+  /**
+   * Constructs a new ExportController.
+   *
+   * @param exportService The export service.
+   */
+  @Autowired
+  public ExportController(ExportService exportService) {
+    this.exportService = exportService;
+  }
+
+  /**
+   * Downloads the crops, ordered by id.
+   *
+   * @param format The encoding of the file: csv or ndjson.
+   * @param gzip   Whether the file is gzip-compressed.
+   * @param filter The optional filters on farm, planting date and harvest date.
+   * @return A ResponseEntity streaming the file.
+   */
+  @GetMapping("/crops")
+  public ResponseEntity<StreamingResponseBody> exportCrops(
+      @RequestParam(defaultValue = "csv") String format,
+      @RequestParam(defaultValue = "false") boolean gzip,
+      ExportFilterDto filter
+  ) {
+    return export("crops", format, gzip,
+        (exportFormat, output) -> exportService.exportCrops(filter, exportFormat, output));
+  }
+
+  /**
+   * Downloads the fertilizers, ordered by id. The crop filters keep the fertilizers
+   * associated with at least one matching crop.
+   *
+   * @param format The encoding of the file: csv or ndjson.
+   * @param gzip   Whether the file is gzip-compressed.
+   * @param filter The optional filters on farm, planting date and harvest date.
+   * @return A ResponseEntity streaming the file.
+   */
+  @GetMapping("/fertilizers")
+  public ResponseEntity<StreamingResponseBody> exportFertilizers(
+      @RequestParam(defaultValue = "csv") String format,
+      @RequestParam(defaultValue = "false") boolean gzip,
+      ExportFilterDto filter
+  ) {
+    return export("fertilizers", format, gzip,
+        (exportFormat, output) -> exportService.exportFertilizers(filter, exportFormat, output));
+  }
+
+  private ResponseEntity<StreamingResponseBody> export(String name, String format,
+      boolean gzip, BiConsumer<ExportService.Format, OutputStream> writer) {
+    ExportService.Format exportFormat = parseFormat(format);
+    String extension = exportFormat == ExportService.Format.CSV ? ".csv" : ".ndjson";
+    MediaType contentType = exportFormat == ExportService.Format.CSV
+        ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+        : MediaType.APPLICATION_NDJSON;
+
+    StreamingResponseBody body = outputStream -> {
+      if (gzip) {
+        GZIPOutputStream compressed = new GZIPOutputStream(outputStream, BUFFER_SIZE);
+        writer.accept(exportFormat, compressed);
+        compressed.finish();
+      } else {
+        BufferedOutputStream buffered = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        writer.accept(exportFormat, buffered);
+        buffered.flush();
+      }
+    };
+
+    String filename = name + extension + (gzip ? ".gz" : "");
+    return ResponseEntity.ok()
+        .contentType(gzip ? MediaType.parseMediaType("application/gzip") : contentType)
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(filename).build().toString())
+        .body(body);
+  }
+
+  private static ExportService.Format parseFormat(String format) {
+    try {
+      return ExportService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new ErrorRequestException("Formato de exportação inválido!");
+    }
+  }
+}
@@ -4,11 +4,14 @@ import com.betrybe.agrix.controllers.dto.FarmDto;
 import com.betrybe.agrix.exception.ErrorRequestException;
 import com.betrybe.agrix.models.entity.Farm;
 import com.betrybe.agrix.services.FarmService;
+import com.betrybe.agrix.util.CursorPagination;
+import com.betrybe.agrix.util.NdjsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import java.util.List;
-import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,7 +19,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * The FarmController class provides a REST API for managing farms.
@@ -36,14 +41,29 @@ public class FarmController {
    */
   private final FarmService farmService;
 
+  /**
+   * The keyset pagination helper.
+   */
+  private final CursorPagination cursorPagination;
+
+  /**
+   * The mapper used to write streamed farms.
+   */
+  private final ObjectMapper objectMapper;
+
   /**
    * Constructs a new FarmController with the given farm service.
    *
-   * @param farmService The farm service.
+   * @param farmService      The farm service.
+   * @param cursorPagination The keyset pagination helper.
+   * @param objectMapper     The mapper used to write streamed farms.
    */
   @Autowired
-  public FarmController(FarmService farmService) {
+  public FarmController(FarmService farmService, CursorPagination cursorPagination,
+      ObjectMapper objectMapper) {
     this.farmService = farmService;
+    this.cursorPagination = cursorPagination;
+    this.objectMapper = objectMapper;
   }
 
   /**
@@ -64,15 +84,37 @@ public class FarmController {
   }
 
   /**
-   * Get all farms.
+   * Get a page of farms, ordered by id.
    *
-   * @return A list containing all farms.
+   * @param cursor The cursor returned with the previous page, or null for the first page.
+   * @param size   The number of farms per page.
+   * @return A ResponseEntity with the farms of the page and, when there may be more farms,
+   *     the cursor of the next page in the X-Next-Cursor header.
    */
   @GetMapping()
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
-  public List<Farm> getAllFarm() {
-    List<Farm> allFarms = farmService.getAllFarm();
-    return allFarms;
+  public ResponseEntity<List<Farm>> getAllFarm(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size
+  ) {
+    int pageSize = cursorPagination.resolveSize(size);
+    List<Farm> allFarms = farmService.getFarmPage(cursorPagination.decode(cursor), pageSize);
+    return cursorPagination.toResponse(allFarms, pageSize, Farm::getId);
+  }
+
+  /**
+   * Stream all farms as newline-delimited JSON, written as they are read from the database.
+   *
+   * @return A ResponseEntity streaming one farm per line.
+   */
+  @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
+  public ResponseEntity<StreamingResponseBody> streamAllFarm() {
+    StreamingResponseBody body = outputStream -> {
+      NdjsonWriter writer = new NdjsonWriter(objectMapper, outputStream);
+      farmService.streamAllFarm(writer::write);
+    };
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
   }
 
   /**
@@ -84,13 +126,7 @@ public class FarmController {
    */
   @GetMapping("/{id}")
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
-  public ResponseEntity<Farm> getFarmById(@PathVariable Long id) {
-    Optional<Farm> optionalFarm = farmService.getFarmById(id);
-
-    if (optionalFarm.isPresent()) {
-      return ResponseEntity.ok(optionalFarm.get());
-    } else {
-      return ResponseEntity.notFound().build();
-    }
+  public ResponseEntity<FarmDto> getFarmById(@PathVariable Long id) {
+    return ResponseEntity.ok(farmService.getFarmById(id));
   }
 }
\ No newline at end of file
@@ -4,12 +4,15 @@ import com.betrybe.agrix.controllers.dto.FertilizerDto;
 import com.betrybe.agrix.exception.ErrorRequestException;
 import com.betrybe.agrix.models.entity.Fertilizer;
 import com.betrybe.agrix.services.FertilizerService;
+import com.betrybe.agrix.util.CursorPagination;
 import com.betrybe.agrix.util.DtoConverter;
+import com.betrybe.agrix.util.NdjsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -18,7 +21,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * The FertilizerController class provides a REST API for managing fertilizers.
@@ -38,14 +43,29 @@ public class FertilizerController {
    */
   private final FertilizerService fertilizerService;
 
+  /**
+   * The keyset pagination helper.
+   */
+  private final CursorPagination cursorPagination;
+
+  /**
+   * The mapper used to write streamed fertilizers.
+   */
+  private final ObjectMapper objectMapper;
+
   /**
    * Constructs a new FertilizerController with the given fertilizer service.
    *
    * @param fertilizerService The fertilizer service to be injected into the controller.
+   * @param cursorPagination  The keyset pagination helper.
+   * @param objectMapper      The mapper used to write streamed fertilizers.
    */
   @Autowired
-  public FertilizerController(FertilizerService fertilizerService) {
+  public FertilizerController(FertilizerService fertilizerService,
+      CursorPagination cursorPagination, ObjectMapper objectMapper) {
     this.fertilizerService = fertilizerService;
+    this.cursorPagination = cursorPagination;
+    this.objectMapper = objectMapper;
   }
 
   /**
@@ -72,23 +92,41 @@ public class FertilizerController {
   }
 
   /**
-   * Creates a list of all fertilizers.
+   * Creates a page of fertilizers, ordered by id.
    *
-   * @return The list of FertilizerNewDto.
+   * @param cursor The cursor returned with the previous page, or null for the first page.
+   * @param size   The number of fertilizers per page.
+   * @return The list of FertilizerNewDto and, when there may be more fertilizers,
+   *     the cursor of the next page in the X-Next-Cursor header.
    */
 
   @GetMapping("fertilizers")
   @PreAuthorize("hasAnyRole('ADMIN')")
-  public ResponseEntity<List<FertilizerDto>> getAllFertilizer() {
-    List<Fertilizer> allFertilizer = fertilizerService.getAllFertilizer();
-
-    DtoConverter dtoConverter = new DtoConverter();
-
-    List<FertilizerDto> listFertilizer = allFertilizer.stream()
-        .map(fertilizer -> dtoConverter.fertilizerToDto(fertilizer))
-        .collect(Collectors.toList());
+  public ResponseEntity<List<FertilizerDto>> getAllFertilizer(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size
+  ) {
+    int pageSize = cursorPagination.resolveSize(size);
+    List<FertilizerDto> listFertilizer = fertilizerService.getFertilizerPage(
+        cursorPagination.decode(cursor), pageSize);
+
+    return cursorPagination.toResponse(listFertilizer, pageSize, FertilizerDto::id);
+  }
 
-    return ResponseEntity.ok(listFertilizer);
+  /**
+   * Streams all fertilizers as newline-delimited JSON, written as they are read from
+   * the database.
+   *
+   * @return A ResponseEntity streaming one FertilizerNewDto per line.
+   */
+  @GetMapping(value = "fertilizers", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @PreAuthorize("hasAnyRole('ADMIN')")
+  public ResponseEntity<StreamingResponseBody> streamAllFertilizer() {
+    StreamingResponseBody body = outputStream -> {
+      NdjsonWriter writer = new NdjsonWriter(objectMapper, outputStream);
+      fertilizerService.streamAllFertilizer(writer::write);
+    };
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
   }
 
   /**
@@ -99,13 +137,7 @@ public class FertilizerController {
    */
   @GetMapping("fertilizers/{fertilizerId}")
   public ResponseEntity<FertilizerDto> findByFertilizerId(@PathVariable Long fertilizerId) {
-    Fertilizer byFertilizerId = fertilizerService.findByFertilizerId(fertilizerId);
-
-    DtoConverter dtoConverter = new DtoConverter();
-    FertilizerDto fertilizer = dtoConverter.fertilizerToDto(byFertilizerId);
-
-    return ResponseEntity.ok(fertilizer);
-
+    return ResponseEntity.ok(fertilizerService.findByFertilizerId(fertilizerId));
   }
 
   /**
@@ -118,13 +150,7 @@ public class FertilizerController {
   @GetMapping("crops/{cropId}/fertilizers")
   public ResponseEntity<List<FertilizerDto>> findByAssociationFertilizer(
       @PathVariable Long cropId) {
-    List<Fertilizer> fertilizers = fertilizerService.findByAssociationFertilizer(cropId);
-
-    DtoConverter dtoConverter = new DtoConverter();
-
-    List<FertilizerDto> listFertilizer = fertilizers.stream()
-        .map(fertilizer -> dtoConverter.fertilizerToDto(fertilizer))
-        .collect(Collectors.toList());
+    List<FertilizerDto> listFertilizer = fertilizerService.findByAssociationFertilizer(cropId);
 
     return ResponseEntity.ok(listFertilizer);
   }
@@ -0,0 +1,121 @@
+package com.betrybe.agrix.controllers;
+
+import com.betrybe.agrix.controllers.dto.ImportJobDto;
+import com.betrybe.agrix.services.ImportJob;
+import com.betrybe.agrix.services.ImportService;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * The ImportController class provides a REST API for loading farms, crops and fertilizers in
+ * bulk. The file is sent as the request body, either as CSV with a header row or as NDJSON,
+ * and is imported in the background; the response carries the id used to follow the import.
+ *
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping(value = "imports")
+@PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+public class ImportController {
+
+  /**
+   * The media type of CSV files.
+   */
+  public static final String TEXT_CSV_VALUE = "text/csv";
+
+  private final ImportService importService;
+
+  /**
+   * Constructs a new ImportController.
+   *
+   * @param importService The import service.
+   */
+  @Autowired
+  public ImportController(ImportService importService) {
+    this.importService = importService;
+  }
+
+  /**
+   * Starts an import of farms. CSV files need the columns name and size; NDJSON lines need
+   * the same fields.
+   *
+   * @param contentType The media type of the file.
+   * @param body        The file to import.
+   * @return A ResponseEntity with the queued import and an HTTP status code of 202 (ACCEPTED).
+   */
+  @PostMapping(value = "/farms", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  public ResponseEntity<ImportJobDto> importFarms(
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+      InputStream body
+  ) {
+    return accepted(importService.importFarms(body, formatOf(contentType)));
+  }
+
+  /**
+   * Starts an import of crops. CSV files need the columns farmId, name, plantedArea,
+   * plantedDate and harvestDate; NDJSON lines need the same fields.
+   *
+   * @param contentType The media type of the file.
+   * @param body        The file to import.
+   * @return A ResponseEntity with the queued import and an HTTP status code of 202 (ACCEPTED).
+   */
+  @PostMapping(value = "/crops", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  public ResponseEntity<ImportJobDto> importCrops(
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+      InputStream body
+  ) {
+    return accepted(importService.importCrops(body, formatOf(contentType)));
+  }
+
+  /**
+   * Starts an import of fertilizers. CSV files need the columns name, brand and composition;
+   * NDJSON lines need the same fields.
+   *
+   * @param contentType The media type of the file.
+   * @param body        The file to import.
+   * @return A ResponseEntity with the queued import and an HTTP status code of 202 (ACCEPTED).
+   */
+  @PostMapping(value = "/fertilizers",
+      consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  public ResponseEntity<ImportJobDto> importFertilizers(
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+      InputStream body
+  ) {
+    return accepted(importService.importFertilizers(body, formatOf(contentType)));
+  }
+
+  /**
+   * Get the progress of an import, with its throughput and the rows it rejected.
+   *
+   * @param id The id of the import.
+   * @return A ResponseEntity with the import progress.
+   */
+  @GetMapping("/{id}")
+  public ResponseEntity<ImportJobDto> getImport(@PathVariable UUID id) {
+    return ResponseEntity.ok(ImportJobDto.of(importService.getJob(id)));
+  }
+
+  private static ImportJob.Format formatOf(MediaType contentType) {
+    return MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+        ? ImportJob.Format.NDJSON
+        : ImportJob.Format.CSV;
+  }
+
+  private static ResponseEntity<ImportJobDto> accepted(ImportJob job) {
+    return ResponseEntity.accepted()
+        .location(URI.create("/imports/" + job.getId()))
+        .body(ImportJobDto.of(job));
+  }
+}
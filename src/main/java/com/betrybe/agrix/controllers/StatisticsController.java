@@ -0,0 +1,120 @@
+package com.betrybe.agrix.controllers;
+
+import com.betrybe.agrix.controllers.dto.FarmUtilizationDto;
+import com.betrybe.agrix.controllers.dto.FertilizerUsageDto;
+import com.betrybe.agrix.controllers.dto.HarvestWeekDto;
+import com.betrybe.agrix.controllers.dto.MonthlyAreaDto;
+import com.betrybe.agrix.controllers.dto.MonthlyPlantedAreaDto;
+import com.betrybe.agrix.services.RollupService;
+import com.betrybe.agrix.services.StatisticsService;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * The StatisticsController class provides a REST API for farm-level crop statistics,
+ * computed by the database, for dashboards.
+ *
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping(value = "statistics")
+@PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'USER')")
+public class StatisticsController {
+
+  private final StatisticsService statisticsService;
+
+  private final RollupService rollupService;
+
+  /**
+   * Constructs a new StatisticsController.
+   *
+   * @param statisticsService The statistics service.
+   * @param rollupService     The service reading the rollups.
+   */
+  @Autowired
+  public StatisticsController(StatisticsService statisticsService,
+      RollupService rollupService) {
+    this.statisticsService = statisticsService;
+    this.rollupService = rollupService;
+  }
+
+  /**
+   * Get the crop count, planted area and utilization of every farm.
+   *
+   * @return A ResponseEntity with the totals of each farm.
+   */
+  @GetMapping("/farms")
+  public ResponseEntity<List<FarmUtilizationDto>> getFarmUtilization() {
+    return ResponseEntity.ok(statisticsService.getFarmUtilization());
+  }
+
+  /**
+   * Get the crop count, planted area and utilization of a farm.
+   *
+   * @param farmId The id of the farm.
+   * @return A ResponseEntity with the totals of the farm.
+   */
+  @GetMapping("/farms/{farmId}")
+  public ResponseEntity<FarmUtilizationDto> getFarmUtilization(@PathVariable Long farmId) {
+    return ResponseEntity.ok(statisticsService.getFarmUtilization(farmId));
+  }
+
+  /**
+   * Get the crop count and planted area of a farm per planting month and crop name.
+   *
+   * @param farmId The id of the farm.
+   * @return A ResponseEntity with the totals per month and crop name.
+   */
+  @GetMapping("/farms/{farmId}/monthly")
+  public ResponseEntity<List<MonthlyPlantedAreaDto>> getMonthlyPlantedArea(
+      @PathVariable Long farmId) {
+    return ResponseEntity.ok(statisticsService.getMonthlyPlantedArea(farmId));
+  }
+
+  /**
+   * Get the crop count and planted area of a farm per planting month, read from the
+   * farm-month rollup instead of aggregating the crops.
+   *
+   * @param farmId The id of the farm.
+   * @return A ResponseEntity with the totals of each month.
+   */
+  @GetMapping("/farms/{farmId}/monthly-area")
+  public ResponseEntity<List<MonthlyAreaDto>> getMonthlyArea(@PathVariable Long farmId) {
+    return ResponseEntity.ok(rollupService.getMonthlyArea(farmId));
+  }
+
+  /**
+   * Get the number of crops associated with each fertilizer, read from the
+   * fertilizer-usage rollup.
+   *
+   * @return A ResponseEntity with the usage of each fertilizer.
+   */
+  @GetMapping("/fertilizers")
+  public ResponseEntity<List<FertilizerUsageDto>> getFertilizerUsage() {
+    return ResponseEntity.ok(rollupService.getFertilizerUsage());
+  }
+
+  /**
+   * Get the crops to be harvested in each of the coming weeks.
+   *
+   * @param farmId The id of a farm, or none for every farm.
+   * @param weeks  The number of weeks, starting with the current one.
+   * @return A ResponseEntity with the totals of each week.
+   */
+  @GetMapping("/harvests")
+  public ResponseEntity<List<HarvestWeekDto>> getUpcomingHarvests(
+      @RequestParam(required = false) Long farmId,
+      @RequestParam(defaultValue = "8") int weeks
+  ) {
+    return ResponseEntity.ok(
+        statisticsService.getUpcomingHarvests(farmId, weeks, LocalDate.now()));
+  }
+}
@@ -0,0 +1,44 @@
+package com.betrybe.agrix.controllers.dto;
+
+/**
+ * The AssociationResultDto class is a data transfer object for the outcome of one crop and
+ * fertilizer association of a bulk request.
+ *
+ * @since 2026-10-18
+ */
+public record AssociationResultDto(
+    Long cropId,
+    Long fertilizerId,
+    Status status
+) {
+
+  /**
+   * The outcome of an association.
+   */
+  public enum Status {
+    /**
+     * The association was created.
+     */
+    CREATED,
+
+    /**
+     * The crop and the fertilizer were already associated.
+     */
+    ALREADY_ASSOCIATED,
+
+    /**
+     * The same pair appeared earlier in the request.
+     */
+    DUPLICATE_IN_REQUEST,
+
+    /**
+     * The crop does not exist.
+     */
+    CROP_NOT_FOUND,
+
+    /**
+     * The fertilizer does not exist.
+     */
+    FERTILIZER_NOT_FOUND
+  }
+}
@@ -0,0 +1,17 @@
+package com.betrybe.agrix.controllers.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * The BulkAssociationDto class is a data transfer object for associating many crops and
+ * fertilizers in one request.
+ *
+ * @since 2026-10-18
+ */
+public record BulkAssociationDto(
+    @NotEmpty @Size(max = 10000) List<@NotNull @Valid CropFertilizerPairDto> associations
+) {}
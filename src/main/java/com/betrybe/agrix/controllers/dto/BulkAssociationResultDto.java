@@ -0,0 +1,15 @@
+package com.betrybe.agrix.controllers.dto;
+
+import java.util.List;
+
+/**
+ * The BulkAssociationResultDto class is a data transfer object for the outcome of a bulk
+ * association request, with one result per requested pair, in request order.
+ *
+ * @since 2026-10-18
+ */
+public record BulkAssociationResultDto(
+    int created,
+    int skipped,
+    List<AssociationResultDto> results
+) {}
@@ -0,0 +1,37 @@
+package com.betrybe.agrix.controllers.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * The CacheStatsDto class is a data transfer object for the statistics of an in-process cache.
+ *
+ * @since 2026-10-18
+ */
+public record CacheStatsDto(
+    String name,
+    long size,
+    long hitCount,
+    long missCount,
+    double hitRate,
+    long evictionCount
+) {
+
+  /**
+   * Creates a CacheStatsDto from the statistics of a Caffeine cache.
+   *
+   * @param name  The name of the cache.
+   * @param size  The approximate number of entries in the cache.
+   * @param stats The statistics recorded by the cache.
+   * @return The corresponding CacheStatsDto.
+   */
+  public static CacheStatsDto of(String name, long size, CacheStats stats) {
+    return new CacheStatsDto(
+        name,
+        size,
+        stats.hitCount(),
+        stats.missCount(),
+        stats.hitRate(),
+        stats.evictionCount()
+    );
+  }
+}
@@ -0,0 +1,14 @@
+package com.betrybe.agrix.controllers.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * The CropFertilizerPairDto class is a data transfer object for one crop and fertilizer
+ * association.
+ *
+ * @since 2026-10-18
+ */
+public record CropFertilizerPairDto(
+    @NotNull Long cropId,
+    @NotNull Long fertilizerId
+) {}
@@ -0,0 +1,23 @@
+package com.betrybe.agrix.controllers.dto;
+
+import java.time.LocalDate;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+
+/**
+ * The CropSearchDto class is a data transfer object for the filters of the crop search,
+ * bound from the query string. Every filter is optional, ranges are inclusive, and the
+ * filters that are set are combined.
+ *
+ * @since 2026-10-18
+ */
+public record CropSearchDto(
+    @DateTimeFormat(iso = ISO.DATE) LocalDate start,
+    @DateTimeFormat(iso = ISO.DATE) LocalDate end,
+    @DateTimeFormat(iso = ISO.DATE) LocalDate plantedFrom,
+    @DateTimeFormat(iso = ISO.DATE) LocalDate plantedTo,
+    Long farmId,
+    String name,
+    Double minArea,
+    Double maxArea
+) {}
@@ -0,0 +1,30 @@
+package com.betrybe.agrix.controllers.dto;
+
+import java.time.LocalDate;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+
+/**
+ * The ExportFilterDto class is a data transfer object for the optional filters of an export,
+ * bound from the query string. Dates are inclusive; a missing value does not filter.
+ *
+ * @since 2026-10-18
+ */
+public record ExportFilterDto(
+    Long farmId,
+    @DateTimeFormat(iso = ISO.DATE) LocalDate plantedFrom,
+    @DateTimeFormat(iso = ISO.DATE) LocalDate plantedTo,
+    @DateTimeFormat(iso = ISO.DATE) LocalDate harvestFrom,
+    @DateTimeFormat(iso = ISO.DATE) LocalDate harvestTo
+) {
+
+  /**
+   * Tells whether any filter on the crops is set.
+   *
+   * @return True if at least one filter is set.
+   */
+  public boolean hasCropFilter() {
+    return farmId != null || plantedFrom != null || plantedTo != null
+        || harvestFrom != null || harvestTo != null;
+  }
+}
@@ -0,0 +1,36 @@
+package com.betrybe.agrix.controllers.dto;
+
+/**
+ * The FarmUtilizationDto class is a data transfer object for the crop totals of a farm and
+ * the share of the farm size they occupy.
+ *
+ * @since 2026-10-18
+ */
+public record FarmUtilizationDto(
+    Long farmId,
+    String farmName,
+    Double size,
+    long cropCount,
+    double plantedArea,
+    Double utilization
+) {
+
+  /**
+   * Creates a FarmUtilizationDto from the totals aggregated by the database, computing the
+   * utilization as planted area over farm size. The utilization is null when the farm has
+   * no size.
+   *
+   * @param farmId      The id of the farm.
+   * @param farmName    The name of the farm.
+   * @param size        The size of the farm.
+   * @param cropCount   The number of crops of the farm.
+   * @param plantedArea The total planted area of the farm.
+   */
+  public FarmUtilizationDto(Long farmId, String farmName, Double size, Long cropCount,
+      Double plantedArea) {
+    this(farmId, farmName, size,
+        cropCount == null ? 0 : cropCount,
+        plantedArea == null ? 0.0 : plantedArea,
+        size == null || size == 0 ? null : (plantedArea == null ? 0.0 : plantedArea) / size);
+  }
+}
@@ -0,0 +1,13 @@
+package com.betrybe.agrix.controllers.dto;
+
+/**
+ * The FertilizerUsageDto class is a data transfer object for the number of crops a
+ * fertilizer is associated with.
+ *
+ * @since 2026-10-18
+ */
+public record FertilizerUsageDto(
+    Long fertilizerId,
+    String name,
+    long cropCount
+) {}
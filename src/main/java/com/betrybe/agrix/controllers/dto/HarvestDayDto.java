@@ -0,0 +1,14 @@
+package com.betrybe.agrix.controllers.dto;
+
+import java.time.LocalDate;
+
+/**
+ * The HarvestDayDto class is a data transfer object for the crops harvested on one day.
+ *
+ * @since 2026-10-18
+ */
+public record HarvestDayDto(
+    LocalDate harvestDate,
+    Long cropCount,
+    Double plantedArea
+) {}
@@ -0,0 +1,15 @@
+package com.betrybe.agrix.controllers.dto;
+
+import java.time.LocalDate;
+
+/**
+ * The HarvestWeekDto class is a data transfer object for the crops harvested in one ISO
+ * week, starting on Monday.
+ *
+ * @since 2026-10-18
+ */
+public record HarvestWeekDto(
+    LocalDate weekStart,
+    long cropCount,
+    double plantedArea
+) {}
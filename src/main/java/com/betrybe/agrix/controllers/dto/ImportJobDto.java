@@ -0,0 +1,70 @@
+package com.betrybe.agrix.controllers.dto;
+
+import com.betrybe.agrix.services.ImportJob;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The ImportJobDto class is a data transfer object for the progress of a bulk import.
+ *
+ * @since 2026-10-18
+ */
+public record ImportJobDto(
+    UUID id,
+    ImportJob.Type type,
+    ImportJob.Format format,
+    ImportJob.Status status,
+    double progress,
+    long rowsRead,
+    long rowsImported,
+    long rowsFailed,
+    double rowsPerSecond,
+    Instant startedAt,
+    Instant finishedAt,
+    String failure,
+    List<ImportRowErrorDto> errors
+) {
+
+  /**
+   * Creates an ImportJobDto from the current state of an import.
+   *
+   * @param job The import.
+   * @return The corresponding ImportJobDto.
+   */
+  public static ImportJobDto of(ImportJob job) {
+    Instant startedAt = job.getStartedAt();
+    Instant finishedAt = job.getFinishedAt();
+    long rowsRead = job.getRowsRead();
+
+    double progress = job.getStatus() == ImportJob.Status.COMPLETED ? 100.0
+        : job.getTotalBytes() == 0 ? 0.0
+        : Math.min(100.0, 100.0 * job.getBytesRead() / job.getTotalBytes());
+
+    double rowsPerSecond = 0.0;
+    if (startedAt != null) {
+      Duration elapsed = Duration.between(
+          startedAt, finishedAt != null ? finishedAt : Instant.now());
+      if (elapsed.toMillis() > 0) {
+        rowsPerSecond = rowsRead * 1000.0 / elapsed.toMillis();
+      }
+    }
+
+    return new ImportJobDto(
+        job.getId(),
+        job.getType(),
+        job.getFormat(),
+        job.getStatus(),
+        progress,
+        rowsRead,
+        job.getRowsImported(),
+        job.getRowsFailed(),
+        rowsPerSecond,
+        startedAt,
+        finishedAt,
+        job.getFailure(),
+        job.getErrors()
+    );
+  }
+}
@@ -0,0 +1,11 @@
+package com.betrybe.agrix.controllers.dto;
+
+/**
+ * The ImportRowErrorDto class is a data transfer object for a row rejected by an import.
+ *
+ * @since 2026-10-18
+ */
+public record ImportRowErrorDto(
+    long row,
+    String message
+) {}
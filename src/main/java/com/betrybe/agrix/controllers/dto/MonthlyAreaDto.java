@@ -0,0 +1,14 @@
+package com.betrybe.agrix.controllers.dto;
+
+/**
+ * The MonthlyAreaDto class is a data transfer object for the crops of a farm planted in
+ * one month.
+ *
+ * @since 2026-10-18
+ */
+public record MonthlyAreaDto(
+    int year,
+    int month,
+    long cropCount,
+    double plantedArea
+) {}
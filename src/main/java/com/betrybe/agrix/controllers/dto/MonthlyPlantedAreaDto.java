@@ -0,0 +1,15 @@
+package com.betrybe.agrix.controllers.dto;
+
+/**
+ * The MonthlyPlantedAreaDto class is a data transfer object for the crops of one name
+ * planted on a farm in one month.
+ *
+ * @since 2026-10-18
+ */
+public record MonthlyPlantedAreaDto(
+    Integer year,
+    Integer month,
+    String cropName,
+    Long cropCount,
+    Double plantedArea
+) {}
@@ -0,0 +1,17 @@
+package com.betrybe.agrix.controllers.dto;
+
+/**
+ * The PasswordHashingStatsDto class is a data transfer object for the saturation of the
+ * password hashing pool.
+ *
+ * @since 2026-10-18
+ */
+public record PasswordHashingStatsDto(
+    String algorithm,
+    int poolSize,
+    int activeCount,
+    int queueDepth,
+    int queueCapacity,
+    long completedCount,
+    long rejectedCount
+) {}
@@ -0,0 +1,20 @@
+package com.betrybe.agrix.controllers.dto;
+
+/**
+ * The PoolStatsDto class is a data transfer object for the state of a database connection
+ * pool and the time requests waited for its connections.
+ *
+ * @since 2026-10-18
+ */
+public record PoolStatsDto(
+    String pool,
+    int activeConnections,
+    int idleConnections,
+    int pendingThreads,
+    int totalConnections,
+    int maxConnections,
+    long acquisitions,
+    double meanWaitMillis,
+    double maxWaitMillis,
+    long timeouts
+) {}
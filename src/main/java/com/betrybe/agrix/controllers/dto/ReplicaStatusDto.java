@@ -0,0 +1,32 @@
+package com.betrybe.agrix.controllers.dto;
+
+import com.betrybe.agrix.datasource.ReplicaRoutingDataSource.Replica;
+
+/**
+ * The ReplicaStatusDto class is a data transfer object for the routing state of a read
+ * replica.
+ *
+ * @since 2026-10-18
+ */
+public record ReplicaStatusDto(
+    String name,
+    boolean up,
+    int activeConnections,
+    long ejections
+) {
+
+  /**
+   * Creates a ReplicaStatusDto from a replica of the routing data source.
+   *
+   * @param replica The replica.
+   * @return The corresponding ReplicaStatusDto.
+   */
+  public static ReplicaStatusDto of(Replica replica) {
+    return new ReplicaStatusDto(
+        replica.getName(),
+        replica.isUp(),
+        replica.getActiveConnections(),
+        replica.getEjections()
+    );
+  }
+}
@@ -0,0 +1,14 @@
+package com.betrybe.agrix.controllers.dto;
+
+import java.util.List;
+
+/**
+ * The RollupCheckDto class is a data transfer object for the outcome of comparing the
+ * rollup tables with totals recomputed from the crop and crop_fertilizer tables.
+ *
+ * @since 2026-10-18
+ */
+public record RollupCheckDto(
+    boolean consistent,
+    List<String> differences
+) {}
@@ -0,0 +1,134 @@
+package com.betrybe.agrix.datasource;
+
+import com.betrybe.agrix.datasource.ReplicaRoutingDataSource.Balancing;
+import com.betrybe.agrix.datasource.ReplicaRoutingDataSource.Replica;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Configuration of the read replicas, active when agrix.datasource.replica.urls lists at
+ * least one replica. The application DataSource then routes read-only transactions to the
+ * replicas and everything else to the primary configured by spring.datasource.
+ *
+ * @since 2026-10-18
+ */
+@Configuration
+@ConditionalOnExpression("!'${agrix.datasource.replica.urls:}'.isBlank()")
+public class DataSourceConfiguration {
+
+  /**
+   * The pool of the primary database, configured by spring.datasource.
+   *
+   * @param properties The spring.datasource properties.
+   * @return The primary pool.
+   */
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+    dataSource.setPoolName("agrix-primary");
+    return dataSource;
+  }
+
+  /**
+   * The routing between the primary and the replica pools.
+   *
+   * @param primaryDataSource   The primary pool.
+   * @param hikariTuning        The agrix.db tuning, applied to the replica pools too.
+   * @param properties          The spring.datasource properties.
+   * @param urls                The JDBC URLs of the replicas.
+   * @param username            The user of the replicas.
+   * @param password            The password of the replicas.
+   * @param balancing           How a replica is chosen: round_robin or least_connections.
+   * @param connectionTimeout   How long a read waits for a replica before using the primary.
+   * @param healthCheckInterval The time between two health checks of the replicas.
+   * @param healthCheckTimeout  The time a replica has to answer a health check.
+   * @return The routing data source.
+   */
+  @Bean
+  public ReplicaRoutingDataSource replicaRoutingDataSource(
+      HikariDataSource primaryDataSource,
+      HikariTuning hikariTuning,
+      DataSourceProperties properties,
+      @Value("${agrix.datasource.replica.urls}") List<String> urls,
+      @Value("${agrix.datasource.replica.username:${spring.datasource.username:}}")
+      String username,
+      @Value("${agrix.datasource.replica.password:${spring.datasource.password:}}")
+      String password,
+      @Value("${agrix.datasource.replica.balancing:round_robin}") String balancing,
+      @Value("${agrix.datasource.replica.connection-timeout-ms:1000}") long connectionTimeout,
+      @Value("${agrix.datasource.replica.health-check-ms:5000}") long healthCheckInterval,
+      @Value("${agrix.datasource.replica.health-check-timeout-seconds:2}")
+      int healthCheckTimeout) {
+    List<Replica> replicas = new ArrayList<>(urls.size());
+    for (int i = 0; i < urls.size(); i++) {
+      HikariDataSource replica = new HikariDataSource();
+      replica.setPoolName("agrix-replica-" + (i + 1));
+      replica.setJdbcUrl(urls.get(i).trim());
+      replica.setDriverClassName(properties.determineDriverClassName());
+      replica.setUsername(username);
+      replica.setPassword(password);
+      replica.setMaximumPoolSize(primaryDataSource.getMaximumPoolSize());
+      replica.setDataSourceProperties(primaryDataSource.getDataSourceProperties());
+      hikariTuning.apply(replica);
+      replica.setConnectionTimeout(connectionTimeout);
+      replica.setReadOnly(true);
+      replicas.add(new Replica(replica.getPoolName(), replica));
+    }
+
+    ReplicaRoutingDataSource routing =
+        new ReplicaRoutingDataSource(primaryDataSource, replicas, parseBalancing(balancing));
+    routing.startHealthChecks(healthCheckInterval, healthCheckTimeout);
+    return routing;
+  }
+
+  /**
+   * The application DataSource. Connections are only taken from the routing once the
+   * transaction has begun, when it is known whether it is read-only.
+   *
+   * @param routing The routing data source.
+   * @return The application data source.
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(ReplicaRoutingDataSource routing) {
+    return new LazyConnectionDataSourceProxy(routing);
+  }
+
+  /**
+   * Keeps a user's requests on the primary for a while after each of their writes.
+   *
+   * @param windowMillis How long a user's requests stay on the primary after a write.
+   * @param maxWriters   The largest number of users remembered at once.
+   * @return The read-your-writes filter.
+   */
+  @Bean
+  @ConditionalOnExpression("${agrix.datasource.replica.sticky-window-ms:0} > 0")
+  public ReadYourWritesFilter readYourWritesFilter(
+      @Value("${agrix.datasource.replica.sticky-window-ms}") long windowMillis,
+      @Value("${agrix.datasource.replica.sticky-max-users:100000}") long maxWriters) {
+    return new ReadYourWritesFilter(Duration.ofMillis(windowMillis), maxWriters);
+  }
+
+  private static Balancing parseBalancing(String balancing) {
+    try {
+      return Balancing.valueOf(balancing.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalStateException("Balanceamento de réplicas não suportado: " + balancing);
+    }
+  }
+}
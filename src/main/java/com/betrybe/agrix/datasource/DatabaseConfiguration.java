@@ -0,0 +1,82 @@
+package com.betrybe.agrix.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the agrix.db tuning of the connection pools: the settings applied to
+ * every pool, the statistics collected from them and the startup check of their size.
+ *
+ * @since 2026-10-18
+ */
+@Configuration
+@EnableConfigurationProperties(DatabaseProperties.class)
+public class DatabaseConfiguration {
+
+  /**
+   * The collector of pool statistics, shown by GET /diagnostics/db-pool and published to
+   * the meter registry.
+   *
+   * @param meterRegistry The meter registry, when metrics are enabled.
+   * @return The pool metrics.
+   */
+  @Bean
+  public PoolMetrics poolMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+    return new PoolMetrics(meterRegistry.getIfAvailable());
+  }
+
+  /**
+   * Applies the agrix.db properties to each pool bean.
+   *
+   * @param properties  The agrix.db properties.
+   * @param poolMetrics The collector of pool statistics.
+   * @return The pool tuning.
+   */
+  @Bean
+  public static HikariTuning hikariTuning(ObjectProvider<DatabaseProperties> properties,
+      ObjectProvider<PoolMetrics> poolMetrics) {
+    return new HikariTuning(properties, poolMetrics);
+  }
+
+  /**
+   * Passes the statements of the application DataSource to the statement listeners.
+   *
+   * @param queryListeners  The listeners of the statements.
+   * @param methodListeners The listeners of the JDBC method calls.
+   * @return The DataSource proxy.
+   */
+  @Bean
+  public static StatementListenerProxy statementListenerProxy(
+      ObjectProvider<QueryExecutionListener> queryListeners,
+      ObjectProvider<MethodExecutionListener> methodListeners) {
+    return new StatementListenerProxy("dataSource", queryListeners, methodListeners);
+  }
+
+  /**
+   * Warns at startup when a pool is too small for the requests handled at once.
+   *
+   * @param properties     The agrix.db properties.
+   * @param pools          The connection pools of the application.
+   * @param requestThreads The largest number of requests handled at once: the Tomcat
+   *                       threads, or the limit of the virtual thread mode when enabled.
+   * @return The pool size check.
+   */
+  @Bean
+  @ConditionalOnProperty(name = "agrix.db.self-check.enabled", matchIfMissing = true)
+  public PoolSizeSelfCheck poolSizeSelfCheck(DatabaseProperties properties,
+      ObjectProvider<HikariDataSource> pools,
+      @Value("#{${agrix.threads.virtual.enabled:false}"
+          + " ? ${agrix.threads.virtual.max-concurrent-requests:200}"
+          + " : ${server.tomcat.threads.max:200}}") int requestThreads) {
+    return new PoolSizeSelfCheck(pools, requestThreads,
+        properties.selfCheck().maxThreadsPerConnection());
+  }
+}
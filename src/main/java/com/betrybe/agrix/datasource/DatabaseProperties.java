@@ -0,0 +1,72 @@
+package com.betrybe.agrix.datasource;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * The agrix.db properties, tuning the connection pools and the PostgreSQL driver.
+ * Settings left unset keep the value of spring.datasource.hikari or the driver default;
+ * the production presets are in application-prod.properties.
+ *
+ * @param pool                  The connection pool settings.
+ * @param statementCache        The driver's prepared statement cache settings.
+ * @param fetchSize             The default number of rows fetched per round trip.
+ * @param rewriteBatchedInserts Whether JDBC batches of inserts are sent as multi-row inserts.
+ * @param selfCheck             The startup check of the pool size.
+ * @since 2026-10-18
+ */
+@ConfigurationProperties("agrix.db")
+public record DatabaseProperties(
+    @DefaultValue Pool pool,
+    @DefaultValue StatementCache statementCache,
+    Integer fetchSize,
+    Boolean rewriteBatchedInserts,
+    @DefaultValue SelfCheck selfCheck
+) {
+
+  /**
+   * The connection pool settings.
+   *
+   * @param maximumSize            The largest number of connections of a pool.
+   * @param minimumIdle            The number of idle connections a pool keeps open.
+   * @param connectionTimeout      How long a request waits for a connection.
+   * @param idleTimeout            How long an idle connection above the minimum is kept.
+   * @param maxLifetime            How long a connection is used before being replaced.
+   * @param leakDetectionThreshold How long a connection may be held before a leak is
+   *                               reported; zero disables the detection.
+   */
+  public record Pool(
+      Integer maximumSize,
+      Integer minimumIdle,
+      Duration connectionTimeout,
+      Duration idleTimeout,
+      Duration maxLifetime,
+      Duration leakDetectionThreshold
+  ) {}
+
+  /**
+   * The PostgreSQL driver's prepared statement cache settings.
+   *
+   * @param prepareThreshold The executions after which a statement is prepared on the server.
+   * @param queries          The number of prepared statements cached per connection.
+   * @param sizeMib          The memory of the prepared statement cache per connection.
+   */
+  public record StatementCache(
+      Integer prepareThreshold,
+      Integer queries,
+      Integer sizeMib
+  ) {}
+
+  /**
+   * The startup check of the pool size against the number of request threads.
+   *
+   * @param enabled                  Whether the check runs.
+   * @param maxThreadsPerConnection  The largest number of request threads per pooled
+   *                                 connection before a warning is logged.
+   */
+  public record SelfCheck(
+      @DefaultValue("true") boolean enabled,
+      @DefaultValue("8") int maxThreadsPerConnection
+  ) {}
+}
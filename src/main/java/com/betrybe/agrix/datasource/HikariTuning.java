@@ -0,0 +1,97 @@
+package com.betrybe.agrix.datasource;
+
+import com.betrybe.agrix.datasource.DatabaseProperties.Pool;
+import com.betrybe.agrix.datasource.DatabaseProperties.StatementCache;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Applies the agrix.db properties to every HikariCP pool of the application: the pool
+ * bean created by Spring Boot or, with read replicas, the primary pool and each replica
+ * pool. Pool settings override spring.datasource.hikari; driver settings are only applied
+ * to PostgreSQL pools, the only driver that understands them.
+ *
+ * @since 2026-10-18
+ */
+public class HikariTuning implements BeanPostProcessor {
+
+  private final ObjectProvider<DatabaseProperties> properties;
+
+  private final ObjectProvider<PoolMetrics> poolMetrics;
+
+  /**
+   * Constructs a new HikariTuning. Both dependencies are resolved on first use, since bean
+   * post-processors are created before the rest of the context.
+   *
+   * @param properties  The agrix.db properties.
+   * @param poolMetrics The collector of pool statistics.
+   */
+  public HikariTuning(ObjectProvider<DatabaseProperties> properties,
+      ObjectProvider<PoolMetrics> poolMetrics) {
+    this.properties = properties;
+    this.poolMetrics = poolMetrics;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (bean instanceof HikariDataSource dataSource) {
+      apply(dataSource);
+    }
+    return bean;
+  }
+
+  /**
+   * Applies the agrix.db properties to a pool that has not started yet.
+   *
+   * @param dataSource The pool to tune.
+   */
+  public void apply(HikariDataSource dataSource) {
+    DatabaseProperties db = properties.getObject();
+
+    Pool pool = db.pool();
+    if (pool.maximumSize() != null) {
+      dataSource.setMaximumPoolSize(pool.maximumSize());
+    }
+    if (pool.minimumIdle() != null) {
+      dataSource.setMinimumIdle(pool.minimumIdle());
+    }
+    if (pool.connectionTimeout() != null) {
+      dataSource.setConnectionTimeout(pool.connectionTimeout().toMillis());
+    }
+    if (pool.idleTimeout() != null) {
+      dataSource.setIdleTimeout(pool.idleTimeout().toMillis());
+    }
+    if (pool.maxLifetime() != null) {
+      dataSource.setMaxLifetime(pool.maxLifetime().toMillis());
+    }
+    if (pool.leakDetectionThreshold() != null) {
+      dataSource.setLeakDetectionThreshold(pool.leakDetectionThreshold().toMillis());
+    }
+
+    if (dataSource.getMetricsTrackerFactory() == null && dataSource.getMetricRegistry() == null) {
+      dataSource.setMetricsTrackerFactory(poolMetrics.getObject());
+    }
+
+    String url = dataSource.getJdbcUrl();
+    if (url == null || !url.startsWith("jdbc:postgresql:")) {
+      return;
+    }
+    StatementCache statementCache = db.statementCache();
+    if (statementCache.prepareThreshold() != null) {
+      dataSource.addDataSourceProperty("prepareThreshold", statementCache.prepareThreshold());
+    }
+    if (statementCache.queries() != null) {
+      dataSource.addDataSourceProperty("preparedStatementCacheQueries", statementCache.queries());
+    }
+    if (statementCache.sizeMib() != null) {
+      dataSource.addDataSourceProperty("preparedStatementCacheSizeMiB", statementCache.sizeMib());
+    }
+    if (db.fetchSize() != null) {
+      dataSource.addDataSourceProperty("defaultRowFetchSize", db.fetchSize());
+    }
+    if (db.rewriteBatchedInserts() != null) {
+      dataSource.addDataSourceProperty("reWriteBatchedInserts", db.rewriteBatchedInserts());
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package com.betrybe.agrix.datasource;
+
+import com.betrybe.agrix.controllers.dto.PoolStatsDto;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Collects the state of every HikariCP pool of the application (connections active, idle
+ * and pending) together with the time requests waited to acquire a connection. Pools
+ * report here from the moment they start. With a MeterRegistry, every pool also publishes
+ * the standard hikaricp metrics, which Spring Boot only binds to pools without a tracker.
+ *
+ * @since 2026-10-18
+ */
+public class PoolMetrics implements MetricsTrackerFactory {
+
+  private final Map<String, Tracker> trackers = new ConcurrentSkipListMap<>();
+
+  private final MetricsTrackerFactory micrometer;
+
+  /**
+   * Constructs a new PoolMetrics that only keeps the statistics of GET /diagnostics/db-pool.
+   */
+  public PoolMetrics() {
+    this(null);
+  }
+
+  /**
+   * Constructs a new PoolMetrics.
+   *
+   * @param meterRegistry The registry the pool metrics are also published to, or null.
+   */
+  public PoolMetrics(MeterRegistry meterRegistry) {
+    this.micrometer =
+        meterRegistry == null ? null : new MicrometerMetricsTrackerFactory(meterRegistry);
+  }
+
+  @Override
+  public IMetricsTracker create(String poolName, PoolStats poolStats) {
+    Tracker tracker = new Tracker(poolStats);
+    trackers.put(poolName, tracker);
+    if (micrometer == null) {
+      return tracker;
+    }
+    return new CompositeTracker(tracker, micrometer.create(poolName, poolStats));
+  }
+
+  /**
+   * Get the current state of every started pool, ordered by pool name.
+   *
+   * @return The statistics of each pool.
+   */
+  public List<PoolStatsDto> snapshot() {
+    return trackers.entrySet().stream()
+        .map(entry -> entry.getValue().snapshot(entry.getKey()))
+        .toList();
+  }
+
+  private static class Tracker implements IMetricsTracker {
+
+    private final PoolStats poolStats;
+
+    private final AtomicLong acquisitions = new AtomicLong();
+
+    private final AtomicLong waitNanos = new AtomicLong();
+
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    private final AtomicLong timeouts = new AtomicLong();
+
+    Tracker(PoolStats poolStats) {
+      this.poolStats = poolStats;
+    }
+
+    @Override
+    public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+      acquisitions.incrementAndGet();
+      waitNanos.addAndGet(elapsedAcquiredNanos);
+      maxWaitNanos.accumulate(elapsedAcquiredNanos);
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+      timeouts.incrementAndGet();
+    }
+
+    PoolStatsDto snapshot(String poolName) {
+      long count = acquisitions.get();
+      return new PoolStatsDto(
+          poolName,
+          poolStats.getActiveConnections(),
+          poolStats.getIdleConnections(),
+          poolStats.getPendingThreads(),
+          poolStats.getTotalConnections(),
+          poolStats.getMaxConnections(),
+          count,
+          count == 0 ? 0 : waitNanos.get() / count / 1_000_000.0,
+          maxWaitNanos.get() / 1_000_000.0,
+          timeouts.get()
+      );
+    }
+  }
+
+  private record CompositeTracker(IMetricsTracker first, IMetricsTracker second)
+      implements IMetricsTracker {
+
+    @Override
+    public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+      first.recordConnectionCreatedMillis(connectionCreatedMillis);
+      second.recordConnectionCreatedMillis(connectionCreatedMillis);
+    }
+
+    @Override
+    public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+      first.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+      second.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+    }
+
+    @Override
+    public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+      first.recordConnectionUsageMillis(elapsedBorrowedMillis);
+      second.recordConnectionUsageMillis(elapsedBorrowedMillis);
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+      first.recordConnectionTimeout();
+      second.recordConnectionTimeout();
+    }
+
+    @Override
+    public void close() {
+      first.close();
+      second.close();
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.betrybe.agrix.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Checks at startup that each connection pool is large enough for the request threads of
+ * Tomcat. Every request thread may need a connection at once; when there are many more
+ * threads than connections, requests queue for a connection and fail after the connection
+ * timeout under load, so a warning is logged.
+ *
+ * @since 2026-10-18
+ */
+public class PoolSizeSelfCheck implements ApplicationListener<ApplicationReadyEvent> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PoolSizeSelfCheck.class);
+
+  private final ObjectProvider<HikariDataSource> pools;
+
+  private final int requestThreads;
+
+  private final int maxThreadsPerConnection;
+
+  /**
+   * Constructs a new PoolSizeSelfCheck.
+   *
+   * @param pools                   The connection pools of the application.
+   * @param requestThreads          The largest number of Tomcat request threads.
+   * @param maxThreadsPerConnection The largest number of request threads per connection.
+   */
+  public PoolSizeSelfCheck(ObjectProvider<HikariDataSource> pools, int requestThreads,
+      int maxThreadsPerConnection) {
+    this.pools = pools;
+    this.requestThreads = requestThreads;
+    this.maxThreadsPerConnection = maxThreadsPerConnection;
+  }
+
+  @Override
+  public void onApplicationEvent(ApplicationReadyEvent event) {
+    check().forEach(LOGGER::warn);
+  }
+
+  /**
+   * Compares the size of every pool with the number of request threads.
+   *
+   * @return A warning for each pool that is too small, empty when every pool is fine.
+   */
+  public List<String> check() {
+    List<String> warnings = new ArrayList<>();
+    pools.orderedStream().forEach(pool -> {
+      int size = pool.getMaximumPoolSize();
+      if ((long) size * maxThreadsPerConnection < requestThreads) {
+        warnings.add(String.format(
+            "Pool %s com %d conexões para %d threads de requisição (máximo de %d por conexão);"
+                + " aumente agrix.db.pool.maximum-size para pelo menos %d ou reduza"
+                + " server.tomcat.threads.max",
+            pool.getPoolName(), size, requestThreads, maxThreadsPerConnection,
+            (requestThreads + maxThreadsPerConnection - 1) / maxThreadsPerConnection));
+      }
+    });
+    return warnings;
+  }
+}
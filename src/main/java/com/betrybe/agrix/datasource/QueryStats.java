@@ -0,0 +1,134 @@
+package com.betrybe.agrix.datasource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * The SQL statements run by the current thread since {@link #start()}: how many, the rows
+ * they read or wrote, the time they took and how often each statement shape was repeated.
+ * A shape is the statement with its literals and IN lists replaced by placeholders, so the
+ * same query issued once per parent row, the N+1 pattern, shows up as one repeated shape.
+ *
+ * <p>Statements are recorded by the {@link QueryStatsListener} of the proxied DataSource;
+ * the stats are started per request by the {@link QueryStatsFilter} and per test by the
+ * QueryCountExtension.</p>
+ *
+ * @since 2026-10-18
+ */
+public final class QueryStats {
+
+  private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+  private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+
+  private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+
+  private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\?(?:\\s*,\\s*\\?)+");
+
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  private final Map<String, Integer> shapes = new LinkedHashMap<>();
+
+  private long statements;
+
+  private long rows;
+
+  private long elapsedMillis;
+
+  private QueryStats() {
+  }
+
+  /**
+   * Starts recording the statements of the current thread, discarding earlier ones.
+   *
+   * @return The stats of the current thread.
+   */
+  public static QueryStats start() {
+    QueryStats stats = new QueryStats();
+    CURRENT.set(stats);
+    return stats;
+  }
+
+  /**
+   * Get the stats of the current thread.
+   *
+   * @return The stats, or null when the thread is not recording.
+   */
+  public static QueryStats current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Stops recording the statements of the current thread.
+   */
+  public static void stop() {
+    CURRENT.remove();
+  }
+
+  /**
+   * Records a statement execution.
+   *
+   * @param sql           The statement.
+   * @param batch         Whether it was a JDBC batch; batches are not N+1 candidates.
+   * @param rows          The rows it wrote.
+   * @param elapsedMillis The time it took.
+   */
+  void recordStatement(String sql, boolean batch, long rows, long elapsedMillis) {
+    statements++;
+    this.rows += rows;
+    this.elapsedMillis += elapsedMillis;
+    if (!batch) {
+      shapes.merge(shapeOf(sql), 1, Integer::sum);
+    }
+  }
+
+  /**
+   * Records a row read from a result set.
+   */
+  void recordRowRead() {
+    rows++;
+  }
+
+  public long getStatements() {
+    return statements;
+  }
+
+  public long getRows() {
+    return rows;
+  }
+
+  public long getElapsedMillis() {
+    return elapsedMillis;
+  }
+
+  /**
+   * Get the statement shapes run at least a number of times.
+   *
+   * @param threshold The smallest number of executions reported.
+   * @return The repeated shapes with their number of executions.
+   */
+  public Map<String, Integer> repeatedShapes(int threshold) {
+    Map<String, Integer> repeated = new LinkedHashMap<>();
+    shapes.forEach((shape, count) -> {
+      if (count >= threshold) {
+        repeated.put(shape, count);
+      }
+    });
+    return repeated;
+  }
+
+  /**
+   * Replaces the literals and placeholder lists of a statement, so statements that only
+   * differ by their parameters have the same shape.
+   *
+   * @param sql The statement.
+   * @return The shape of the statement.
+   */
+  static String shapeOf(String sql) {
+    String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+    shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+    shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    return PLACEHOLDER_LIST.matcher(shape).replaceAll("?");
+  }
+}
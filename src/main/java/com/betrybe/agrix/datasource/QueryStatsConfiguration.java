@@ -0,0 +1,51 @@
+package com.betrybe.agrix.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuration of the per-request SQL statistics, active when agrix.sql.stats.enabled is
+ * set, as in the dev and test profiles. Every statement goes through an extra listener,
+ * so production runs without it.
+ *
+ * @since 2026-10-18
+ */
+@Configuration
+@ConditionalOnProperty("agrix.sql.stats.enabled")
+public class QueryStatsConfiguration {
+
+  /**
+   * Records the statements of the application DataSource.
+   *
+   * @return The statement listener.
+   */
+  @Bean
+  public QueryStatsListener queryStatsListener() {
+    return new QueryStatsListener();
+  }
+
+  /**
+   * Records the statements of each request and checks them against the budget.
+   *
+   * @param headers         Whether the stats are sent in response headers.
+   * @param statementBudget The largest number of statements of a request.
+   * @param repeatThreshold The number of runs of one statement shape reported as N+1.
+   * @param failOnViolation Whether a request over the limits fails instead of logging.
+   * @return The registration of the filter, before the security filters.
+   */
+  @Bean
+  public FilterRegistrationBean<QueryStatsFilter> queryStatsFilter(
+      @Value("${agrix.sql.stats.headers:true}") boolean headers,
+      @Value("${agrix.sql.budget.statements:30}") int statementBudget,
+      @Value("${agrix.sql.budget.repeat-threshold:5}") int repeatThreshold,
+      @Value("${agrix.sql.budget.fail-on-violation:false}") boolean failOnViolation) {
+    FilterRegistrationBean<QueryStatsFilter> registration = new FilterRegistrationBean<>(
+        new QueryStatsFilter(headers, statementBudget, repeatThreshold, failOnViolation));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+    return registration;
+  }
+}
@@ -0,0 +1,119 @@
+package com.betrybe.agrix.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Records the SQL statements of each request in {@link QueryStats}. The statements, rows and
+ * database time so far are sent in the X-Query-Count, X-Query-Rows and X-Query-Time-Ms
+ * headers when the response is committed. After the request, a warning is logged when it
+ * ran more statements than the budget or repeated one statement shape too often (N+1);
+ * with failOnViolation the request fails instead, which fails the test that sent it.
+ *
+ * <p>Statements run on other threads, such as the streamed exports, are not counted.</p>
+ *
+ * @since 2026-10-18
+ */
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(QueryStatsFilter.class);
+
+  private final boolean headers;
+
+  private final int statementBudget;
+
+  private final int repeatThreshold;
+
+  private final boolean failOnViolation;
+
+  /**
+   * Constructs a new QueryStatsFilter.
+   *
+   * @param headers         Whether the stats are sent in response headers.
+   * @param statementBudget The largest number of statements of a request.
+   * @param repeatThreshold The number of runs of one statement shape reported as N+1.
+   * @param failOnViolation Whether a request over the limits fails instead of logging.
+   */
+  public QueryStatsFilter(boolean headers, int statementBudget, int repeatThreshold,
+      boolean failOnViolation) {
+    this.headers = headers;
+    this.statementBudget = statementBudget;
+    this.repeatThreshold = repeatThreshold;
+    this.failOnViolation = failOnViolation;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    QueryStats stats = QueryStats.start();
+    HttpServletResponse wrapped = headers ? new StatsHeadersResponse(response, stats) : response;
+    try {
+      filterChain.doFilter(request, wrapped);
+      if (headers && !response.isCommitted()) {
+        writeHeaders(response, stats);
+      }
+    } finally {
+      QueryStats.stop();
+    }
+
+    List<String> violations = violations(stats);
+    if (violations.isEmpty()) {
+      return;
+    }
+    String endpoint = request.getMethod() + " " + request.getRequestURI();
+    if (failOnViolation) {
+      throw new IllegalStateException(endpoint + ": " + String.join("; ", violations));
+    }
+    violations.forEach(violation -> LOGGER.warn("{}: {}", endpoint, violation));
+  }
+
+  /**
+   * Compares the statements of a request with the budget and the repeat threshold.
+   *
+   * @param stats The statements of the request.
+   * @return A description of each limit exceeded, empty when the request is fine.
+   */
+  public List<String> violations(QueryStats stats) {
+    List<String> violations = new ArrayList<>();
+    if (stats.getStatements() > statementBudget) {
+      violations.add(String.format("%d comandos SQL, acima do orçamento de %d",
+          stats.getStatements(), statementBudget));
+    }
+    for (Map.Entry<String, Integer> shape : stats.repeatedShapes(repeatThreshold).entrySet()) {
+      violations.add(String.format("possível N+1, comando repetido %d vezes: %s",
+          shape.getValue(), shape.getKey()));
+    }
+    return violations;
+  }
+
+  private static void writeHeaders(HttpServletResponse response, QueryStats stats) {
+    response.setHeader("X-Query-Count", Long.toString(stats.getStatements()));
+    response.setHeader("X-Query-Rows", Long.toString(stats.getRows()));
+    response.setHeader("X-Query-Time-Ms", Long.toString(stats.getElapsedMillis()));
+  }
+
+  private static final class StatsHeadersResponse extends OnCommittedResponseWrapper {
+
+    private final QueryStats stats;
+
+    private StatsHeadersResponse(HttpServletResponse response, QueryStats stats) {
+      super(response);
+      this.stats = stats;
+    }
+
+    @Override
+    protected void onResponseCommitted() {
+      writeHeaders((HttpServletResponse) getResponse(), stats);
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package com.betrybe.agrix.datasource;
+
+import java.sql.ResultSet;
+import java.util.List;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Records the statements of the proxied DataSource in the {@link QueryStats} of the thread
+ * running them. Rows written are taken from the update counts, rows read from the calls to
+ * {@link ResultSet#next()} that returned a row.
+ *
+ * @since 2026-10-18
+ */
+public class QueryStatsListener implements QueryExecutionListener, MethodExecutionListener {
+
+  @Override
+  public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+  }
+
+  @Override
+  public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    QueryStats stats = QueryStats.current();
+    if (stats == null || queryInfoList.isEmpty()) {
+      return;
+    }
+    long rows = updateCount(execInfo.getResult());
+    long elapsed = execInfo.getElapsedTime();
+    for (QueryInfo queryInfo : queryInfoList) {
+      stats.recordStatement(queryInfo.getQuery(), execInfo.isBatch(), rows, elapsed);
+      // The update count and the time belong to the whole execution
+      rows = 0;
+      elapsed = 0;
+    }
+  }
+
+  @Override
+  public void beforeMethod(MethodExecutionContext executionContext) {
+  }
+
+  @Override
+  public void afterMethod(MethodExecutionContext executionContext) {
+    QueryStats stats = QueryStats.current();
+    if (stats != null && executionContext.getTarget() instanceof ResultSet
+        && "next".equals(executionContext.getMethod().getName())
+        && Boolean.TRUE.equals(executionContext.getResult())) {
+      stats.recordRowRead();
+    }
+  }
+
+  private static long updateCount(Object result) {
+    if (result instanceof Integer count) {
+      return Math.max(count, 0);
+    }
+    if (result instanceof Long count) {
+      return Math.max(count, 0);
+    }
+    long total = 0;
+    if (result instanceof int[] counts) {
+      for (int count : counts) {
+        total += Math.max(count, 0);
+      }
+    } else if (result instanceof long[] counts) {
+      for (long count : counts) {
+        total += Math.max(count, 0);
+      }
+    }
+    return total;
+  }
+}
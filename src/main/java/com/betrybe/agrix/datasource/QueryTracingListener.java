@@ -0,0 +1,67 @@
+package com.betrybe.agrix.datasource;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Observes each statement of the proxied DataSource, which makes it a span of the current
+ * trace. The span carries the statement with its literals replaced by placeholders, so no
+ * parameter value leaves the application, and the operation (select, insert, ...).
+ *
+ * @since 2026-10-18
+ */
+public class QueryTracingListener implements QueryExecutionListener {
+
+  private static final ThreadLocal<Deque<Observation>> OBSERVATIONS =
+      ThreadLocal.withInitial(ArrayDeque::new);
+
+  private final ObservationRegistry observationRegistry;
+
+  /**
+   * Constructs a new QueryTracingListener.
+   *
+   * @param observationRegistry The observation registry.
+   */
+  public QueryTracingListener(ObservationRegistry observationRegistry) {
+    this.observationRegistry = observationRegistry;
+  }
+
+  @Override
+  public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    String sql = queryInfoList.isEmpty()
+        ? "" : QueryStats.shapeOf(queryInfoList.get(0).getQuery());
+    Observation observation = Observation.createNotStarted("agrix.jdbc.query",
+            observationRegistry)
+        .contextualName("jdbc " + operationOf(sql))
+        .lowCardinalityKeyValue("db.operation", operationOf(sql))
+        .lowCardinalityKeyValue("db.batch", Boolean.toString(execInfo.isBatch()))
+        .highCardinalityKeyValue("db.statement", sql)
+        .start();
+    OBSERVATIONS.get().push(observation);
+  }
+
+  @Override
+  public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    Observation observation = OBSERVATIONS.get().poll();
+    if (observation == null) {
+      return;
+    }
+    if (execInfo.getThrowable() != null) {
+      observation.error(execInfo.getThrowable());
+    }
+    observation.stop();
+  }
+
+  private static String operationOf(String sql) {
+    int end = sql.indexOf(' ');
+    String operation = end < 0 ? sql : sql.substring(0, end);
+    return operation.isEmpty() ? "unknown" : operation.toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,67 @@
+package com.betrybe.agrix.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Sends the requests of a user to the primary database for a while after that user
+ * successfully wrote something, so reads see the user's own writes even when the replicas
+ * lag behind.
+ *
+ * @since 2026-10-18
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+  private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+  private final Cache<String, Boolean> recentWriters;
+
+  /**
+   * Constructs a new ReadYourWritesFilter.
+   *
+   * @param window     How long a user's requests stay on the primary after a write.
+   * @param maxWriters The largest number of users remembered at once.
+   */
+  public ReadYourWritesFilter(Duration window, long maxWriters) {
+    this.recentWriters = Caffeine.newBuilder()
+        .expireAfterWrite(window)
+        .maximumSize(maxWriters)
+        .build();
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    String username = currentUsername();
+    ReplicaRoutingDataSource.setForcePrimary(
+        username != null && recentWriters.getIfPresent(username) != null);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      ReplicaRoutingDataSource.setForcePrimary(false);
+      if (username != null && !SAFE_METHODS.contains(request.getMethod())
+          && response.getStatus() < 400) {
+        recentWriters.put(username, Boolean.TRUE);
+      }
+    }
+  }
+
+  private static String currentUsername() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+      return null;
+    }
+    return authentication.getName();
+  }
+}
@@ -0,0 +1,296 @@
+package com.betrybe.agrix.datasource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * A DataSource that sends the connections of read-only transactions to one of several
+ * replica pools and every other connection to the primary.
+ *
+ * <p>A replica is chosen round-robin or by fewest connections in use, among the replicas
+ * that are up. A replica is taken down when it fails to hand out a connection or fails a
+ * health check, and is brought back by the next successful health check; while no replica
+ * is up, reads go to the primary.</p>
+ *
+ * <p>The read-only flag of a transaction is only known once the transaction has begun, so
+ * this DataSource must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which defers
+ * taking the connection until the first statement.</p>
+ *
+ * @since 2026-10-18
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+  /**
+   * How a replica is chosen for a read-only transaction.
+   */
+  public enum Balancing {
+    ROUND_ROBIN,
+    LEAST_CONNECTIONS
+  }
+
+  private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+  private final DataSource primary;
+
+  private final List<Replica> replicas;
+
+  private final Balancing balancing;
+
+  private final AtomicInteger nextReplica = new AtomicInteger();
+
+  private ScheduledExecutorService healthChecks;
+
+  /**
+   * Constructs a new ReplicaRoutingDataSource.
+   *
+   * @param primary   The data source of the primary database.
+   * @param replicas  The data sources of the replicas, by name.
+   * @param balancing How a replica is chosen.
+   */
+  public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas,
+      Balancing balancing) {
+    this.primary = primary;
+    this.replicas = List.copyOf(replicas);
+    this.balancing = balancing;
+  }
+
+  /**
+   * Sends every connection taken by the current thread to the primary, or stops doing so.
+   * Used to let a client read its own writes while the replicas catch up.
+   *
+   * @param forcePrimary Whether the current thread must use the primary.
+   */
+  public static void setForcePrimary(boolean forcePrimary) {
+    if (forcePrimary) {
+      FORCE_PRIMARY.set(Boolean.TRUE);
+    } else {
+      FORCE_PRIMARY.remove();
+    }
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    Replica replica = selectReplica();
+    if (replica != null) {
+      try {
+        return replica.connect(replica.dataSource.getConnection());
+      } catch (SQLException e) {
+        replica.markDown();
+      }
+    }
+    return primary.getConnection();
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    Replica replica = selectReplica();
+    if (replica != null) {
+      try {
+        return replica.connect(replica.dataSource.getConnection(username, password));
+      } catch (SQLException e) {
+        replica.markDown();
+      }
+    }
+    return primary.getConnection(username, password);
+  }
+
+  /**
+   * Validates a connection of every replica, taking down the ones that fail and bringing
+   * back the ones that pass.
+   *
+   * @param timeoutSeconds The time a replica has to answer.
+   */
+  public void checkHealth(int timeoutSeconds) {
+    for (Replica replica : replicas) {
+      boolean valid;
+      try (Connection connection = replica.dataSource.getConnection()) {
+        valid = connection.isValid(timeoutSeconds);
+      } catch (SQLException e) {
+        valid = false;
+      }
+      if (valid) {
+        replica.up.set(true);
+      } else {
+        replica.markDown();
+      }
+    }
+  }
+
+  /**
+   * Runs {@link #checkHealth} periodically on a background thread until this DataSource is
+   * closed.
+   *
+   * @param intervalMillis The time between two checks.
+   * @param timeoutSeconds The time a replica has to answer a check.
+   */
+  public synchronized void startHealthChecks(long intervalMillis, int timeoutSeconds) {
+    if (healthChecks != null) {
+      return;
+    }
+    healthChecks = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "replica-health-check");
+      thread.setDaemon(true);
+      return thread;
+    });
+    healthChecks.scheduleWithFixedDelay(() -> checkHealth(timeoutSeconds),
+        intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Stops the health checks and closes the replica pools. The primary is left open.
+   */
+  @Override
+  public synchronized void close() throws Exception {
+    if (healthChecks != null) {
+      healthChecks.shutdownNow();
+    }
+    for (Replica replica : replicas) {
+      if (replica.dataSource instanceof AutoCloseable closeable) {
+        closeable.close();
+      }
+    }
+  }
+
+  /**
+   * Get the replicas, in configuration order.
+   *
+   * @return The replicas.
+   */
+  public List<Replica> getReplicas() {
+    return replicas;
+  }
+
+  private Replica selectReplica() {
+    if (Boolean.TRUE.equals(FORCE_PRIMARY.get())
+        || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      return null;
+    }
+
+    List<Replica> available = new ArrayList<>(replicas.size());
+    for (Replica replica : replicas) {
+      if (replica.up.get()) {
+        available.add(replica);
+      }
+    }
+    if (available.isEmpty()) {
+      return null;
+    }
+
+    if (balancing == Balancing.LEAST_CONNECTIONS) {
+      return available.stream()
+          .min(Comparator.comparingInt(replica -> replica.active.get()))
+          .orElseThrow();
+    }
+    return available.get(Math.floorMod(nextReplica.getAndIncrement(), available.size()));
+  }
+
+  /**
+   * A replica pool, with its state as seen by the routing.
+   */
+  public static class Replica {
+
+    private final String name;
+
+    private final DataSource dataSource;
+
+    private final AtomicBoolean up = new AtomicBoolean(true);
+
+    private final AtomicInteger active = new AtomicInteger();
+
+    private final AtomicLong ejections = new AtomicLong();
+
+    /**
+     * Constructs a new Replica.
+     *
+     * @param name       The name of the replica, used in diagnostics.
+     * @param dataSource The data source of the replica.
+     */
+    public Replica(String name, DataSource dataSource) {
+      this.name = name;
+      this.dataSource = dataSource;
+    }
+
+    /**
+     * Get the name of the replica.
+     *
+     * @return The name of the replica.
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Get the data source of the replica.
+     *
+     * @return The data source.
+     */
+    public DataSource getDataSource() {
+      return dataSource;
+    }
+
+    /**
+     * Whether the replica receives reads.
+     *
+     * @return True unless the replica was taken down and has not passed a health check since.
+     */
+    public boolean isUp() {
+      return up.get();
+    }
+
+    /**
+     * Get the number of connections of the replica in use.
+     *
+     * @return The number of connections handed out and not yet closed.
+     */
+    public int getActiveConnections() {
+      return active.get();
+    }
+
+    /**
+     * Get the number of times the replica was taken down.
+     *
+     * @return The number of ejections.
+     */
+    public long getEjections() {
+      return ejections.get();
+    }
+
+    private void markDown() {
+      if (up.compareAndSet(true, false)) {
+        ejections.incrementAndGet();
+      }
+    }
+
+    // Counts the connection as in use until it is closed, for least-connections balancing.
+    private Connection connect(Connection connection) {
+      active.incrementAndGet();
+      AtomicBoolean closed = new AtomicBoolean();
+      return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+          new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+            if (method.getName().equals("close") && closed.compareAndSet(false, true)) {
+              active.decrementAndGet();
+            }
+            try {
+              return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+              throw e.getTargetException();
+            }
+          });
+    }
+  }
+}
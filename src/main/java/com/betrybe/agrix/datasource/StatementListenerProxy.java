@@ -0,0 +1,103 @@
+package com.betrybe.agrix.datasource;
+
+import java.lang.reflect.Modifier;
+import java.util.List;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+/**
+ * Wraps the application DataSource so the statement listeners of the context, such as the
+ * {@link QueryStatsListener} and the {@link QueryTracingListener}, see every statement.
+ * Without listeners the DataSource is left alone. Only the connections are proxied: the
+ * bean keeps its class, so the pool is still found, tuned and monitored as a
+ * HikariDataSource.
+ *
+ * @since 2026-10-18
+ */
+public class StatementListenerProxy implements BeanPostProcessor, Ordered {
+
+  private final String beanName;
+
+  private final ObjectProvider<QueryExecutionListener> queryListeners;
+
+  private final ObjectProvider<MethodExecutionListener> methodListeners;
+
+  /**
+   * Constructs a new StatementListenerProxy. The listeners are resolved when the DataSource
+   * is created, since bean post-processors are created before the rest of the context.
+   *
+   * @param beanName        The name of the DataSource bean to wrap.
+   * @param queryListeners  The listeners of the statements.
+   * @param methodListeners The listeners of the JDBC method calls.
+   */
+  public StatementListenerProxy(String beanName,
+      ObjectProvider<QueryExecutionListener> queryListeners,
+      ObjectProvider<MethodExecutionListener> methodListeners) {
+    this.beanName = beanName;
+    this.queryListeners = queryListeners;
+    this.methodListeners = methodListeners;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (!this.beanName.equals(beanName) || !(bean instanceof DataSource dataSource)) {
+      return bean;
+    }
+    List<QueryExecutionListener> queries = queryListeners.orderedStream().toList();
+    List<MethodExecutionListener> methods = methodListeners.orderedStream().toList();
+    if (queries.isEmpty() && methods.isEmpty()) {
+      return bean;
+    }
+    return wrap(dataSource, queries, methods);
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.LOWEST_PRECEDENCE;
+  }
+
+  /**
+   * Wraps a DataSource so its statements reach the listeners.
+   *
+   * @param dataSource      The DataSource to wrap.
+   * @param queryListeners  The listeners of the statements.
+   * @param methodListeners The listeners of the JDBC method calls.
+   * @return A proxy of the same class handing out listened connections.
+   */
+  public static DataSource wrap(DataSource dataSource,
+      List<QueryExecutionListener> queryListeners,
+      List<MethodExecutionListener> methodListeners) {
+    ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+        .name("agrix-statements");
+    queryListeners.forEach(builder::listener);
+    methodListeners.forEach(builder::methodListener);
+    if (!methodListeners.isEmpty()) {
+      builder.proxyResultSet();
+    }
+    ProxyDataSource listened = builder.build();
+
+    // Classes that cannot be subclassed, such as the embedded test databases, are proxied by
+    // their interfaces
+    int modifiers = dataSource.getClass().getModifiers();
+    ProxyFactory factory = new ProxyFactory(dataSource);
+    factory.setProxyTargetClass(Modifier.isPublic(modifiers) && !Modifier.isFinal(modifiers));
+    factory.addAdvice((MethodInterceptor) invocation -> {
+      if ("getConnection".equals(invocation.getMethod().getName())) {
+        Object[] arguments = invocation.getArguments();
+        return arguments.length == 0
+            ? listened.getConnection()
+            : listened.getConnection((String) arguments[0], (String) arguments[1]);
+      }
+      return invocation.proceed();
+    });
+    return (DataSource) factory.getProxy(dataSource.getClass().getClassLoader());
+  }
+}
@@ -0,0 +1,30 @@
+package com.betrybe.agrix.exception;
+
+/**
+ * Custom exception class for representing a temporarily overloaded service.
+ * This exception is typically thrown when a bounded resource, such as the password hashing
+ * pool, cannot accept more work.
+ * Extends the {@link RuntimeException} class, making it an unchecked exception.
+ *
+ * @since 2026-10-18
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+  /**
+   * Constructs a new {@code ServiceUnavailableException} with a custom message.
+   *
+   * @param message Custom message describing the details of the exception.
+   */
+  public ServiceUnavailableException(String message) {
+    super(message);
+  }
+
+  /**
+   * Constructs a new {@code ServiceUnavailableException} with no message.
+   * This constructor can be used when a specific error message is not needed.
+   */
+  public ServiceUnavailableException() {
+    super();
+  }
+
+}
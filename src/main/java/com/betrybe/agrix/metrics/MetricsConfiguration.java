@@ -0,0 +1,63 @@
+package com.betrybe.agrix.metrics;
+
+import com.betrybe.agrix.security.PasswordHashingService;
+import com.betrybe.agrix.security.TokenCache;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import java.util.List;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the application metrics published on GET /actuator/prometheus.
+ * Service methods annotated with {@code @Observed} are timed, and traced, by the
+ * {@link ObservedAspect}; the pools and caches created by the application itself, which
+ * Spring Boot does not know about, are bound here.
+ *
+ * <p>Spring Boot already publishes the HTTP request, repository invocation, Hibernate
+ * statistics, Tomcat and JVM metrics; the Hikari pools are published by
+ * {@link com.betrybe.agrix.datasource.PoolMetrics}.</p>
+ *
+ * @since 2026-10-18
+ */
+@Configuration
+public class MetricsConfiguration {
+
+  /**
+   * Observes the methods of the beans annotated with {@code @Observed}.
+   *
+   * @param observationRegistry The observation registry.
+   * @return The observed aspect.
+   */
+  @Bean
+  public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+    return new ObservedAspect(observationRegistry);
+  }
+
+  /**
+   * Publishes the size, queue and completed tasks of the password hashing pool.
+   *
+   * @param passwordHashingService The password hashing service.
+   * @return The binder of the hashing pool.
+   */
+  @Bean
+  public MeterBinder passwordHashingMetrics(PasswordHashingService passwordHashingService) {
+    return registry -> new ExecutorServiceMetrics(passwordHashingService.getExecutor(),
+        "password.hashing", List.of()).bindTo(registry);
+  }
+
+  /**
+   * Publishes the size, hits and misses of the cache of verified tokens.
+   *
+   * @param tokenCache The cache of verified tokens.
+   * @return The binder of the token cache.
+   */
+  @Bean
+  public MeterBinder tokenCacheMetrics(TokenCache tokenCache) {
+    return registry -> CaffeineCacheMetrics.monitor(registry, tokenCache.nativeCache(),
+        "tokens");
+  }
+}
@@ -1,13 +1,17 @@
 package com.betrybe.agrix.models.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
 import java.util.List;
@@ -25,14 +29,18 @@ import java.util.List;
  * @since 2023-08-11
  */
 @Entity
-@Table(name = "crop")
+@Table(name = "crop", indexes = {
+    @Index(name = "idx_crop_harvest_date", columnList = "harvest_date"),
+    @Index(name = "idx_crop_farm_harvest", columnList = "farm_id, harvest_date")
+})
 public class Crop {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "crop_seq")
+  @SequenceGenerator(name = "crop_seq", sequenceName = "crop_seq", allocationSize = 50)
   private Long id;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "farm_id")
   @JsonIgnore
   private Farm farm;
@@ -43,6 +51,8 @@ public class Crop {
 
   private LocalDate plantingDate;
 
+  // Named explicitly so the indexes above can refer to the column
+  @Column(name = "harvest_date")
   private LocalDate harvestDate;
 
   @ManyToMany(mappedBy = "crops")
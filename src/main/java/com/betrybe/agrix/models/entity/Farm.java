@@ -1,10 +1,16 @@
 package com.betrybe.agrix.models.entity;
 
+import com.betrybe.agrix.cache.ReferenceDataChangeListener;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * The Farm class represents a farm in the Agrix application.
@@ -15,13 +21,17 @@ import jakarta.persistence.Table;
  */
 @Entity
 @Table(name = "farm")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "farm")
+@EntityListeners(ReferenceDataChangeListener.class)
 public class Farm {
 
   /**
    * The unique identifier of the farm.
    */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "farm_seq")
+  @SequenceGenerator(name = "farm_seq", sequenceName = "farm_seq", allocationSize = 50)
   private Long id;
 
   /**
@@ -0,0 +1,117 @@
+package com.betrybe.agrix.models.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * The FarmMonthRollup class holds the running totals of the crops of a farm planted in one
+ * month. The rows are kept up to date by {@code RollupService} as crops are written, so the
+ * totals are read without aggregating the crop table.
+ *
+ * <p>This class is an entity mapped to the "farm_month_rollup" table in the database.</p>
+ *
+ * @since 2026-10-18
+ */
+@Entity
+@Table(name = "farm_month_rollup")
+@IdClass(FarmMonthRollup.Key.class)
+public class FarmMonthRollup {
+
+  @Id
+  @Column(name = "farm_id")
+  private Long farmId;
+
+  @Id
+  @Column(name = "planting_year")
+  private Integer plantingYear;
+
+  @Id
+  @Column(name = "planting_month")
+  private Integer plantingMonth;
+
+  @Column(name = "crop_count", nullable = false)
+  private long cropCount;
+
+  @Column(name = "planted_area", nullable = false)
+  private double plantedArea;
+
+  /**
+   * Default constructor for the FarmMonthRollup class.
+   */
+  public FarmMonthRollup() {
+  }
+
+  public Long getFarmId() {
+    return farmId;
+  }
+
+  public Integer getPlantingYear() {
+    return plantingYear;
+  }
+
+  public Integer getPlantingMonth() {
+    return plantingMonth;
+  }
+
+  public long getCropCount() {
+    return cropCount;
+  }
+
+  public double getPlantedArea() {
+    return plantedArea;
+  }
+
+  /**
+   * The primary key of a FarmMonthRollup: the farm and the planting month.
+   */
+  public static class Key implements Serializable {
+
+    private Long farmId;
+
+    private Integer plantingYear;
+
+    private Integer plantingMonth;
+
+    /**
+     * Default constructor for the Key class.
+     */
+    public Key() {
+    }
+
+    /**
+     * Constructor for the Key class.
+     *
+     * @param farmId        The id of the farm.
+     * @param plantingYear  The planting year.
+     * @param plantingMonth The planting month, from 1 to 12.
+     */
+    public Key(Long farmId, Integer plantingYear, Integer plantingMonth) {
+      this.farmId = farmId;
+      this.plantingYear = plantingYear;
+      this.plantingMonth = plantingMonth;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof Key key)) {
+        return false;
+      }
+      return Objects.equals(farmId, key.farmId)
+          && Objects.equals(plantingYear, key.plantingYear)
+          && Objects.equals(plantingMonth, key.plantingMonth);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(farmId, plantingYear, plantingMonth);
+    }
+  }
+}
@@ -1,14 +1,21 @@
 package com.betrybe.agrix.models.entity;
 
+import com.betrybe.agrix.cache.ReferenceDataChangeListener;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.util.List;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * The Fertilizer class represents a fertilizer entity in the Agrix application.
@@ -23,10 +30,14 @@ import java.util.List;
  */
 @Entity
 @Table(name = "fertilizer")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "fertilizer")
+@EntityListeners(ReferenceDataChangeListener.class)
 public class Fertilizer {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fertilizer_seq")
+  @SequenceGenerator(name = "fertilizer_seq", sequenceName = "fertilizer_seq", allocationSize = 50)
   private Long id;
 
   private String name;
@@ -39,7 +50,11 @@ public class Fertilizer {
   @JoinTable(
       name = "crop_fertilizer",
       joinColumns = @JoinColumn(name = "fertilizer_id"),
-      inverseJoinColumns = @JoinColumn(name = "crop_id")
+      inverseJoinColumns = @JoinColumn(name = "crop_id"),
+      indexes = {
+          @Index(name = "idx_crop_fertilizer_pair", columnList = "crop_id, fertilizer_id",
+              unique = true)
+      }
   )
   private List<Crop> crops;
 
@@ -0,0 +1,42 @@
+package com.betrybe.agrix.models.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * The FertilizerUsageRollup class holds the running number of crops a fertilizer is
+ * associated with. The rows are kept up to date by {@code RollupService} as associations
+ * are written, so the totals are read without aggregating the crop_fertilizer table.
+ *
+ * <p>This class is an entity mapped to the "fertilizer_usage_rollup" table in the
+ * database.</p>
+ *
+ * @since 2026-10-18
+ */
+@Entity
+@Table(name = "fertilizer_usage_rollup")
+public class FertilizerUsageRollup {
+
+  @Id
+  @Column(name = "fertilizer_id")
+  private Long fertilizerId;
+
+  @Column(name = "crop_count", nullable = false)
+  private long cropCount;
+
+  /**
+   * Default constructor for the FertilizerUsageRollup class.
+   */
+  public FertilizerUsageRollup() {
+  }
+
+  public Long getFertilizerId() {
+    return fertilizerId;
+  }
+
+  public long getCropCount() {
+    return cropCount;
+  }
+}
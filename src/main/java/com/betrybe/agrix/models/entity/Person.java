@@ -1,12 +1,15 @@
 package com.betrybe.agrix.models.entity;
 
+import com.betrybe.agrix.security.PersonChangeListener;
 import com.betrybe.agrix.security.Role;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import java.util.Collection;
 import java.util.List;
 import org.springframework.security.core.GrantedAuthority;
@@ -27,10 +30,12 @@ import org.springframework.security.core.userdetails.UserDetails;
  * @since 2023-08-17
  */
 @Entity
+@EntityListeners(PersonChangeListener.class)
 public class Person implements UserDetails, GrantedAuthority {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "person_seq")
+  @SequenceGenerator(name = "person_seq", sequenceName = "person_seq", allocationSize = 50)
   private Long id;
 
   @Column(unique = true)
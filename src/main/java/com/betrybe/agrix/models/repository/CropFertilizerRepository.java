@@ -0,0 +1,197 @@
+package com.betrybe.agrix.models.repository;
+
+import com.betrybe.agrix.controllers.dto.CropFertilizerPairDto;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * The CropFertilizerRepository class provides set-based access to the crop_fertilizer
+ * join table through JDBC, without loading the Crop and Fertilizer collections.
+ *
+ * @since 2026-10-18
+ */
+@Repository
+public class CropFertilizerRepository {
+
+  /**
+   * The largest number of ids bound to a single IN clause.
+   */
+  private static final int IN_CLAUSE_SIZE = 1000;
+
+  /**
+   * The largest number of pairs bound to a single row-value IN clause.
+   */
+  private static final int PAIRS_PER_QUERY = IN_CLAUSE_SIZE / 2;
+
+  private static final String INSERT_PAIRS_RETURNING =
+      "insert into crop_fertilizer (crop_id, fertilizer_id) "
+          + "select * from unnest(?, ?) "
+          + "on conflict (crop_id, fertilizer_id) do nothing "
+          + "returning crop_id, fertilizer_id";
+
+  private static final String MERGE_PAIR =
+      "merge into crop_fertilizer c using (select cast(? as bigint) as crop_id, "
+          + "cast(? as bigint) as fertilizer_id) v "
+          + "on c.crop_id = v.crop_id and c.fertilizer_id = v.fertilizer_id "
+          + "when not matched then insert (crop_id, fertilizer_id) "
+          + "values (v.crop_id, v.fertilizer_id)";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  private final DatabaseProduct databaseProduct;
+
+  /**
+   * Constructs a new CropFertilizerRepository.
+   *
+   * @param jdbcTemplate The JDBC template bound to the application data source.
+   */
+  @Autowired
+  public CropFertilizerRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.databaseProduct = new DatabaseProduct(jdbcTemplate.getJdbcTemplate());
+  }
+
+  /**
+   * Retrieves which of the given crop ids exist.
+   *
+   * @param cropIds The crop ids to check.
+   * @return The ids that exist in the crop table.
+   */
+  public Set<Long> findExistingCropIds(Collection<Long> cropIds) {
+    return findExistingIds("select id from crop where id in (:ids)", cropIds);
+  }
+
+  /**
+   * Retrieves which of the given fertilizer ids exist.
+   *
+   * @param fertilizerIds The fertilizer ids to check.
+   * @return The ids that exist in the fertilizer table.
+   */
+  public Set<Long> findExistingFertilizerIds(Collection<Long> fertilizerIds) {
+    return findExistingIds("select id from fertilizer where id in (:ids)", fertilizerIds);
+  }
+
+  /**
+   * Retrieves which of the given pairs are already associated. Only the requested pairs
+   * are looked up, with row-value IN lists of at most {@value #PAIRS_PER_QUERY} pairs.
+   *
+   * @param pairs The pairs to check.
+   * @return The pairs already present in the crop_fertilizer table.
+   */
+  public Set<CropFertilizerPairDto> findExistingPairs(Collection<CropFertilizerPairDto> pairs) {
+    List<Object[]> tuples = new HashSet<>(pairs).stream()
+        .map(pair -> new Object[] {pair.cropId(), pair.fertilizerId()})
+        .toList();
+
+    Set<CropFertilizerPairDto> existing = new HashSet<>();
+    for (int from = 0; from < tuples.size(); from += PAIRS_PER_QUERY) {
+      List<Object[]> chunk = tuples.subList(from, Math.min(from + PAIRS_PER_QUERY,
+          tuples.size()));
+      jdbcTemplate.query(
+          "select crop_id, fertilizer_id from crop_fertilizer "
+              + "where (crop_id, fertilizer_id) in (:pairs)",
+          Map.of("pairs", chunk),
+          resultSet -> {
+            existing.add(new CropFertilizerPairDto(
+                resultSet.getLong("crop_id"), resultSet.getLong("fertilizer_id")));
+          });
+    }
+    return existing;
+  }
+
+  /**
+   * Inserts the given pairs into the crop_fertilizer table, {@code batchSize} rows at a time.
+   * Pairs another transaction associated in the meantime are skipped instead of failing:
+   * idx_crop_fertilizer_pair is unique. On PostgreSQL each chunk is a single INSERT ...
+   * ON CONFLICT DO NOTHING over unnest(?, ?) whose RETURNING clause names the rows written,
+   * since batches rewritten into multi-row inserts report no count per row. Elsewhere the
+   * rows are written by a batch of MERGE statements, which report their own counts.
+   *
+   * @param pairs     The pairs to insert.
+   * @param batchSize The number of rows sent per statement or batch.
+   * @return The pairs actually inserted.
+   */
+  public List<CropFertilizerPairDto> insertPairs(List<CropFertilizerPairDto> pairs,
+      int batchSize) {
+    if (pairs.isEmpty()) {
+      return List.of();
+    }
+    if (databaseProduct.isPostgres()) {
+      List<CropFertilizerPairDto> inserted = new ArrayList<>(pairs.size());
+      for (int from = 0; from < pairs.size(); from += batchSize) {
+        inserted.addAll(insertReturning(
+            pairs.subList(from, Math.min(from + batchSize, pairs.size()))));
+      }
+      return inserted;
+    }
+
+    int[][] counts = jdbcTemplate.getJdbcTemplate().batchUpdate(
+        MERGE_PAIR,
+        pairs,
+        batchSize,
+        (statement, pair) -> {
+          statement.setLong(1, pair.cropId());
+          statement.setLong(2, pair.fertilizerId());
+        });
+
+    List<CropFertilizerPairDto> inserted = new ArrayList<>(pairs.size());
+    int index = 0;
+    for (int[] batch : counts) {
+      for (int count : batch) {
+        if (count > 0) {
+          inserted.add(pairs.get(index));
+        }
+        index++;
+      }
+    }
+    return inserted;
+  }
+
+  private List<CropFertilizerPairDto> insertReturning(List<CropFertilizerPairDto> pairs) {
+    Long[] cropIds = pairs.stream().map(CropFertilizerPairDto::cropId).toArray(Long[]::new);
+    Long[] fertilizerIds = pairs.stream()
+        .map(CropFertilizerPairDto::fertilizerId)
+        .toArray(Long[]::new);
+    return jdbcTemplate.getJdbcTemplate().query(
+        connection -> {
+          PreparedStatement statement = connection.prepareStatement(INSERT_PAIRS_RETURNING);
+          statement.setArray(1, connection.createArrayOf("bigint", cropIds));
+          statement.setArray(2, connection.createArrayOf("bigint", fertilizerIds));
+          return statement;
+        },
+        (resultSet, rowNum) -> new CropFertilizerPairDto(
+            resultSet.getLong("crop_id"), resultSet.getLong("fertilizer_id")));
+  }
+
+  private Set<Long> findExistingIds(String sql, Collection<Long> ids) {
+    Set<Long> existing = new HashSet<>();
+    for (List<Long> idChunk : chunk(new HashSet<>(ids))) {
+      existing.addAll(jdbcTemplate.queryForList(sql, Map.of("ids", idChunk), Long.class));
+    }
+    return existing;
+  }
+
+  private static List<List<Long>> chunk(Collection<Long> ids) {
+    List<List<Long>> chunks = new ArrayList<>();
+    List<Long> current = new ArrayList<>(IN_CLAUSE_SIZE);
+    for (Long id : ids) {
+      current.add(id);
+      if (current.size() == IN_CLAUSE_SIZE) {
+        chunks.add(current);
+        current = new ArrayList<>(IN_CLAUSE_SIZE);
+      }
+    }
+    if (!current.isEmpty()) {
+      chunks.add(current);
+    }
+    return chunks;
+  }
+}
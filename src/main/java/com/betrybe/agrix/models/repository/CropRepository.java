@@ -1,9 +1,22 @@
 package com.betrybe.agrix.models.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+import com.betrybe.agrix.controllers.dto.CropDto;
+import com.betrybe.agrix.controllers.dto.HarvestDayDto;
+import com.betrybe.agrix.controllers.dto.MonthlyPlantedAreaDto;
 import com.betrybe.agrix.models.entity.Crop;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 /**
  * The CropRepository interface provides methods for accessing farms from the database.
@@ -13,6 +26,100 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * @since 2023-08-11
  */
 
-public interface CropRepository extends JpaRepository<Crop, Long> {
-  List<Crop> findByHarvestDateBetween(LocalDate start, LocalDate end);
+public interface CropRepository extends JpaRepository<Crop, Long>, CropSearchRepository {
+
+  /**
+   * The select clause projecting a crop straight into a {@link CropDto}. The farm id is read
+   * from the crop's foreign key, so the farm is neither joined nor loaded.
+   */
+  String CROP_DTO = "select new com.betrybe.agrix.controllers.dto.CropDto("
+      + "c.id, c.name, c.plantedArea, c.farm.id, c.plantingDate, c.harvestDate) ";
+
+  /**
+   * Retrieves a slice of crops belonging to a farm, filtered through the (farm_id, harvest_date)
+   * index and projected into DTOs. A slice reads one extra row to tell whether more crops
+   * follow, so no count query runs.
+   *
+   * @param farmId   The ID of the farm.
+   * @param pageable The page to retrieve.
+   * @return A slice of crops of the given farm.
+   */
+  @Query(CROP_DTO + "from Crop c where c.farm.id = :farmId")
+  Slice<CropDto> findDtoByFarmId(@Param("farmId") Long farmId, Pageable pageable);
+
+  /**
+   * Retrieves the crops with an id greater than the given one, ordered by id and projected
+   * into DTOs.
+   *
+   * @param id       The id after which the page starts.
+   * @param pageable The page size; the page index must be zero.
+   * @return A page of crops.
+   */
+  @Query(CROP_DTO + "from Crop c where c.id > :id order by c.id")
+  List<CropDto> findDtoByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+  /**
+   * Retrieves a crop by id, projected into a DTO.
+   *
+   * @param id The id of the crop.
+   * @return The crop, or an empty Optional if it does not exist.
+   */
+  @Query(CROP_DTO + "from Crop c where c.id = :id")
+  Optional<CropDto> findDtoById(@Param("id") Long id);
+
+  /**
+   * Streams every crop ordered by id, projected into DTOs and fetched from the database in
+   * batches. Must be called inside a transaction, and the stream must be closed.
+   *
+   * @return A stream of all crops.
+   */
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+  @Query(CROP_DTO + "from Crop c order by c.id")
+  Stream<CropDto> streamDtoAll();
+
+  /**
+   * Retrieves the crop count and planted area of a farm per planting month and crop name,
+   * aggregated by the database.
+   *
+   * @param farmId The id of the farm.
+   * @return The totals per month and crop name, in chronological order.
+   */
+  @Query("select new com.betrybe.agrix.controllers.dto.MonthlyPlantedAreaDto("
+      + "extract(year from c.plantingDate), extract(month from c.plantingDate), c.name, "
+      + "count(c.id), sum(c.plantedArea)) "
+      + "from Crop c where c.farm.id = :farmId "
+      + "group by extract(year from c.plantingDate), extract(month from c.plantingDate), c.name "
+      + "order by extract(year from c.plantingDate), extract(month from c.plantingDate), c.name")
+  List<MonthlyPlantedAreaDto> sumPlantedAreaByMonth(@Param("farmId") Long farmId);
+
+  /**
+   * Retrieves the number of crops and planted area harvested on each day of a window,
+   * aggregated by the database over the harvest_date index.
+   *
+   * @param from The first day of the window.
+   * @param to   The last day of the window.
+   * @return The totals of each day with harvests, in chronological order.
+   */
+  @Query("select new com.betrybe.agrix.controllers.dto.HarvestDayDto("
+      + "c.harvestDate, count(c.id), sum(c.plantedArea)) "
+      + "from Crop c where c.harvestDate between :from and :to "
+      + "group by c.harvestDate order by c.harvestDate")
+  List<HarvestDayDto> sumHarvestsByDay(@Param("from") LocalDate from,
+      @Param("to") LocalDate to);
+
+  /**
+   * Retrieves the number of crops and planted area of a farm harvested on each day of a
+   * window, aggregated by the database over the (farm_id, harvest_date) index.
+   *
+   * @param farmId The id of the farm.
+   * @param from   The first day of the window.
+   * @param to     The last day of the window.
+   * @return The totals of each day with harvests, in chronological order.
+   */
+  @Query("select new com.betrybe.agrix.controllers.dto.HarvestDayDto("
+      + "c.harvestDate, count(c.id), sum(c.plantedArea)) "
+      + "from Crop c where c.farm.id = :farmId and c.harvestDate between :from and :to "
+      + "group by c.harvestDate order by c.harvestDate")
+  List<HarvestDayDto> sumHarvestsByDayForFarm(@Param("farmId") Long farmId,
+      @Param("from") LocalDate from, @Param("to") LocalDate to);
 }
@@ -0,0 +1,24 @@
+package com.betrybe.agrix.models.repository;
+
+import com.betrybe.agrix.controllers.dto.CropDto;
+import com.betrybe.agrix.controllers.dto.CropSearchDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * The CropSearchRepository interface is the custom fragment of CropRepository for searches
+ * whose filters are only known at run time.
+ *
+ * @since 2026-10-18
+ */
+public interface CropSearchRepository {
+
+  /**
+   * Retrieves a page of the crops matching every filter that is set, projected into DTOs.
+   *
+   * @param filter   The search filters.
+   * @param pageable The page to retrieve and its order.
+   * @return A page of matching crops.
+   */
+  Page<CropDto> search(CropSearchDto filter, Pageable pageable);
+}
@@ -0,0 +1,112 @@
+package com.betrybe.agrix.models.repository;
+
+import com.betrybe.agrix.controllers.dto.CropDto;
+import com.betrybe.agrix.controllers.dto.CropSearchDto;
+import com.betrybe.agrix.models.entity.Crop;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+/**
+ * Criteria implementation of {@link CropSearchRepository}. Only the filters that are set
+ * become predicates, so each search runs as a single query the database can answer from
+ * the crop indexes: (farm_id, harvest_date) when a farm is given, harvest_date otherwise.
+ * Rows are selected straight into {@link CropDto} records, so no entity is hydrated.
+ *
+ * @since 2026-10-18
+ */
+public class CropSearchRepositoryImpl implements CropSearchRepository {
+
+  private static final char LIKE_ESCAPE = '\\';
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public Page<CropDto> search(CropSearchDto filter, Pageable pageable) {
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+
+    CriteriaQuery<CropDto> query = builder.createQuery(CropDto.class);
+    Root<Crop> crop = query.from(Crop.class);
+    query.select(builder.construct(CropDto.class,
+            crop.get("id"), crop.get("name"), crop.get("plantedArea"),
+            crop.get("farm").get("id"), crop.get("plantingDate"), crop.get("harvestDate")))
+        .where(predicates(builder, crop, filter))
+        .orderBy(QueryUtils.toOrders(pageable.getSort(), crop, builder));
+
+    List<CropDto> content = entityManager.createQuery(query)
+        .setFirstResult((int) pageable.getOffset())
+        .setMaxResults(pageable.getPageSize())
+        .getResultList();
+
+    return PageableExecutionUtils.getPage(content, pageable, () -> count(filter));
+  }
+
+  private long count(CropSearchDto filter) {
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+
+    CriteriaQuery<Long> query = builder.createQuery(Long.class);
+    Root<Crop> crop = query.from(Crop.class);
+    query.select(builder.count(crop)).where(predicates(builder, crop, filter));
+
+    return entityManager.createQuery(query).getSingleResult();
+  }
+
+  private static Predicate[] predicates(CriteriaBuilder builder, Root<Crop> crop,
+      CropSearchDto filter) {
+    List<Predicate> predicates = new ArrayList<>();
+
+    if (filter.farmId() != null) {
+      predicates.add(builder.equal(crop.get("farm").get("id"), filter.farmId()));
+    }
+    if (filter.start() != null) {
+      predicates.add(builder.greaterThanOrEqualTo(
+          crop.<LocalDate>get("harvestDate"), filter.start()));
+    }
+    if (filter.end() != null) {
+      predicates.add(builder.lessThanOrEqualTo(
+          crop.<LocalDate>get("harvestDate"), filter.end()));
+    }
+    if (filter.plantedFrom() != null) {
+      predicates.add(builder.greaterThanOrEqualTo(
+          crop.<LocalDate>get("plantingDate"), filter.plantedFrom()));
+    }
+    if (filter.plantedTo() != null) {
+      predicates.add(builder.lessThanOrEqualTo(
+          crop.<LocalDate>get("plantingDate"), filter.plantedTo()));
+    }
+    if (filter.name() != null && !filter.name().isBlank()) {
+      String prefix = escapeLike(filter.name().trim().toLowerCase(Locale.ROOT));
+      predicates.add(builder.like(
+          builder.lower(crop.<String>get("name")), prefix + "%", LIKE_ESCAPE));
+    }
+    if (filter.minArea() != null) {
+      predicates.add(builder.greaterThanOrEqualTo(
+          crop.<Double>get("plantedArea"), filter.minArea()));
+    }
+    if (filter.maxArea() != null) {
+      predicates.add(builder.lessThanOrEqualTo(
+          crop.<Double>get("plantedArea"), filter.maxArea()));
+    }
+
+    return predicates.toArray(new Predicate[0]);
+  }
+
+  private static String escapeLike(String value) {
+    return value
+        .replace(String.valueOf(LIKE_ESCAPE), "" + LIKE_ESCAPE + LIKE_ESCAPE)
+        .replace("%", LIKE_ESCAPE + "%")
+        .replace("_", LIKE_ESCAPE + "_");
+  }
+}
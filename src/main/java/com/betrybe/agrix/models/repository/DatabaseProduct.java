@@ -0,0 +1,33 @@
+package com.betrybe.agrix.models.repository;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Tells the JDBC repositories whether the application data source is PostgreSQL, so they
+ * can use its INSERT ... ON CONFLICT and fall back to a standard MERGE elsewhere. The
+ * product name is read from the connection metadata on first use and then remembered.
+ *
+ * @since 2026-10-18
+ */
+final class DatabaseProduct {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private volatile Boolean postgres;
+
+  DatabaseProduct(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  boolean isPostgres() {
+    Boolean result = postgres;
+    if (result == null) {
+      String product = jdbcTemplate.execute((ConnectionCallback<String>)
+          connection -> connection.getMetaData().getDatabaseProductName());
+      result = "PostgreSQL".equals(product);
+      postgres = result;
+    }
+    return result;
+  }
+}
@@ -0,0 +1,134 @@
+package com.betrybe.agrix.models.repository;
+
+import com.betrybe.agrix.controllers.dto.CropDto;
+import com.betrybe.agrix.controllers.dto.ExportFilterDto;
+import com.betrybe.agrix.controllers.dto.FertilizerDto;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * The ExportRepository class reads crops and fertilizers for the exports through JDBC.
+ * Rows are read from a forward-only result set with a fixed fetch size and handed over one
+ * at a time, so no query result is ever held in memory as a whole.
+ *
+ * <p>On PostgreSQL the fetch size only takes effect inside a transaction, so callers must
+ * run these methods in one.</p>
+ *
+ * @since 2026-10-18
+ */
+@Repository
+public class ExportRepository {
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  /**
+   * Constructs a new ExportRepository.
+   *
+   * @param dataSource The application data source.
+   * @param fetchSize  The number of rows fetched from the database per round trip.
+   */
+  @Autowired
+  public ExportRepository(DataSource dataSource,
+      @Value("${agrix.export.fetch-size:1000}") int fetchSize) {
+    JdbcTemplate template = new JdbcTemplate(dataSource);
+    template.setFetchSize(fetchSize);
+    this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+  }
+
+  /**
+   * Passes every crop matching the filter to the given action, ordered by id.
+   *
+   * @param filter The filters to apply.
+   * @param action The action applied to each crop.
+   */
+  public void forEachCrop(ExportFilterDto filter, Consumer<CropDto> action) {
+    Map<String, Object> params = new HashMap<>();
+    List<String> conditions = cropConditions(filter, "c", params);
+
+    String sql = "select c.id, c.name, c.planted_area, c.farm_id, c.planting_date, "
+        + "c.harvest_date from crop c"
+        + where(conditions)
+        + " order by c.id";
+
+    jdbcTemplate.query(sql, params, resultSet -> {
+      action.accept(new CropDto(
+          resultSet.getLong("id"),
+          resultSet.getString("name"),
+          resultSet.getObject("planted_area", Double.class),
+          resultSet.getObject("farm_id", Long.class),
+          resultSet.getObject("planting_date", LocalDate.class),
+          resultSet.getObject("harvest_date", LocalDate.class)));
+    });
+  }
+
+  /**
+   * Passes every fertilizer matching the filter to the given action, ordered by id.
+   * When a crop filter is set, only fertilizers associated with a matching crop are kept.
+   *
+   * @param filter The filters to apply.
+   * @param action The action applied to each fertilizer.
+   */
+  public void forEachFertilizer(ExportFilterDto filter, Consumer<FertilizerDto> action) {
+    Map<String, Object> params = new HashMap<>();
+    List<String> conditions = new ArrayList<>();
+    if (filter.hasCropFilter()) {
+      List<String> cropConditions = cropConditions(filter, "c", params);
+      cropConditions.add(0, "cf.fertilizer_id = f.id");
+      conditions.add("exists (select 1 from crop_fertilizer cf "
+          + "join crop c on c.id = cf.crop_id"
+          + where(cropConditions) + ")");
+    }
+
+    String sql = "select f.id, f.name, f.brand, f.composition from fertilizer f"
+        + where(conditions)
+        + " order by f.id";
+
+    jdbcTemplate.query(sql, params, resultSet -> {
+      action.accept(new FertilizerDto(
+          resultSet.getLong("id"),
+          resultSet.getString("name"),
+          resultSet.getString("brand"),
+          resultSet.getString("composition")));
+    });
+  }
+
+  private static List<String> cropConditions(ExportFilterDto filter, String alias,
+      Map<String, Object> params) {
+    List<String> conditions = new ArrayList<>();
+    if (filter.farmId() != null) {
+      conditions.add(alias + ".farm_id = :farmId");
+      params.put("farmId", filter.farmId());
+    }
+    if (filter.plantedFrom() != null) {
+      conditions.add(alias + ".planting_date >= :plantedFrom");
+      params.put("plantedFrom", filter.plantedFrom());
+    }
+    if (filter.plantedTo() != null) {
+      conditions.add(alias + ".planting_date <= :plantedTo");
+      params.put("plantedTo", filter.plantedTo());
+    }
+    if (filter.harvestFrom() != null) {
+      conditions.add(alias + ".harvest_date >= :harvestFrom");
+      params.put("harvestFrom", filter.harvestFrom());
+    }
+    if (filter.harvestTo() != null) {
+      conditions.add(alias + ".harvest_date <= :harvestTo");
+      params.put("harvestTo", filter.harvestTo());
+    }
+    return conditions;
+  }
+
+  private static String where(List<String> conditions) {
+    return conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions);
+  }
+}
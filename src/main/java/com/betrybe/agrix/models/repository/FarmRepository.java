@@ -1,7 +1,20 @@
 package com.betrybe.agrix.models.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+import com.betrybe.agrix.controllers.dto.FarmUtilizationDto;
 import com.betrybe.agrix.models.entity.Farm;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -14,4 +27,59 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface FarmRepository extends JpaRepository<Farm, Long> {
 
-}
\ No newline at end of file
+
+  /**
+   * Retrieves the farms with an id greater than the given one, ordered by id.
+   *
+   * @param id       The id after which the page starts.
+   * @param pageable The page size; the page index must be zero.
+   * @return A page of farms.
+   */
+  List<Farm> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+  /**
+   * Streams every farm ordered by id, fetching rows from the database in batches.
+   * Must be called inside a transaction, and the stream must be closed.
+   *
+   * @return A stream of all farms.
+   */
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+  @Query("select f from Farm f order by f.id")
+  Stream<Farm> streamAllByOrderByIdAsc();
+
+  /**
+   * Retrieves which of the given farm ids exist, in a single query.
+   *
+   * @param ids The farm ids to check.
+   * @return The ids that exist in the farm table.
+   */
+  @Query("select f.id from Farm f where f.id in :ids")
+  Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Retrieves the crop count, planted area and utilization of every farm, aggregated by the
+   * database. Farms without crops are included with zero totals.
+   *
+   * @return The totals of each farm, ordered by farm id.
+   */
+  @Query("select new com.betrybe.agrix.controllers.dto.FarmUtilizationDto("
+      + "f.id, f.name, f.size, count(c.id), sum(c.plantedArea)) "
+      + "from Farm f left join Crop c on c.farm = f "
+      + "group by f.id, f.name, f.size "
+      + "order by f.id")
+  List<FarmUtilizationDto> findUtilization();
+
+  /**
+   * Retrieves the crop count, planted area and utilization of a farm, aggregated by the
+   * database.
+   *
+   * @param farmId The id of the farm.
+   * @return The totals of the farm, or an empty Optional if the farm does not exist.
+   */
+  @Query("select new com.betrybe.agrix.controllers.dto.FarmUtilizationDto("
+      + "f.id, f.name, f.size, count(c.id), sum(c.plantedArea)) "
+      + "from Farm f left join Crop c on c.farm = f "
+      + "where f.id = :farmId "
+      + "group by f.id, f.name, f.size")
+  Optional<FarmUtilizationDto> findUtilizationByFarmId(@Param("farmId") Long farmId);
+}
@@ -1,7 +1,17 @@
 package com.betrybe.agrix.models.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+import com.betrybe.agrix.controllers.dto.FertilizerDto;
 import com.betrybe.agrix.models.entity.Fertilizer;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -15,4 +25,41 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface FertilizerRepository extends JpaRepository<Fertilizer, Long> {
 
-}
\ No newline at end of file
+
+  /**
+   * Retrieves the fertilizers associated with a crop, driven by the crop_fertilizer join table
+   *     and projected straight into DTOs.
+   *
+   * @param cropId The ID of the crop.
+   * @return The fertilizers associated with the crop.
+   */
+  @Query("select new com.betrybe.agrix.controllers.dto.FertilizerDto("
+      + "f.id, f.name, f.brand, f.composition) "
+      + "from Fertilizer f join f.crops c where c.id = :cropId order by f.id")
+  List<FertilizerDto> findDtoByCropId(@Param("cropId") Long cropId);
+
+  /**
+   * Retrieves the fertilizers with an id greater than the given one, ordered by id and
+   * projected into DTOs.
+   *
+   * @param id       The id after which the page starts.
+   * @param pageable The page size; the page index must be zero.
+   * @return A page of fertilizers.
+   */
+  @Query("select new com.betrybe.agrix.controllers.dto.FertilizerDto("
+      + "f.id, f.name, f.brand, f.composition) "
+      + "from Fertilizer f where f.id > :id order by f.id")
+  List<FertilizerDto> findDtoByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+  /**
+   * Streams every fertilizer ordered by id, projected into DTOs and fetched from the
+   * database in batches. Must be called inside a transaction, and the stream must be closed.
+   *
+   * @return A stream of all fertilizers.
+   */
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+  @Query("select new com.betrybe.agrix.controllers.dto.FertilizerDto("
+      + "f.id, f.name, f.brand, f.composition) "
+      + "from Fertilizer f order by f.id")
+  Stream<FertilizerDto> streamDtoAll();
+}
@@ -0,0 +1,238 @@
+package com.betrybe.agrix.models.repository;
+
+import com.betrybe.agrix.controllers.dto.FertilizerUsageDto;
+import com.betrybe.agrix.controllers.dto.MonthlyAreaDto;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * The RollupRepository class reads and maintains the farm_month_rollup and
+ * fertilizer_usage_rollup tables through JDBC.
+ *
+ * <p>Totals are changed with a single upsert that inserts the row of a key or adds to its
+ * stored values. On PostgreSQL it is an INSERT ... ON CONFLICT DO UPDATE, which stays
+ * atomic when concurrent transactions write the same key, including its first row. Other
+ * databases, such as the H2 of the tests, get a standard MERGE; it never loses an update,
+ * but two transactions creating the same row at once may still fail with a duplicate
+ * key.</p>
+ *
+ * @since 2026-10-18
+ */
+@Repository
+public class RollupRepository {
+
+  /**
+   * The totals of a farm for one planting month.
+   */
+  public record FarmMonthTotals(
+      Long farmId, int year, int month, long cropCount, double plantedArea) {}
+
+  /**
+   * The number of crops associated with a fertilizer.
+   */
+  public record FertilizerTotals(Long fertilizerId, long cropCount) {}
+
+  private static final String CROP_MONTH_TOTALS =
+      "select farm_id, cast(extract(year from planting_date) as integer) as planting_year, "
+          + "cast(extract(month from planting_date) as integer) as planting_month, "
+          + "count(*) as crop_count, coalesce(sum(planted_area), 0) as planted_area "
+          + "from crop where farm_id is not null and planting_date is not null "
+          + "group by farm_id, cast(extract(year from planting_date) as integer), "
+          + "cast(extract(month from planting_date) as integer)";
+
+  private static final String FERTILIZER_TOTALS =
+      "select fertilizer_id, count(*) as crop_count from crop_fertilizer group by fertilizer_id";
+
+  private static final String FARM_MONTH_UPSERT =
+      "insert into farm_month_rollup "
+          + "(farm_id, planting_year, planting_month, crop_count, planted_area) "
+          + "values (:farmId, :year, :month, :cropCount, :plantedArea) "
+          + "on conflict (farm_id, planting_year, planting_month) do update set "
+          + "crop_count = farm_month_rollup.crop_count + excluded.crop_count, "
+          + "planted_area = farm_month_rollup.planted_area + excluded.planted_area";
+
+  private static final String FARM_MONTH_MERGE =
+      "merge into farm_month_rollup r using (select cast(:farmId as bigint) as farm_id, "
+          + "cast(:year as integer) as planting_year, cast(:month as integer) as planting_month, "
+          + "cast(:cropCount as bigint) as crop_count, "
+          + "cast(:plantedArea as double precision) as planted_area) v "
+          + "on r.farm_id = v.farm_id and r.planting_year = v.planting_year "
+          + "and r.planting_month = v.planting_month "
+          + "when matched then update set crop_count = r.crop_count + v.crop_count, "
+          + "planted_area = r.planted_area + v.planted_area "
+          + "when not matched then insert "
+          + "(farm_id, planting_year, planting_month, crop_count, planted_area) "
+          + "values (v.farm_id, v.planting_year, v.planting_month, v.crop_count, "
+          + "v.planted_area)";
+
+  private static final String FERTILIZER_USAGE_UPSERT =
+      "insert into fertilizer_usage_rollup (fertilizer_id, crop_count) "
+          + "values (:fertilizerId, :cropCount) "
+          + "on conflict (fertilizer_id) do update set "
+          + "crop_count = fertilizer_usage_rollup.crop_count + excluded.crop_count";
+
+  private static final String FERTILIZER_USAGE_MERGE =
+      "merge into fertilizer_usage_rollup r using (select cast(:fertilizerId as bigint) "
+          + "as fertilizer_id, cast(:cropCount as bigint) as crop_count) v "
+          + "on r.fertilizer_id = v.fertilizer_id "
+          + "when matched then update set crop_count = r.crop_count + v.crop_count "
+          + "when not matched then insert (fertilizer_id, crop_count) "
+          + "values (v.fertilizer_id, v.crop_count)";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  private final DatabaseProduct databaseProduct;
+
+  /**
+   * Constructs a new RollupRepository.
+   *
+   * @param jdbcTemplate The JDBC template bound to the application data source.
+   */
+  @Autowired
+  public RollupRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.databaseProduct = new DatabaseProduct(jdbcTemplate.getJdbcTemplate());
+  }
+
+  /**
+   * Adds crops to the totals of a farm for one planting month. Negative values remove them.
+   *
+   * @param totals The crop count and planted area to add.
+   */
+  public void addFarmMonth(FarmMonthTotals totals) {
+    Map<String, Object> params = Map.of(
+        "farmId", totals.farmId(),
+        "year", totals.year(),
+        "month", totals.month(),
+        "cropCount", totals.cropCount(),
+        "plantedArea", totals.plantedArea());
+
+    jdbcTemplate.update(
+        databaseProduct.isPostgres() ? FARM_MONTH_UPSERT : FARM_MONTH_MERGE, params);
+  }
+
+  /**
+   * Adds associated crops to the usage of a fertilizer. Negative values remove them.
+   *
+   * @param totals The number of crops to add.
+   */
+  public void addFertilizerUsage(FertilizerTotals totals) {
+    Map<String, Object> params = Map.of(
+        "fertilizerId", totals.fertilizerId(),
+        "cropCount", totals.cropCount());
+
+    jdbcTemplate.update(
+        databaseProduct.isPostgres() ? FERTILIZER_USAGE_UPSERT : FERTILIZER_USAGE_MERGE,
+        params);
+  }
+
+  /**
+   * Retrieves the monthly totals of a farm from the rollup.
+   *
+   * @param farmId The id of the farm.
+   * @return The totals of each planting month with crops, in chronological order.
+   */
+  public List<MonthlyAreaDto> findFarmMonths(Long farmId) {
+    return jdbcTemplate.query(
+        "select planting_year, planting_month, crop_count, planted_area "
+            + "from farm_month_rollup where farm_id = :farmId and crop_count > 0 "
+            + "order by planting_year, planting_month",
+        Map.of("farmId", farmId),
+        (resultSet, row) -> new MonthlyAreaDto(
+            resultSet.getInt("planting_year"),
+            resultSet.getInt("planting_month"),
+            resultSet.getLong("crop_count"),
+            resultSet.getDouble("planted_area")));
+  }
+
+  /**
+   * Retrieves the number of crops associated with each fertilizer from the rollup.
+   *
+   * @return The usage of each fertilizer, ordered by fertilizer id.
+   */
+  public List<FertilizerUsageDto> findFertilizerUsage() {
+    return jdbcTemplate.query(
+        "select f.id, f.name, coalesce(r.crop_count, 0) as crop_count "
+            + "from fertilizer f "
+            + "left join fertilizer_usage_rollup r on r.fertilizer_id = f.id "
+            + "order by f.id",
+        (resultSet, row) -> new FertilizerUsageDto(
+            resultSet.getLong("id"),
+            resultSet.getString("name"),
+            resultSet.getLong("crop_count")));
+  }
+
+  /**
+   * Retrieves every row of the farm_month_rollup table.
+   *
+   * @return The stored monthly totals.
+   */
+  public List<FarmMonthTotals> findAllFarmMonths() {
+    return jdbcTemplate.query(
+        "select farm_id, planting_year, planting_month, crop_count, planted_area "
+            + "from farm_month_rollup where crop_count <> 0 or planted_area <> 0",
+        (resultSet, row) -> farmMonthTotals(resultSet));
+  }
+
+  /**
+   * Computes the monthly totals of every farm from the crop table.
+   *
+   * @return The monthly totals recomputed from scratch.
+   */
+  public List<FarmMonthTotals> computeFarmMonths() {
+    return jdbcTemplate.query(CROP_MONTH_TOTALS, (resultSet, row) -> farmMonthTotals(resultSet));
+  }
+
+  /**
+   * Retrieves every row of the fertilizer_usage_rollup table.
+   *
+   * @return The stored fertilizer usage.
+   */
+  public List<FertilizerTotals> findAllFertilizerUsage() {
+    return jdbcTemplate.query(
+        "select fertilizer_id, crop_count from fertilizer_usage_rollup where crop_count <> 0",
+        (resultSet, row) -> new FertilizerTotals(
+            resultSet.getLong("fertilizer_id"), resultSet.getLong("crop_count")));
+  }
+
+  /**
+   * Computes the usage of every fertilizer from the crop_fertilizer table.
+   *
+   * @return The fertilizer usage recomputed from scratch.
+   */
+  public List<FertilizerTotals> computeFertilizerUsage() {
+    return jdbcTemplate.query(FERTILIZER_TOTALS,
+        (resultSet, row) -> new FertilizerTotals(
+            resultSet.getLong("fertilizer_id"), resultSet.getLong("crop_count")));
+  }
+
+  /**
+   * Replaces the contents of both rollup tables with totals recomputed from the crop and
+   * crop_fertilizer tables.
+   */
+  public void rebuild() {
+    jdbcTemplate.getJdbcTemplate().update("delete from farm_month_rollup");
+    jdbcTemplate.getJdbcTemplate().update(
+        "insert into farm_month_rollup "
+            + "(farm_id, planting_year, planting_month, crop_count, planted_area) "
+            + CROP_MONTH_TOTALS);
+
+    jdbcTemplate.getJdbcTemplate().update("delete from fertilizer_usage_rollup");
+    jdbcTemplate.getJdbcTemplate().update(
+        "insert into fertilizer_usage_rollup (fertilizer_id, crop_count) " + FERTILIZER_TOTALS);
+  }
+
+  private static FarmMonthTotals farmMonthTotals(ResultSet resultSet) throws SQLException {
+    return new FarmMonthTotals(
+        resultSet.getLong("farm_id"),
+        resultSet.getInt("planting_year"),
+        resultSet.getInt("planting_month"),
+        resultSet.getLong("crop_count"),
+        resultSet.getDouble("planted_area"));
+  }
+}
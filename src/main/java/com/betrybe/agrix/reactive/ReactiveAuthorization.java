@@ -0,0 +1,92 @@
+package com.betrybe.agrix.reactive;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.betrybe.agrix.models.entity.Person;
+import com.betrybe.agrix.security.Role;
+import com.betrybe.agrix.security.TokenCache;
+import com.betrybe.agrix.security.TokenCache.VerifiedToken;
+import com.betrybe.agrix.services.PersonService;
+import com.betrybe.agrix.services.TokenService;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Checks the bearer token of the reactive read API requests, with the same tokens, cache
+ * and roles as the servlet API. Verifying a token not yet cached loads its person with JPA,
+ * so that lookup runs on the bounded elastic scheduler instead of a Netty event loop.
+ *
+ * @since 2026-10-18
+ */
+public class ReactiveAuthorization {
+
+  private final TokenService tokenService;
+
+  private final PersonService personService;
+
+  private final TokenCache tokenCache;
+
+  /**
+   * Constructs a new ReactiveAuthorization.
+   *
+   * @param tokenService  The service verifying the tokens.
+   * @param personService The service loading the person of a token.
+   * @param tokenCache    The cache of verified tokens.
+   */
+  public ReactiveAuthorization(TokenService tokenService, PersonService personService,
+      TokenCache tokenCache) {
+    this.tokenService = tokenService;
+    this.personService = personService;
+    this.tokenCache = tokenCache;
+  }
+
+  /**
+   * Lets through the requests with a valid token, whatever the role.
+   *
+   * @return The filter of the routes.
+   */
+  public HandlerFilterFunction<ServerResponse, ServerResponse> authenticated() {
+    return hasAnyRole(Role.values());
+  }
+
+  /**
+   * Lets through the requests with a valid token of a person with one of the roles.
+   *
+   * @param roles The roles allowed.
+   * @return The filter of the routes.
+   */
+  public HandlerFilterFunction<ServerResponse, ServerResponse> hasAnyRole(Role... roles) {
+    Set<String> allowed = Arrays.stream(roles).map(Role::getName).collect(Collectors.toSet());
+    return (request, next) -> {
+      String authHeader = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
+      if (authHeader == null) {
+        return forbidden();
+      }
+      String token = authHeader.replace("Bearer ", "");
+      return Mono.fromCallable(() -> tokenCache.get(token, this::verifyToken))
+          .subscribeOn(Schedulers.boundedElastic())
+          .flatMap(verified -> verified.authorities().stream()
+              .map(GrantedAuthority::getAuthority)
+              .anyMatch(allowed::contains) ? next.handle(request) : forbidden())
+          .onErrorResume(RuntimeException.class, e -> forbidden());
+    };
+  }
+
+  private VerifiedToken verifyToken(String token) {
+    DecodedJWT decoded = tokenService.verifyToken(token);
+    Person person = personService.getPersonByUsername(decoded.getSubject());
+
+    return VerifiedToken.of(person, decoded.getExpiresAtAsInstant());
+  }
+
+  private static Mono<ServerResponse> forbidden() {
+    return ServerResponse.status(HttpStatus.FORBIDDEN).bodyValue("Acesso negado!");
+  }
+}
@@ -0,0 +1,224 @@
+package com.betrybe.agrix.reactive;
+
+import com.betrybe.agrix.controllers.dto.CropDto;
+import com.betrybe.agrix.controllers.dto.CropSearchDto;
+import com.betrybe.agrix.controllers.dto.FarmDto;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking reads of farms and crops over R2DBC, for the reactive read API. Rows are
+ * fetched from the database as the client consumes them: the driver reads fetchSize rows
+ * at a time, and only asks for more when the previous ones were written out.
+ *
+ * @since 2026-10-18
+ */
+public class ReactiveCropRepository implements DisposableBean {
+
+  private static final String CROP_COLUMNS =
+      "select id, name, planted_area, farm_id, planting_date, harvest_date from crop";
+
+  private static final char LIKE_ESCAPE = '\\';
+
+  private static final Map<String, String> SORTABLE_COLUMNS = Map.of(
+      "id", "id",
+      "name", "name",
+      "plantedArea", "planted_area",
+      "plantedDate", "planting_date",
+      "harvestDate", "harvest_date"
+  );
+
+  private final ConnectionFactory connectionFactory;
+
+  private final DatabaseClient databaseClient;
+
+  private final int fetchSize;
+
+  /**
+   * Constructs a new ReactiveCropRepository.
+   *
+   * @param connectionFactory The R2DBC connections, closed with the repository when pooled.
+   * @param fetchSize         The number of rows fetched from the database at a time.
+   */
+  public ReactiveCropRepository(ConnectionFactory connectionFactory, int fetchSize) {
+    this.connectionFactory = connectionFactory;
+    this.databaseClient = DatabaseClient.create(connectionFactory);
+    this.fetchSize = fetchSize;
+  }
+
+  /**
+   * Streams every farm, ordered by id.
+   *
+   * @return The farms.
+   */
+  public Flux<FarmDto> findAllFarms() {
+    return databaseClient.sql("select id, name, size from farm order by id")
+        .filter(statement -> statement.fetchSize(fetchSize))
+        .map(ReactiveCropRepository::toFarm)
+        .all();
+  }
+
+  /**
+   * Finds a farm by id.
+   *
+   * @param id The id of the farm.
+   * @return The farm, or empty when it does not exist.
+   */
+  public Mono<FarmDto> findFarmById(Long id) {
+    return databaseClient.sql("select id, name, size from farm where id = :id")
+        .bind("id", id)
+        .map(ReactiveCropRepository::toFarm)
+        .one();
+  }
+
+  /**
+   * Streams every crop, ordered by id.
+   *
+   * @return The crops.
+   */
+  public Flux<CropDto> findAllCrops() {
+    return databaseClient.sql(CROP_COLUMNS + " order by id")
+        .filter(statement -> statement.fetchSize(fetchSize))
+        .map(ReactiveCropRepository::toCrop)
+        .all();
+  }
+
+  /**
+   * Streams the crops of a farm, ordered by id.
+   *
+   * @param farmId The id of the farm.
+   * @return The crops of the farm.
+   */
+  public Flux<CropDto> findCropsByFarmId(Long farmId) {
+    return databaseClient.sql(CROP_COLUMNS + " where farm_id = :farmId order by id")
+        .bind("farmId", farmId)
+        .filter(statement -> statement.fetchSize(fetchSize))
+        .map(ReactiveCropRepository::toCrop)
+        .all();
+  }
+
+  /**
+   * Finds a crop by id.
+   *
+   * @param id The id of the crop.
+   * @return The crop, or empty when it does not exist.
+   */
+  public Mono<CropDto> findCropById(Long id) {
+    return databaseClient.sql(CROP_COLUMNS + " where id = :id")
+        .bind("id", id)
+        .map(ReactiveCropRepository::toCrop)
+        .one();
+  }
+
+  /**
+   * Streams one page of the crops matching the filters, with the same filters as the crop
+   * search of the servlet API.
+   *
+   * @param filter    The search filters; the ones left empty are ignored.
+   * @param sortField The field the crops are ordered by, one of id, name, plantedArea,
+   *                  plantedDate or harvestDate.
+   * @param ascending Whether the order is ascending.
+   * @param offset    The number of matching crops skipped.
+   * @param limit     The largest number of crops returned.
+   * @return The matching crops of the page.
+   * @throws IllegalArgumentException If the sort field is not supported.
+   */
+  public Flux<CropDto> search(CropSearchDto filter, String sortField, boolean ascending,
+      long offset, int limit) {
+    String sortColumn = SORTABLE_COLUMNS.get(sortField);
+    if (sortColumn == null) {
+      throw new IllegalArgumentException(sortField);
+    }
+
+    Map<String, Object> binds = new LinkedHashMap<>();
+    StringBuilder sql = new StringBuilder(CROP_COLUMNS).append(" where 1 = 1");
+    if (filter.farmId() != null) {
+      sql.append(" and farm_id = :farmId");
+      binds.put("farmId", filter.farmId());
+    }
+    if (filter.start() != null) {
+      sql.append(" and harvest_date >= :start");
+      binds.put("start", filter.start());
+    }
+    if (filter.end() != null) {
+      sql.append(" and harvest_date <= :end");
+      binds.put("end", filter.end());
+    }
+    if (filter.plantedFrom() != null) {
+      sql.append(" and planting_date >= :plantedFrom");
+      binds.put("plantedFrom", filter.plantedFrom());
+    }
+    if (filter.plantedTo() != null) {
+      sql.append(" and planting_date <= :plantedTo");
+      binds.put("plantedTo", filter.plantedTo());
+    }
+    if (filter.name() != null && !filter.name().isBlank()) {
+      sql.append(" and lower(name) like :name escape '").append(LIKE_ESCAPE).append("'");
+      binds.put("name", escapeLike(filter.name().trim().toLowerCase(Locale.ROOT)) + "%");
+    }
+    if (filter.minArea() != null) {
+      sql.append(" and planted_area >= :minArea");
+      binds.put("minArea", filter.minArea());
+    }
+    if (filter.maxArea() != null) {
+      sql.append(" and planted_area <= :maxArea");
+      binds.put("maxArea", filter.maxArea());
+    }
+    String direction = ascending ? " asc" : " desc";
+    sql.append(" order by ").append(sortColumn).append(direction);
+    if (!sortColumn.equals("id")) {
+      sql.append(", id");
+    }
+    sql.append(" limit :limit offset :offset");
+    binds.put("limit", limit);
+    binds.put("offset", offset);
+
+    GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+    for (Map.Entry<String, Object> bind : binds.entrySet()) {
+      spec = spec.bind(bind.getKey(), bind.getValue());
+    }
+    return spec.filter(statement -> statement.fetchSize(fetchSize))
+        .map(ReactiveCropRepository::toCrop)
+        .all();
+  }
+
+  @Override
+  public void destroy() {
+    if (connectionFactory instanceof ConnectionPool pool) {
+      pool.dispose();
+    }
+  }
+
+  private static FarmDto toFarm(Readable row) {
+    return new FarmDto(row.get("id", Long.class), row.get("name", String.class),
+        row.get("size", Double.class));
+  }
+
+  private static CropDto toCrop(Readable row) {
+    return new CropDto(
+        row.get("id", Long.class),
+        row.get("name", String.class),
+        row.get("planted_area", Double.class),
+        row.get("farm_id", Long.class),
+        row.get("planting_date", LocalDate.class),
+        row.get("harvest_date", LocalDate.class)
+    );
+  }
+
+  private static String escapeLike(String value) {
+    return value
+        .replace(String.valueOf(LIKE_ESCAPE), "" + LIKE_ESCAPE + LIKE_ESCAPE)
+        .replace("%", LIKE_ESCAPE + "%")
+        .replace("_", LIKE_ESCAPE + "_");
+  }
+}
@@ -0,0 +1,123 @@
+package com.betrybe.agrix.reactive;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+import com.betrybe.agrix.security.Role;
+import com.betrybe.agrix.security.TokenCache;
+import com.betrybe.agrix.services.PersonService;
+import com.betrybe.agrix.services.TokenService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Configuration of the reactive read API, active when agrix.reactive.enabled is true. GET
+ * requests on farms, crops and the crop search are served under /reactive by a Netty
+ * server on agrix.reactive.port, reading the database over R2DBC, while the servlet API
+ * keeps serving everything on the main port.
+ *
+ * <p>The R2DBC connection pool is not exposed as a ConnectionFactory bean, since Spring
+ * Boot would then skip the JDBC DataSource of the servlet API.</p>
+ *
+ * @since 2026-10-18
+ */
+@Configuration
+@ConditionalOnProperty("agrix.reactive.enabled")
+public class ReactiveReadConfiguration {
+
+  /**
+   * The non-blocking reads of farms and crops, over a pool of R2DBC connections.
+   *
+   * @param url       The R2DBC URL of the database.
+   * @param username  The user of the database.
+   * @param password  The password of the database.
+   * @param poolSize  The largest number of R2DBC connections.
+   * @param fetchSize The number of rows fetched from the database at a time.
+   * @return The reactive repository.
+   */
+  @Bean
+  public ReactiveCropRepository reactiveCropRepository(
+      @Value("${agrix.reactive.url}") String url,
+      @Value("${agrix.reactive.username:${spring.datasource.username:}}") String username,
+      @Value("${agrix.reactive.password:${spring.datasource.password:}}") String password,
+      @Value("${agrix.reactive.pool-size:10}") int poolSize,
+      @Value("${agrix.reactive.fetch-size:250}") int fetchSize) {
+    ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+        .option(ConnectionFactoryOptions.USER, username)
+        .option(ConnectionFactoryOptions.PASSWORD, password)
+        .build();
+    ConnectionPool pool = new ConnectionPool(
+        ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+            .name("agrix-reactive")
+            .maxSize(poolSize)
+            .build());
+    return new ReactiveCropRepository(pool, fetchSize);
+  }
+
+  /**
+   * The routes of the reactive read API, with the same roles as their servlet
+   * counterparts.
+   *
+   * @param repository    The reactive repository.
+   * @param tokenService  The service verifying the tokens.
+   * @param personService The service loading the person of a token.
+   * @param tokenCache    The cache of verified tokens.
+   * @return The routes.
+   */
+  @Bean
+  public RouterFunction<ServerResponse> reactiveReadRoutes(ReactiveCropRepository repository,
+      TokenService tokenService, PersonService personService, TokenCache tokenCache) {
+    ReactiveReadHandler handler = new ReactiveReadHandler(repository);
+    ReactiveAuthorization authorization =
+        new ReactiveAuthorization(tokenService, personService, tokenCache);
+
+    return route()
+        .GET("/reactive/farms", handler::getAllFarm)
+        .GET("/reactive/farms/{id}", handler::getFarmById)
+        .filter(authorization.hasAnyRole(Role.ADMIN, Role.MANAGER, Role.USER))
+        .build()
+        .and(route()
+            .GET("/reactive/crops", handler::getAllCrop)
+            .filter(authorization.hasAnyRole(Role.ADMIN, Role.MANAGER))
+            .build())
+        .and(route()
+            .GET("/reactive/farms/{farmId}/crops", handler::getCropsByFarmId)
+            .GET("/reactive/crops/search", handler::searchCrops)
+            .GET("/reactive/crops/{id}", handler::getCropById)
+            .filter(authorization.authenticated())
+            .build());
+  }
+
+  /**
+   * The Netty server of the reactive read API, encoding JSON with the mapper of the
+   * servlet API so both answer with the same format.
+   *
+   * @param routes       The routes.
+   * @param objectMapper The JSON mapper of the application.
+   * @param port         The port to listen on.
+   * @return The server.
+   */
+  @Bean
+  public ReactiveReadServer reactiveReadServer(RouterFunction<ServerResponse> routes,
+      ObjectMapper objectMapper, @Value("${agrix.reactive.port:8081}") int port) {
+    HandlerStrategies strategies = HandlerStrategies.builder()
+        .codecs(codecs -> {
+          codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+          codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+        })
+        .build();
+    return new ReactiveReadServer(RouterFunctions.toHttpHandler(routes, strategies), port);
+  }
+}
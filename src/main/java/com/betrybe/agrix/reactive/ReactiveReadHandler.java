@@ -0,0 +1,167 @@
+package com.betrybe.agrix.reactive;
+
+import com.betrybe.agrix.controllers.dto.CropDto;
+import com.betrybe.agrix.controllers.dto.CropSearchDto;
+import com.betrybe.agrix.controllers.dto.FarmDto;
+import com.betrybe.agrix.services.CropService;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.function.Function;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * The handlers of the reactive read API. Lists are streamed as newline-delimited JSON,
+ * one farm or crop per line, written as the rows arrive from the database.
+ *
+ * @since 2026-10-18
+ */
+public class ReactiveReadHandler {
+
+  private final ReactiveCropRepository repository;
+
+  /**
+   * Constructs a new ReactiveReadHandler.
+   *
+   * @param repository The non-blocking reads of farms and crops.
+   */
+  public ReactiveReadHandler(ReactiveCropRepository repository) {
+    this.repository = repository;
+  }
+
+  /**
+   * Streams every farm.
+   *
+   * @param request The request.
+   * @return A response streaming the farms, ordered by id.
+   */
+  public Mono<ServerResponse> getAllFarm(ServerRequest request) {
+    return ServerResponse.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(repository.findAllFarms(), FarmDto.class);
+  }
+
+  /**
+   * Gets a farm by id.
+   *
+   * @param request The request, with the id of the farm in the path.
+   * @return A response with the farm, or 404 when it does not exist.
+   */
+  public Mono<ServerResponse> getFarmById(ServerRequest request) {
+    return parseId(request, "id", id -> repository.findFarmById(id)
+        .flatMap(farm -> ServerResponse.ok().bodyValue(farm))
+        .switchIfEmpty(notFound("Fazenda não encontrada!")));
+  }
+
+  /**
+   * Streams the crops of a farm.
+   *
+   * @param request The request, with the id of the farm in the path.
+   * @return A response streaming the crops of the farm, or 404 when it does not exist.
+   */
+  public Mono<ServerResponse> getCropsByFarmId(ServerRequest request) {
+    return parseId(request, "farmId", farmId -> repository.findFarmById(farmId)
+        .flatMap(farm -> ServerResponse.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(repository.findCropsByFarmId(farmId), CropDto.class))
+        .switchIfEmpty(notFound("Fazenda não encontrada!")));
+  }
+
+  /**
+   * Streams every crop.
+   *
+   * @param request The request.
+   * @return A response streaming the crops, ordered by id.
+   */
+  public Mono<ServerResponse> getAllCrop(ServerRequest request) {
+    return ServerResponse.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(repository.findAllCrops(), CropDto.class);
+  }
+
+  /**
+   * Gets a crop by id.
+   *
+   * @param request The request, with the id of the crop in the path.
+   * @return A response with the crop, or 404 when it does not exist.
+   */
+  public Mono<ServerResponse> getCropById(ServerRequest request) {
+    return parseId(request, "id", id -> repository.findCropById(id)
+        .flatMap(crop -> ServerResponse.ok().bodyValue(crop))
+        .switchIfEmpty(notFound("Plantação não encontrada!")));
+  }
+
+  /**
+   * Streams one page of the crops matching the filters, with the query parameters of the
+   * crop search of the servlet API: start, end, plantedFrom, plantedTo, farmId, name,
+   * minArea, maxArea, page, size and sort.
+   *
+   * @param request The request.
+   * @return A response streaming the matching crops, or 400 when a parameter is invalid.
+   */
+  public Mono<ServerResponse> searchCrops(ServerRequest request) {
+    CropSearchDto filter;
+    int page;
+    int size;
+    try {
+      filter = new CropSearchDto(
+          param(request, "start", LocalDate::parse),
+          param(request, "end", LocalDate::parse),
+          param(request, "plantedFrom", LocalDate::parse),
+          param(request, "plantedTo", LocalDate::parse),
+          param(request, "farmId", Long::valueOf),
+          request.queryParam("name").orElse(null),
+          param(request, "minArea", Double::valueOf),
+          param(request, "maxArea", Double::valueOf)
+      );
+      page = Optional.ofNullable(param(request, "page", Integer::valueOf)).orElse(0);
+      size = Optional.ofNullable(param(request, "size", Integer::valueOf)).orElse(100);
+    } catch (NumberFormatException | DateTimeParseException e) {
+      return badRequest("Parâmetro inválido!");
+    }
+    if (page < 0 || size < 1 || size > CropService.MAX_PAGE_SIZE) {
+      return badRequest("Paginação inválida!");
+    }
+
+    String[] sort = request.queryParam("sort").orElse("harvestDate,asc").split(",");
+    if (sort.length > 2 || (sort.length == 2 && !sort[1].trim().matches("(?i)asc|desc"))) {
+      return badRequest("Ordenação inválida!");
+    }
+    boolean ascending = sort.length == 1 || sort[1].trim().equalsIgnoreCase("asc");
+    try {
+      return ServerResponse.ok()
+          .contentType(MediaType.APPLICATION_NDJSON)
+          .body(repository.search(filter, sort[0].trim(), ascending, (long) page * size, size),
+              CropDto.class);
+    } catch (IllegalArgumentException e) {
+      return badRequest("Ordenação inválida!");
+    }
+  }
+
+  private static <T> T param(ServerRequest request, String name, Function<String, T> parser) {
+    return request.queryParam(name).filter(value -> !value.isBlank()).map(parser).orElse(null);
+  }
+
+  private static Mono<ServerResponse> parseId(ServerRequest request, String name,
+      Function<Long, Mono<ServerResponse>> handler) {
+    long id;
+    try {
+      id = Long.parseLong(request.pathVariable(name));
+    } catch (NumberFormatException e) {
+      return badRequest("Parâmetro inválido!");
+    }
+    return handler.apply(id);
+  }
+
+  private static Mono<ServerResponse> notFound(String message) {
+    return ServerResponse.status(HttpStatus.NOT_FOUND).bodyValue(message);
+  }
+
+  private static Mono<ServerResponse> badRequest(String message) {
+    return ServerResponse.badRequest().bodyValue(message);
+  }
+}
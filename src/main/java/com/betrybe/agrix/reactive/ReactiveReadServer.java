@@ -0,0 +1,66 @@
+package com.betrybe.agrix.reactive;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * The Netty server of the reactive read API. It runs next to the Tomcat server of the
+ * servlet API, on its own port, and serves every connection from a few event loop threads,
+ * however many clients are connected and however slowly they read.
+ *
+ * @since 2026-10-18
+ */
+public class ReactiveReadServer implements SmartLifecycle {
+
+  private final HttpHandler httpHandler;
+
+  private final int port;
+
+  private volatile DisposableServer server;
+
+  /**
+   * Constructs a new ReactiveReadServer.
+   *
+   * @param httpHandler The handler of the requests.
+   * @param port        The port to listen on; zero picks a free port.
+   */
+  public ReactiveReadServer(HttpHandler httpHandler, int port) {
+    this.httpHandler = httpHandler;
+    this.port = port;
+  }
+
+  @Override
+  public void start() {
+    server = HttpServer.create()
+        .port(port)
+        .handle(new ReactorHttpHandlerAdapter(httpHandler))
+        .bindNow();
+  }
+
+  @Override
+  public void stop() {
+    DisposableServer running = server;
+    if (running != null) {
+      running.disposeNow();
+      server = null;
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return server != null;
+  }
+
+  /**
+   * Get the port the server listens on.
+   *
+   * @return The port, or -1 when the server is not running.
+   */
+  public int getPort() {
+    DisposableServer running = server;
+    return running == null ? -1 : running.port();
+  }
+}
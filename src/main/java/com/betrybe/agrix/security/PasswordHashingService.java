@@ -0,0 +1,235 @@
+package com.betrybe.agrix.security;
+
+import com.betrybe.agrix.exception.ServiceUnavailableException;
+import com.betrybe.agrix.tracing.ContextPropagatingTaskDecorator;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * The single PasswordEncoder of the application.
+ * Hashing runs on a dedicated, bounded pool of threads, so a burst of logins or signups
+ * cannot take every request thread with CPU-bound work; when the pool and its queue are
+ * full the request fails fast with a {@link ServiceUnavailableException}.
+ *
+ * <p>New hashes use the configured algorithm (bcrypt, pbkdf2 or argon2) and are stored with
+ * an "{id}" prefix. Hashes without a prefix are read as bcrypt. When a stored hash uses
+ * another algorithm or a lower cost than the configured one, {@link #upgradeEncoding}
+ * reports it, and Spring Security rehashes the password on the next successful login.</p>
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class PasswordHashingService implements PasswordEncoder {
+
+  private final String algorithm;
+
+  private final PasswordEncoder delegate;
+
+  private final ThreadPoolExecutor executor;
+
+  private final int queueCapacity;
+
+  private final long timeoutMillis;
+
+  private final AtomicLong rejectedCount = new AtomicLong();
+
+  /**
+   * Constructs a new PasswordHashingService.
+   *
+   * @param algorithm      The algorithm for new hashes: bcrypt, pbkdf2 or argon2.
+   * @param bcryptStrength The bcrypt cost factor.
+   * @param threads        The number of hashing threads; zero uses the number of processors.
+   * @param queueCapacity  The number of hashing requests allowed to wait for a thread.
+   * @param timeoutMillis  The maximum time a request waits for its hash.
+   */
+  @Autowired
+  public PasswordHashingService(
+      @Value("${api.security.password.algorithm:bcrypt}") String algorithm,
+      @Value("${api.security.password.bcrypt-strength:10}") int bcryptStrength,
+      @Value("${api.security.password.threads:0}") int threads,
+      @Value("${api.security.password.queue-capacity:200}") int queueCapacity,
+      @Value("${api.security.password.timeout-ms:5000}") long timeoutMillis) {
+    Map<String, PasswordEncoder> encoders = new HashMap<>();
+    BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+    encoders.put("bcrypt", bcrypt);
+    encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+    encoders.put("argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+    if (!encoders.containsKey(algorithm)) {
+      throw new IllegalStateException("Algoritmo de senha não suportado: " + algorithm);
+    }
+
+    DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(algorithm, encoders);
+    delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+    this.algorithm = algorithm;
+    this.delegate = delegating;
+    this.queueCapacity = queueCapacity;
+    this.timeoutMillis = timeoutMillis;
+
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    this.executor = new ThreadPoolExecutor(
+        poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        new HashingThreadFactory(),
+        new ThreadPoolExecutor.AbortPolicy());
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return submit(() -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return submit(() -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  /**
+   * Get the algorithm used for new hashes.
+   *
+   * @return The algorithm id.
+   */
+  public String getAlgorithm() {
+    return algorithm;
+  }
+
+  /**
+   * Get the number of hashing threads.
+   *
+   * @return The size of the hashing pool.
+   */
+  public int getPoolSize() {
+    return executor.getMaximumPoolSize();
+  }
+
+  /**
+   * Get the number of threads currently hashing.
+   *
+   * @return The number of active hashing threads.
+   */
+  public int getActiveCount() {
+    return executor.getActiveCount();
+  }
+
+  /**
+   * Get the number of hashing requests waiting for a thread.
+   *
+   * @return The depth of the hashing queue.
+   */
+  public int getQueueDepth() {
+    return executor.getQueue().size();
+  }
+
+  /**
+   * Get the number of hashing requests allowed to wait for a thread.
+   *
+   * @return The capacity of the hashing queue.
+   */
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  /**
+   * Get the number of hashing requests completed.
+   *
+   * @return The number of completed hashing requests.
+   */
+  public long getCompletedCount() {
+    return executor.getCompletedTaskCount();
+  }
+
+  /**
+   * Get the number of hashing requests rejected because the pool was saturated.
+   *
+   * @return The number of rejected hashing requests.
+   */
+  public long getRejectedCount() {
+    return rejectedCount.get();
+  }
+
+  /**
+   * Get the hashing pool, for binding to metrics registries.
+   *
+   * @return The hashing executor.
+   */
+  public ThreadPoolExecutor getExecutor() {
+    return executor;
+  }
+
+  /**
+   * Stops the hashing threads when the application shuts down.
+   */
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  private <T> T submit(Callable<T> task) {
+    Future<T> future;
+    try {
+      // The hash stays in the trace of the request
+      future = executor.submit(ContextPropagatingTaskDecorator.SNAPSHOTS.captureAll().wrap(task));
+    } catch (RejectedExecutionException e) {
+      rejectedCount.incrementAndGet();
+      throw new ServiceUnavailableException("Servidor sobrecarregado, tente novamente!");
+    }
+
+    try {
+      return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      rejectedCount.incrementAndGet();
+      throw new ServiceUnavailableException("Servidor sobrecarregado, tente novamente!");
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new ServiceUnavailableException("Requisição interrompida!");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /**
+   * Names the hashing threads, so they are easy to spot in thread dumps.
+   */
+  private static class HashingThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
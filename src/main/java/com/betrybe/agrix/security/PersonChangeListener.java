@@ -0,0 +1,62 @@
+package com.betrybe.agrix.security;
+
+import com.betrybe.agrix.models.entity.Person;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that drops the cached tokens of a person whenever the person is
+ * updated or removed, so a role change takes effect on the next request. Tokens are matched
+ * by person id too, so those cached under the previous username of a renamed person go as
+ * well. Contexts without a token cache, such as the JPA test slices, have nothing to
+ * invalidate.
+ *
+ * <p>The callbacks run at flush, while the previous row is still the committed one, so
+ * inside a transaction the tokens are dropped after commit: dropped earlier, they could be
+ * cached again by a concurrent request with the previous role.</p>
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class PersonChangeListener {
+
+  private final ObjectProvider<TokenCache> tokenCache;
+
+  /**
+   * Constructs a new PersonChangeListener with the token cache to invalidate.
+   *
+   * @param tokenCache The cache of verified tokens, when there is one.
+   */
+  @Autowired
+  public PersonChangeListener(ObjectProvider<TokenCache> tokenCache) {
+    this.tokenCache = tokenCache;
+  }
+
+  /**
+   * Invalidates the cached tokens of the changed person.
+   *
+   * @param person The person that was updated or removed.
+   */
+  @PostUpdate
+  @PostRemove
+  public void onPersonChange(Person person) {
+    tokenCache.ifAvailable(cache -> {
+      Person changed = new Person(person.getId(), person.getUsername(), null, person.getRole());
+      if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+        cache.invalidatePerson(changed);
+        return;
+      }
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          cache.invalidatePerson(changed);
+        }
+      });
+    });
+  }
+}
@@ -0,0 +1,70 @@
+package com.betrybe.agrix.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Authenticates the metrics scraper on GET /actuator/prometheus.
+ * Login tokens expire, so the scraper sends a static bearer token, configured by
+ * agrix.metrics.scrape-token, which only grants the SCRAPE authority. Without the property
+ * the endpoint is reached with an ADMIN login token only.
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class ScrapeTokenFilter extends OncePerRequestFilter {
+
+  /**
+   * The authority granted to the scraper.
+   */
+  public static final String SCRAPE = "SCRAPE";
+
+  private static final RequestMatcher PROMETHEUS =
+      new AntPathRequestMatcher("/actuator/prometheus", "GET");
+
+  private final byte[] scrapeToken;
+
+  /**
+   * Constructs a new ScrapeTokenFilter.
+   *
+   * @param scrapeToken The static token of the scraper, empty to disable it.
+   */
+  @Autowired
+  public ScrapeTokenFilter(@Value("${agrix.metrics.scrape-token:}") String scrapeToken) {
+    this.scrapeToken = scrapeToken.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return scrapeToken.length == 0 || !PROMETHEUS.matches(request);
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws IOException, ServletException {
+    String authHeader = request.getHeader("Authorization");
+    if (authHeader != null && authHeader.startsWith("Bearer ")
+        && MessageDigest.isEqual(scrapeToken,
+            authHeader.substring("Bearer ".length()).getBytes(StandardCharsets.UTF_8))) {
+      SecurityContextHolder.getContext().setAuthentication(
+          new UsernamePasswordAuthenticationToken(SCRAPE, null,
+              List.of(new SimpleGrantedAuthority(SCRAPE))));
+    }
+    filterChain.doFilter(request, response);
+  }
+}
@@ -1,6 +1,8 @@
 package com.betrybe.agrix.security;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -11,8 +13,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -20,6 +20,9 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  * Configuration class for security-related settings.
  * This class defines how security filters and access control rules are configured.
  *
+ * <p>The PasswordEncoder used by the authentication manager is the
+ * {@link PasswordHashingService} component.</p>
+ *
  * @since 2023-08-17
  */
 @Configuration
@@ -29,14 +32,19 @@ public class SecurityConfiguration {
 
   private final SecurityFilter securityFilter;
 
+  private final ScrapeTokenFilter scrapeTokenFilter;
+
   /**
-   * Constructs a new SecurityConfiguration with the required filter.
+   * Constructs a new SecurityConfiguration with the required filters.
    *
-   * @param securityFilter The custom security filter to be used.
+   * @param securityFilter    The custom security filter to be used.
+   * @param scrapeTokenFilter The filter authenticating the metrics scraper.
    */
   @Autowired
-  public SecurityConfiguration(SecurityFilter securityFilter) {
+  public SecurityConfiguration(SecurityFilter securityFilter,
+      ScrapeTokenFilter scrapeTokenFilter) {
     this.securityFilter = securityFilter;
+    this.scrapeTokenFilter = scrapeTokenFilter;
   }
 
   /**
@@ -53,6 +61,7 @@ public class SecurityConfiguration {
         .sessionManagement(session -> session.sessionCreationPolicy(
             SessionCreationPolicy.STATELESS))
         .authorizeHttpRequests(authorize -> authorize
+            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
             .requestMatchers(HttpMethod.POST, "/persons").permitAll()
             .requestMatchers(HttpMethod.POST, "/auth/login").permitAll()
             .requestMatchers(HttpMethod.GET, "/fertilizers").hasRole("ADMIN")
@@ -60,12 +69,45 @@ public class SecurityConfiguration {
             .requestMatchers(HttpMethod.GET, "/farms").hasAnyRole("ADMIN", "MANAGER", "USER")
             .requestMatchers(HttpMethod.POST, "/farms").hasAnyRole("ADMIN", "MANAGER", "USER")
             .requestMatchers(HttpMethod.GET, "/farms/id").hasAnyRole("ADMIN", "MANAGER", "USER")
+            .requestMatchers(HttpMethod.GET, "/actuator/health/**").permitAll()
+            .requestMatchers(HttpMethod.GET, "/actuator/prometheus")
+            .hasAnyAuthority("ROLE_ADMIN", ScrapeTokenFilter.SCRAPE)
+            .requestMatchers("/actuator/**").hasRole("ADMIN")
             .anyRequest().authenticated()
         )
         .addFilterBefore(securityFilter, UsernamePasswordAuthenticationFilter.class)
+        .addFilterBefore(scrapeTokenFilter, SecurityFilter.class)
         .build();
   }
 
+  /**
+   * Keeps the token filter out of the servlet filter chain, where Spring Boot would register
+   * it as a component and run it ahead of the {@link ScrapeTokenFilter}.
+   *
+   * @return The disabled registration.
+   */
+  @Bean
+  public FilterRegistrationBean<SecurityFilter> securityFilterRegistration() {
+    FilterRegistrationBean<SecurityFilter> registration =
+        new FilterRegistrationBean<>(securityFilter);
+    registration.setEnabled(false);
+    return registration;
+  }
+
+  /**
+   * Keeps the scrape token filter out of the servlet filter chain, so it only runs inside the
+   * security filter chain, before the {@link SecurityFilter}.
+   *
+   * @return The disabled registration.
+   */
+  @Bean
+  public FilterRegistrationBean<ScrapeTokenFilter> scrapeTokenFilterRegistration() {
+    FilterRegistrationBean<ScrapeTokenFilter> registration =
+        new FilterRegistrationBean<>(scrapeTokenFilter);
+    registration.setEnabled(false);
+    return registration;
+  }
+
   /**
    * Creates an AuthenticationManager bean for authentication purposes.
    *
@@ -78,14 +120,4 @@ public class SecurityConfiguration {
       AuthenticationConfiguration authenticationConfiguration) throws Exception {
     return authenticationConfiguration.getAuthenticationManager();
   }
-
-  /**
-   * Creates a PasswordEncoder bean for encoding and validating passwords.
-   *
-   * @return An instance of PasswordEncoder.
-   */
-  @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
-  }
 }
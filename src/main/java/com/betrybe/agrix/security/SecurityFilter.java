@@ -1,8 +1,12 @@
 package com.betrybe.agrix.security;
 
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.betrybe.agrix.models.entity.Person;
+import com.betrybe.agrix.security.TokenCache.VerifiedToken;
 import com.betrybe.agrix.services.PersonService;
 import com.betrybe.agrix.services.TokenService;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,6 +25,9 @@ import org.springframework.web.filter.OncePerRequestFilter;
  * <p>The filter extracts the authorization token from the request header, validates it,
  * retrieves user details from the token, and sets up the security context accordingly.</p>
  *
+ * <p>Verified tokens are kept in the {@link TokenCache}, so repeated requests with the same
+ * token skip both the signature verification and the person lookup.</p>
+ *
  * @since 2023-08-17
  */
 @Component
@@ -28,17 +35,24 @@ public class SecurityFilter extends OncePerRequestFilter {
 
   private final TokenService tokenService;
   private final PersonService personService;
+  private final TokenCache tokenCache;
+  private final ObservationRegistry observationRegistry;
 
   /**
    * Constructs a new SecurityFilter with the required services.
    *
-   * @param tokenService   The service responsible for token-related operations.
-   * @param personService  The service for managing user-related operations.
+   * @param tokenService        The service responsible for token-related operations.
+   * @param personService       The service for managing user-related operations.
+   * @param tokenCache          The cache of verified tokens.
+   * @param observationRegistry The registry of the verification spans.
    */
   @Autowired
-  public SecurityFilter(TokenService tokenService, PersonService personService) {
+  public SecurityFilter(TokenService tokenService, PersonService personService,
+      TokenCache tokenCache, ObservationRegistry observationRegistry) {
     this.tokenService = tokenService;
     this.personService = personService;
+    this.tokenCache = tokenCache;
+    this.observationRegistry = observationRegistry;
   }
 
   /**
@@ -56,18 +70,35 @@ public class SecurityFilter extends OncePerRequestFilter {
       throws IOException, ServletException {
     String token = recoveryToken(request);
 
-    if (token != null) {
-      String subject = tokenService.validateToken(token);
-      Person userDetails = personService.getPersonByUsername(subject);
+    // The scraper is already authenticated by the ScrapeTokenFilter
+    if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+      VerifiedToken verified = tokenCache.get(token, this::verifyToken);
 
       UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-          userDetails, null, userDetails.getAuthorities());
+          verified.principal(), null, verified.authorities());
       SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
     filterChain.doFilter(request, response);
   }
 
+  /**
+   * Verify the token and resolve the person it was issued for, each step in its own span.
+   *
+   * @param token The authorization token.
+   * @return The verified token with its principal and authorities.
+   */
+  private VerifiedToken verifyToken(String token) {
+    DecodedJWT decoded = Observation.createNotStarted("agrix.security.jwt", observationRegistry)
+        .contextualName("jwt verification")
+        .observe(() -> tokenService.verifyToken(token));
+    Person userDetails = Observation.createNotStarted("agrix.security.user", observationRegistry)
+        .contextualName("user lookup")
+        .observe(() -> personService.getPersonByUsername(decoded.getSubject()));
+
+    return VerifiedToken.of(userDetails, decoded.getExpiresAtAsInstant());
+  }
+
   /**
    * Retrieve the token from the request header.
    *
@@ -0,0 +1,216 @@
+package com.betrybe.agrix.security;
+
+import com.betrybe.agrix.models.entity.Person;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of verified JWT tokens and the principals they resolve to.
+ * Entries are keyed by a SHA-256 hash of the token, so raw tokens are never kept in memory,
+ * and each entry expires at the expiration date of its token or after the maximum time to
+ * live, whichever comes first; tokens without an expiration date only get the latter.
+ * Principals are cached without their password hash.
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class TokenCache {
+
+  /**
+   * A verified token together with its resolved principal and authorities.
+   *
+   * @param principal   The person the token was issued for.
+   * @param authorities The authorities granted to the person.
+   * @param expiresAt   The expiration date of the token, or null when it has none.
+   */
+  public record VerifiedToken(
+      Person principal,
+      Collection<? extends GrantedAuthority> authorities,
+      Instant expiresAt
+  ) {
+
+    /**
+     * Creates the verified token of a person, keeping a copy of the person without the
+     * password hash as the principal and its only authority.
+     *
+     * @param person    The person the token was issued for.
+     * @param expiresAt The expiration date of the token, or null when it has none.
+     * @return The verified token.
+     */
+    public static VerifiedToken of(Person person, Instant expiresAt) {
+      Person principal =
+          new Person(person.getId(), person.getUsername(), null, person.getRole());
+      return new VerifiedToken(principal, principal.getAuthorities(), expiresAt);
+    }
+  }
+
+  private final Cache<String, VerifiedToken> cache;
+
+  /**
+   * Constructs a new TokenCache bounded to the given number of entries.
+   *
+   * @param maximumSize The maximum number of verified tokens kept in the cache.
+   * @param maximumTtl  The longest time a verified token is kept in the cache.
+   */
+  @Autowired
+  public TokenCache(
+      @Value("${api.security.token.cache.maximum-size:10000}") long maximumSize,
+      @Value("${api.security.token.cache.maximum-ttl:1h}") Duration maximumTtl) {
+    this(maximumSize, maximumTtl, Ticker.systemTicker());
+  }
+
+  /**
+   * Constructs a new TokenCache that reads the time from the given ticker.
+   *
+   * @param maximumSize The maximum number of verified tokens kept in the cache.
+   * @param maximumTtl  The longest time a verified token is kept in the cache.
+   * @param ticker      The source of the time, in nanoseconds.
+   */
+  public TokenCache(long maximumSize, Duration maximumTtl, Ticker ticker) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfter(new TokenExpiry(maximumTtl, ticker.read()))
+        .ticker(ticker)
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Returns the verified token for the given raw token, verifying it on a cache miss.
+   *
+   * @param token    The raw JWT token.
+   * @param verifier The function used to verify the token on a cache miss.
+   * @return The verified token.
+   */
+  public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+    return cache.get(hash(token), key -> verifier.apply(token));
+  }
+
+  /**
+   * Removes every cached token issued for the given username.
+   * Must be called whenever the role or credentials of a person change.
+   *
+   * @param username The username whose tokens are removed.
+   */
+  public void invalidateUsername(String username) {
+    cache.asMap().values()
+        .removeIf(verified -> verified.principal().getUsername().equals(username));
+  }
+
+  /**
+   * Removes every cached token of the given person, matched by id as well as by username,
+   * so the tokens issued under a previous username are removed after a rename.
+   *
+   * @param person The person whose tokens are removed.
+   */
+  public void invalidatePerson(Person person) {
+    cache.asMap().values().removeIf(verified -> {
+      Person principal = verified.principal();
+      return (person.getId() != null && person.getId().equals(principal.getId()))
+          || principal.getUsername().equals(person.getUsername());
+    });
+  }
+
+  /**
+   * Removes every cached token.
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * Get the hit, miss and eviction statistics of the cache.
+   *
+   * @return The cache statistics.
+   */
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  /**
+   * Get the approximate number of tokens in the cache.
+   *
+   * @return The approximate number of cached tokens.
+   */
+  public long size() {
+    return cache.estimatedSize();
+  }
+
+  /**
+   * Get the underlying cache, for binding to metrics registries.
+   *
+   * @return The underlying cache.
+   */
+  public Cache<String, VerifiedToken> nativeCache() {
+    return cache;
+  }
+
+  private static String hash(String token) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getEncoder().encodeToString(hashed);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Expires each entry at the expiration date of its token, and at the latest after the
+   * maximum time to live. The current date is derived from the ticker of the cache, taking
+   * the date at construction as the origin.
+   */
+  private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+    private final Duration maximumTtl;
+
+    private final Instant origin = Instant.now();
+
+    private final long originTick;
+
+    TokenExpiry(Duration maximumTtl, long originTick) {
+      this.maximumTtl = maximumTtl;
+      this.originTick = originTick;
+    }
+
+    @Override
+    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+      if (value.expiresAt() == null) {
+        return maximumTtl.toNanos();
+      }
+      Instant now = origin.plusNanos(currentTime - originTick);
+      Duration remaining = Duration.between(now, value.expiresAt());
+      if (remaining.isNegative()) {
+        return 0;
+      }
+      return remaining.compareTo(maximumTtl) < 0 ? remaining.toNanos() : maximumTtl.toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+        long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+        long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
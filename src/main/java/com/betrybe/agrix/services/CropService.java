@@ -1,19 +1,36 @@
 package com.betrybe.agrix.services;
 
+import com.betrybe.agrix.controllers.dto.AssociationResultDto;
+import com.betrybe.agrix.controllers.dto.AssociationResultDto.Status;
+import com.betrybe.agrix.controllers.dto.BulkAssociationResultDto;
 import com.betrybe.agrix.controllers.dto.CropCreationDto;
+import com.betrybe.agrix.controllers.dto.CropDto;
+import com.betrybe.agrix.controllers.dto.CropFertilizerPairDto;
+import com.betrybe.agrix.controllers.dto.CropSearchDto;
+import com.betrybe.agrix.exception.ErrorRequestException;
 import com.betrybe.agrix.exception.NotFoundException;
 import com.betrybe.agrix.models.entity.Crop;
 import com.betrybe.agrix.models.entity.Farm;
-import com.betrybe.agrix.models.entity.Fertilizer;
+import com.betrybe.agrix.models.repository.CropFertilizerRepository;
 import com.betrybe.agrix.models.repository.CropRepository;
 import com.betrybe.agrix.models.repository.FarmRepository;
 import com.betrybe.agrix.models.repository.FertilizerRepository;
-import java.time.LocalDate;
+import io.micrometer.observation.annotation.Observed;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * The CropService class provides business logic for managing crop-related operations.
@@ -25,8 +42,25 @@ import org.springframework.stereotype.Service;
  * @since 2023-08-11
  */
 @Service
+@Observed(name = "agrix.service")
 public class CropService {
 
+  /**
+   * The largest page size accepted by the paged crop queries.
+   */
+  public static final int MAX_PAGE_SIZE = 1000;
+
+  /**
+   * The crop search sort keys accepted from clients, mapped to entity properties.
+   */
+  private static final Map<String, String> SORTABLE_PROPERTIES = Map.of(
+      "id", "id",
+      "name", "name",
+      "plantedArea", "plantedArea",
+      "plantedDate", "plantingDate",
+      "harvestDate", "harvestDate"
+  );
+
   /**
    * The repository for managing crop data.
    */
@@ -42,20 +76,53 @@ public class CropService {
    */
   private final FertilizerRepository fertilizerRepository;
 
+  /**
+   * The repository for writing crop and fertilizer associations.
+   */
+  private final CropFertilizerRepository cropFertilizerRepository;
+
+  /**
+   * The service reading farms through the farms cache.
+   */
+  private final FarmService farmService;
+
+  /**
+   * The service maintaining the farm-month and fertilizer-usage rollups.
+   */
+  private final RollupService rollupService;
+
+  /**
+   * The number of associations sent to the database per JDBC batch.
+   */
+  private final int associationBatchSize;
+
   /**
    * Constructs a new CropService with the given crop and farm repositories.
    *
    * @param cropRepository The repository for managing crop data.
    * @param farmRepository The repository for managing farm data.
+   * @param fertilizerRepository The repository for managing fertilizer data.
+   * @param cropFertilizerRepository The repository for writing associations.
+   * @param farmService The service reading farms through the farms cache.
+   * @param rollupService The service maintaining the rollups.
+   * @param associationBatchSize The number of associations sent per JDBC batch.
    */
   @Autowired
   public CropService(CropRepository cropRepository,
       FarmRepository farmRepository,
-      FertilizerRepository fertilizerRepository
+      FertilizerRepository fertilizerRepository,
+      CropFertilizerRepository cropFertilizerRepository,
+      FarmService farmService,
+      RollupService rollupService,
+      @Value("${agrix.bulk.batch-size:500}") int associationBatchSize
   ) {
     this.cropRepository = cropRepository;
     this.farmRepository = farmRepository;
     this.fertilizerRepository = fertilizerRepository;
+    this.cropFertilizerRepository = cropFertilizerRepository;
+    this.farmService = farmService;
+    this.rollupService = rollupService;
+    this.associationBatchSize = associationBatchSize;
   }
 
   /**
@@ -66,73 +133,120 @@ public class CropService {
    * @return The newly inserted crop entity.
    * @throws NotFoundException If the specified farm ID is not found in the database.
    */
+  @Transactional
   public Crop insertCrop(Long farmId, CropCreationDto cropDto) throws NotFoundException {
-    Optional<Farm> farmOptional = farmRepository.findById(farmId);
-    farmOptional.orElseThrow(() -> new NotFoundException("Fazenda não encontrada!"));
+    // The existence check is served by the farms cache; the farm row itself is not loaded
+    farmService.getFarmById(farmId);
 
     Crop newCrop = new Crop();
-    newCrop.setFarm(farmOptional.get());
+    newCrop.setFarm(farmRepository.getReferenceById(farmId));
     newCrop.setName(cropDto.name());
     newCrop.setPlantedArea(cropDto.plantedArea());
     newCrop.setPlantingDate(cropDto.plantedDate());
     newCrop.setHarvestDate(cropDto.harvestDate());
 
-    return cropRepository.save(newCrop);
+    Crop savedCrop = cropRepository.save(newCrop);
+    rollupService.cropsAdded(List.of(savedCrop));
+    return savedCrop;
   }
 
   /**
-   * Retrieves a list of crops associated with a specific farm.
+   * Retrieves a page of crops associated with a specific farm, projected into DTOs.
    *
    * @param farmId The ID of the farm.
-   * @return A list of crops associated with the specified farm.
-   * @throws NotFoundException If no crops are found for the specified farm.
+   * @param page   The zero-based page index.
+   * @param size   The number of crops per page.
+   * @return A slice of crops associated with the specified farm, ordered by ID.
+   * @throws NotFoundException If the specified farm ID is not found in the database.
+   * @throws ErrorRequestException If the page or size are out of bounds.
    */
-  public List<Crop> findByFarmId(Long farmId) throws NotFoundException {
-    Optional.ofNullable(farmRepository.findById(farmId)
-        .orElseThrow(() -> new NotFoundException("Fazenda não encontrada!")));
+  @Transactional(readOnly = true)
+  public Slice<CropDto> findByFarmId(Long farmId, int page, int size) throws NotFoundException {
+    if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+      throw new ErrorRequestException("Paginação inválida!");
+    }
 
-    List<Crop> allCrop = cropRepository.findAll();
+    if (!farmRepository.existsById(farmId)) {
+      throw new NotFoundException("Fazenda não encontrada!");
+    }
 
-    List<Crop> cropsForFarm = allCrop.stream()
-        .filter(crop -> crop.getFarm().getId().equals(farmId))
-        .collect(Collectors.toList());
+    return cropRepository.findDtoByFarmId(farmId, PageRequest.of(page, size, Sort.by("id")));
+  }
 
-    return cropsForFarm;
+  /**
+   * Retrieves a page of crops from the database, ordered by id and projected into DTOs.
+   *
+   * @param afterId The id after which the page starts.
+   * @param size    The number of crops in the page.
+   * @return A list with the crops of the page.
+   */
+  @Transactional(readOnly = true)
+  public List<CropDto> getCropPage(long afterId, int size) {
+    return cropRepository.findDtoByIdGreaterThan(afterId, PageRequest.of(0, size));
   }
 
   /**
-   * Retrieves a list of all crops in the database.
+   * Passes every crop in the database to the given action, one at a time, ordered by id.
+   * Crops are projected into DTOs, so the persistence context does not grow with the table.
    *
-   * @return A list of all crops.
+   * @param action The action applied to each crop.
    */
-  public List<Crop> allcrop() {
-    List<Crop> allCrop = cropRepository.findAll();
-    return allCrop;
+  @Transactional(readOnly = true)
+  public void streamAllCrop(Consumer<CropDto> action) {
+    try (Stream<CropDto> crops = cropRepository.streamDtoAll()) {
+      crops.forEach(action);
+    }
   }
 
   /**
-   * Retrieves a specific crop by its ID.
+   * Retrieves a specific crop by its ID, projected into a DTO.
    *
    * @param cropId The ID of the crop.
-   * @return The retrieved crop entity.
+   * @return The retrieved crop.
    * @throws NotFoundException If the specified crop ID is not found in the database.
    */
-  public Crop getByIdCrop(Long cropId) throws NotFoundException {
-    Optional<Crop> cropOptional = cropRepository.findById(cropId);
-    cropOptional.orElseThrow(() -> new NotFoundException("Plantação não encontrada!"));
-    return cropOptional.get();
+  @Transactional(readOnly = true)
+  public CropDto getByIdCrop(Long cropId) throws NotFoundException {
+    return cropRepository.findDtoById(cropId)
+        .orElseThrow(() -> new NotFoundException("Plantação não encontrada!"));
   }
 
   /**
-   * Get all crops in a specified time range.
+   * Searches crops by harvest and planting date ranges, farm, name prefix and planted area,
+   * in a single query.
    *
-   * @param startDate the lower limit.
-   * @param endDate the upper limit.
-   * @return A list of crops.
+   * @param filter The search filters; the ones left empty are ignored.
+   * @param page   The zero-based page index.
+   * @param size   The number of crops per page.
+   * @param sort   The order of the results, as "field" or "field,asc|desc", where field is
+   *               one of id, name, plantedArea, plantedDate or harvestDate.
+   * @return A page of matching crops, projected into DTOs.
+   * @throws ErrorRequestException If the page, size or sort are invalid.
    */
-  public List<Crop> serchCropByHarvestDate(LocalDate startDate, LocalDate endDate) {
-    List<Crop> getCrops = cropRepository.findByHarvestDateBetween(startDate, endDate);
-    return getCrops;
+  @Transactional(readOnly = true)
+  public Page<CropDto> searchCrops(CropSearchDto filter, int page, int size, String sort) {
+    if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+      throw new ErrorRequestException("Paginação inválida!");
+    }
+
+    return cropRepository.search(filter, PageRequest.of(page, size, parseSort(sort)));
+  }
+
+  private static Sort parseSort(String sort) {
+    String[] parts = sort.split(",");
+    String property = SORTABLE_PROPERTIES.get(parts[0].trim());
+    if (property == null || parts.length > 2) {
+      throw new ErrorRequestException("Ordenação inválida!");
+    }
+
+    Sort.Direction direction = Sort.Direction.ASC;
+    if (parts.length == 2) {
+      direction = Sort.Direction.fromOptionalString(parts[1].trim())
+          .orElseThrow(() -> new ErrorRequestException("Ordenação inválida!"));
+    }
+
+    Sort order = Sort.by(direction, property);
+    return property.equals("id") ? order : order.and(Sort.by("id"));
   }
 
   /**
@@ -144,29 +258,85 @@ public class CropService {
    * @throws NotFoundException If either the specified crop ID or fertilizer ID is not
    *     found in the database.
    */
+  @Transactional
   public String associatedPost(Long cropId, Long fertilizerId) throws NotFoundException {
-    Optional<Crop> getCropId = cropRepository.findById(cropId);
-    if (getCropId.isEmpty()) {
+    if (!cropRepository.existsById(cropId)) {
       throw new NotFoundException("Plantação não encontrada!");
     }
 
-    Optional<Fertilizer> getFertilizerId = fertilizerRepository.findById(fertilizerId);
-    if (getFertilizerId.isEmpty()) {
+    if (!fertilizerRepository.existsById(fertilizerId)) {
       throw new NotFoundException("Fertilizante não encontrado!");
     }
 
-    Crop crop = getCropId.get();
-    Fertilizer fertilizer = getFertilizerId.get();
-
-    crop.getFertilizerList().add(fertilizer);
-    fertilizer.getCrops().add(crop);
-
-    fertilizerRepository.save(fertilizer);
-    cropRepository.save(crop);
+    CropFertilizerPairDto pair = new CropFertilizerPairDto(cropId, fertilizerId);
+    rollupService.associationsAdded(
+        cropFertilizerRepository.insertPairs(List.of(pair), associationBatchSize));
 
     return "Fertilizante e plantação associados com sucesso!";
   }
 
+  /**
+   * Associates many crops and fertilizers at once.
+   * Crop and fertilizer ids are validated with one set-based query each, pairs that are
+   * already associated are skipped, and the new pairs are written in JDBC batches.
+   *
+   * @param pairs The crop and fertilizer pairs to associate.
+   * @return The outcome of each pair, in request order.
+   */
+  @Transactional
+  public BulkAssociationResultDto associateAll(List<CropFertilizerPairDto> pairs) {
+    Set<Long> cropIds = new HashSet<>();
+    Set<Long> fertilizerIds = new HashSet<>();
+    for (CropFertilizerPairDto pair : pairs) {
+      cropIds.add(pair.cropId());
+      fertilizerIds.add(pair.fertilizerId());
+    }
+
+    Set<Long> existingCropIds = cropFertilizerRepository.findExistingCropIds(cropIds);
+    Set<Long> existingFertilizerIds =
+        cropFertilizerRepository.findExistingFertilizerIds(fertilizerIds);
+
+    List<CropFertilizerPairDto> candidates = pairs.stream()
+        .filter(pair -> existingCropIds.contains(pair.cropId()))
+        .filter(pair -> existingFertilizerIds.contains(pair.fertilizerId()))
+        .toList();
+    Set<CropFertilizerPairDto> alreadyAssociated =
+        cropFertilizerRepository.findExistingPairs(candidates);
 
+    Set<CropFertilizerPairDto> seen = new HashSet<>();
+    List<CropFertilizerPairDto> toInsert = new ArrayList<>();
+    List<AssociationResultDto> results = new ArrayList<>(pairs.size());
 
+    for (CropFertilizerPairDto pair : pairs) {
+      Status status;
+      if (!existingCropIds.contains(pair.cropId())) {
+        status = Status.CROP_NOT_FOUND;
+      } else if (!existingFertilizerIds.contains(pair.fertilizerId())) {
+        status = Status.FERTILIZER_NOT_FOUND;
+      } else if (!seen.add(pair)) {
+        status = Status.DUPLICATE_IN_REQUEST;
+      } else if (alreadyAssociated.contains(pair)) {
+        status = Status.ALREADY_ASSOCIATED;
+      } else {
+        status = Status.CREATED;
+        toInsert.add(pair);
+      }
+      results.add(new AssociationResultDto(pair.cropId(), pair.fertilizerId(), status));
+    }
+
+    List<CropFertilizerPairDto> inserted =
+        cropFertilizerRepository.insertPairs(toInsert, associationBatchSize);
+    rollupService.associationsAdded(inserted);
+
+    // Pairs a concurrent request associated since the lookup were skipped by the insert
+    Set<CropFertilizerPairDto> created = new HashSet<>(inserted);
+    results.replaceAll(result -> result.status() == Status.CREATED
+        && !created.contains(new CropFertilizerPairDto(result.cropId(), result.fertilizerId()))
+        ? new AssociationResultDto(result.cropId(), result.fertilizerId(),
+            Status.ALREADY_ASSOCIATED)
+        : result);
+
+    return new BulkAssociationResultDto(
+        inserted.size(), pairs.size() - inserted.size(), results);
+  }
 }
\ No newline at end of file
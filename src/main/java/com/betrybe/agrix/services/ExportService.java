@@ -0,0 +1,102 @@
+package com.betrybe.agrix.services;
+
+import com.betrybe.agrix.controllers.dto.CropDto;
+import com.betrybe.agrix.controllers.dto.ExportFilterDto;
+import com.betrybe.agrix.controllers.dto.FertilizerDto;
+import com.betrybe.agrix.models.repository.ExportRepository;
+import com.betrybe.agrix.util.CsvWriter;
+import com.betrybe.agrix.util.NdjsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.OutputStream;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The ExportService class writes the whole crop and fertilizer datasets, or a filtered part
+ * of them, as CSV or NDJSON. Each row is written to the output as soon as it is read from the
+ * database, so memory use does not depend on the number of rows exported.
+ *
+ * @since 2026-10-18
+ */
+@Service
+public class ExportService {
+
+  /**
+   * The encoding of an export.
+   */
+  public enum Format {
+    CSV,
+    NDJSON
+  }
+
+  private final ExportRepository exportRepository;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Constructs a new ExportService.
+   *
+   * @param exportRepository   The repository reading the exported rows.
+   * @param transactionManager The transaction manager, used to hold the database cursor.
+   * @param objectMapper       The mapper used to write NDJSON rows.
+   */
+  @Autowired
+  public ExportService(ExportRepository exportRepository,
+      PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+    this.exportRepository = exportRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Writes the crops matching the filter, ordered by id.
+   *
+   * @param filter The filters to apply.
+   * @param format The encoding of the export.
+   * @param output The stream the export is written to.
+   */
+  public void exportCrops(ExportFilterDto filter, Format format, OutputStream output) {
+    this.<CropDto>export(format, output,
+        new String[] {"id", "name", "plantedArea", "farmId", "plantedDate", "harvestDate"},
+        crop -> new Object[] {crop.id(), crop.name(), crop.plantedArea(), crop.farmId(),
+            crop.plantedDate(), crop.harvestDate()},
+        action -> exportRepository.forEachCrop(filter, action));
+  }
+
+  /**
+   * Writes the fertilizers matching the filter, ordered by id.
+   *
+   * @param filter The filters to apply.
+   * @param format The encoding of the export.
+   * @param output The stream the export is written to.
+   */
+  public void exportFertilizers(ExportFilterDto filter, Format format, OutputStream output) {
+    this.<FertilizerDto>export(format, output,
+        new String[] {"id", "name", "brand", "composition"},
+        fertilizer -> new Object[] {fertilizer.id(), fertilizer.name(), fertilizer.brand(),
+            fertilizer.composition()},
+        action -> exportRepository.forEachFertilizer(filter, action));
+  }
+
+  private <T> void export(Format format, OutputStream output, String[] header,
+      Function<T, Object[]> columns, Consumer<Consumer<T>> rows) {
+    transactionTemplate.executeWithoutResult(status -> {
+      if (format == Format.CSV) {
+        CsvWriter writer = new CsvWriter(output);
+        writer.writeRecord((Object[]) header);
+        rows.accept(row -> writer.writeRecord(columns.apply(row)));
+        writer.flush();
+      } else {
+        NdjsonWriter writer = new NdjsonWriter(objectMapper, output);
+        rows.accept(writer::write);
+      }
+    });
+  }
+}
@@ -1,12 +1,21 @@
 package com.betrybe.agrix.services;
 
+import com.betrybe.agrix.cache.CacheConfiguration;
+import com.betrybe.agrix.controllers.dto.FarmDto;
 import com.betrybe.agrix.exception.NotFoundException;
 import com.betrybe.agrix.models.entity.Farm;
 import com.betrybe.agrix.models.repository.FarmRepository;
+import com.betrybe.agrix.util.DtoConverter;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.EntityManager;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * The FarmService class provides business logic for farms.
@@ -16,6 +25,7 @@ import org.springframework.stereotype.Service;
  * @since 2023-08-10
  */
 @Service
+@Observed(name = "agrix.service")
 public class FarmService {
 
   /**
@@ -23,14 +33,21 @@ public class FarmService {
    */
   private final FarmRepository farmRepository;
 
+  /**
+   * The entity manager, used to detach streamed farms.
+   */
+  private final EntityManager entityManager;
+
   /**
    * Constructs a new FarmService with the given farm repository.
    *
    * @param farmRepository The farm repository.
+   * @param entityManager  The entity manager.
    */
   @Autowired
-  public FarmService(FarmRepository farmRepository) {
+  public FarmService(FarmRepository farmRepository, EntityManager entityManager) {
     this.farmRepository = farmRepository;
+    this.entityManager = entityManager;
   }
 
   /**
@@ -39,31 +56,53 @@ public class FarmService {
    * @param farm The farm to insert.
    * @return The inserted farm.
    */
+  @Transactional
   public Farm insertFarm(Farm farm) {
 
     return farmRepository.save(farm);
   }
 
   /**
-   * Gets all farms from the database.
+   * Gets a page of farms from the database, ordered by id.
    *
-   * @return A list with all farms.
+   * @param afterId The id after which the page starts.
+   * @param size    The number of farms in the page.
+   * @return A list with the farms of the page.
    */
+  @Transactional(readOnly = true)
+  public List<Farm> getFarmPage(long afterId, int size) {
+    return farmRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, size));
+  }
 
-  public List<Farm> getAllFarm() {
-
-    return farmRepository.findAll();
+  /**
+   * Passes every farm in the database to the given action, one at a time, ordered by id.
+   * Each farm is detached once handled, so memory use does not grow with the table.
+   *
+   * @param action The action applied to each farm.
+   */
+  @Transactional(readOnly = true)
+  public void streamAllFarm(Consumer<Farm> action) {
+    try (Stream<Farm> farms = farmRepository.streamAllByOrderByIdAsc()) {
+      farms.forEach(farm -> {
+        action.accept(farm);
+        entityManager.detach(farm);
+      });
+    }
   }
 
   /**
-   * Gets a farm by id from the database.
+   * Gets a farm by id, from the farms cache when it is there.
+   * The entry is evicted when the farm is saved or deleted.
    *
    * @param id The id of the farm to get.
-   * @return The farm with the given id, or an empty Optional if the farm does not exist.
+   * @return The farm with the given id.
+   * @throws NotFoundException If the farm does not exist.
    */
-
-  public Optional<Farm> getFarmById(Long id) {
-    return Optional.ofNullable(farmRepository.findById(id)
-        .orElseThrow(() -> new NotFoundException("Fazenda não encontrada!")));
+  @Transactional(readOnly = true)
+  @Cacheable(cacheNames = CacheConfiguration.FARMS, key = "#p0")
+  public FarmDto getFarmById(Long id) throws NotFoundException {
+    return farmRepository.findById(id)
+        .map(DtoConverter::farmToDto)
+        .orElseThrow(() -> new NotFoundException("Fazenda não encontrada!"));
   }
 }
\ No newline at end of file
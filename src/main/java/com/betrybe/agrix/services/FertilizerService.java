@@ -1,15 +1,21 @@
 package com.betrybe.agrix.services;
 
+import com.betrybe.agrix.cache.CacheConfiguration;
+import com.betrybe.agrix.controllers.dto.FertilizerDto;
 import com.betrybe.agrix.exception.NotFoundException;
-import com.betrybe.agrix.models.entity.Crop;
 import com.betrybe.agrix.models.entity.Fertilizer;
 import com.betrybe.agrix.models.repository.CropRepository;
 import com.betrybe.agrix.models.repository.FertilizerRepository;
+import com.betrybe.agrix.util.DtoConverter;
+import io.micrometer.observation.annotation.Observed;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * The FertilizerService class provides business logic for managing fertilizer-related operations.
@@ -21,6 +27,7 @@ import org.springframework.stereotype.Service;
  * @since 2023-08-17
  */
 @Service
+@Observed(name = "agrix.service")
 public class FertilizerService {
 
   /**
@@ -53,34 +60,52 @@ public class FertilizerService {
    * @param fertilizer The fertilizer entity to be inserted.
    * @return The inserted fertilizer entity.
    */
+  @Transactional
   public Fertilizer insertFertilizer(Fertilizer fertilizer) {
     Fertilizer saved = fertilizerRepository.save(fertilizer);
     return saved;
   }
 
   /**
-   * Get all fertilizer into the database.
+   * Get a page of fertilizers from the database, ordered by id and projected into DTOs.
    *
-   * @return The list of all fertilizers.
+   * @param afterId The id after which the page starts.
+   * @param size The number of fertilizers in the page.
+   * @return The list of fertilizers of the page.
    */
-  public List<Fertilizer> getAllFertilizer() {
-    List<Fertilizer> allFertilizer = fertilizerRepository.findAll();
-    return allFertilizer;
+  @Transactional(readOnly = true)
+  public List<FertilizerDto> getFertilizerPage(long afterId, int size) {
+    return fertilizerRepository.findDtoByIdGreaterThan(afterId, PageRequest.of(0, size));
   }
 
   /**
-   * Get a fertilizer through the id.
+   * Passes every fertilizer in the database to the given action, one at a time, ordered by id.
+   * Fertilizers are projected into DTOs, so the persistence context does not grow with the
+   * table.
    *
-   * @param fertilizerId The id Fertilizer.
-   * @return The retrieved fertilizer entity.
-   * @throws NotFoundException If the specified crop ID is not found in the database.
+   * @param action The action applied to each fertilizer.
    */
-  public Fertilizer findByFertilizerId(Long fertilizerId) throws NotFoundException {
-    Optional<Fertilizer> fertilizer = Optional.ofNullable(
-        fertilizerRepository.findById(fertilizerId)
-            .orElseThrow(() -> new NotFoundException("Fertilizante não encontrado!")));
+  @Transactional(readOnly = true)
+  public void streamAllFertilizer(Consumer<FertilizerDto> action) {
+    try (Stream<FertilizerDto> fertilizers = fertilizerRepository.streamDtoAll()) {
+      fertilizers.forEach(action);
+    }
+  }
 
-    return fertilizer.get();
+  /**
+   * Get a fertilizer through the id, from the fertilizers cache when it is there.
+   * The entry is evicted when the fertilizer is saved or deleted.
+   *
+   * @param fertilizerId The id Fertilizer.
+   * @return The retrieved fertilizer.
+   * @throws NotFoundException If the specified fertilizer ID is not found in the database.
+   */
+  @Transactional(readOnly = true)
+  @Cacheable(cacheNames = CacheConfiguration.FERTILIZERS, key = "#p0")
+  public FertilizerDto findByFertilizerId(Long fertilizerId) throws NotFoundException {
+    return fertilizerRepository.findById(fertilizerId)
+        .map(DtoConverter::fertilizerToDto)
+        .orElseThrow(() -> new NotFoundException("Fertilizante não encontrado!"));
   }
 
   /**
@@ -90,16 +115,12 @@ public class FertilizerService {
    * @return A list of fertilizers associated with the specified crop.
    * @throws NotFoundException If the specified crop ID is not found in the database.
    */
-  public List<Fertilizer> findByAssociationFertilizer(Long cropId) throws NotFoundException {
-    Optional<Crop> cropValid = Optional.ofNullable(
-        cropRepository.findById(cropId)
-            .orElseThrow(() -> new NotFoundException("Plantação não encontrada!")));
+  @Transactional(readOnly = true)
+  public List<FertilizerDto> findByAssociationFertilizer(Long cropId) throws NotFoundException {
+    if (!cropRepository.existsById(cropId)) {
+      throw new NotFoundException("Plantação não encontrada!");
+    }
 
-    List<Fertilizer> fertilizerRepositoryAll = fertilizerRepository.findAll();
-    List<Fertilizer> collect = fertilizerRepositoryAll.stream()
-        .filter(fertilizer -> fertilizer.getCrops().stream()
-            .anyMatch(crop -> crop.getId().equals(cropId)))
-        .collect(Collectors.toList());
-    return collect;
+    return fertilizerRepository.findDtoByCropId(cropId);
   }
 }
\ No newline at end of file
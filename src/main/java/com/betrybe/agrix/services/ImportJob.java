@@ -0,0 +1,235 @@
+package com.betrybe.agrix.services;
+
+import com.betrybe.agrix.controllers.dto.ImportRowErrorDto;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The ImportJob class holds the progress of one bulk import. It is written by the import
+ * thread and read by the requests polling the job, so every field is safe to read while the
+ * import runs.
+ *
+ * @since 2026-10-18
+ */
+public class ImportJob {
+
+  /**
+   * The kind of rows an import reads.
+   */
+  public enum Type {
+    FARMS,
+    CROPS,
+    FERTILIZERS
+  }
+
+  /**
+   * The encoding of an import file.
+   */
+  public enum Format {
+    CSV,
+    NDJSON
+  }
+
+  /**
+   * The state of an import.
+   */
+  public enum Status {
+    /**
+     * The import is waiting for a free import thread.
+     */
+    QUEUED,
+
+    /**
+     * The import is reading rows.
+     */
+    RUNNING,
+
+    /**
+     * Every row was read; rejected rows are listed in the errors.
+     */
+    COMPLETED,
+
+    /**
+     * The import stopped early. Chunks written before the failure are kept.
+     */
+    FAILED
+  }
+
+  private final UUID id = UUID.randomUUID();
+
+  private final Type type;
+
+  private final Format format;
+
+  private final long totalBytes;
+
+  private final int maxErrors;
+
+  private final Instant createdAt = Instant.now();
+
+  private final AtomicLong bytesRead = new AtomicLong();
+
+  private final AtomicLong rowsRead = new AtomicLong();
+
+  private final AtomicLong rowsImported = new AtomicLong();
+
+  private final AtomicLong rowsFailed = new AtomicLong();
+
+  private final List<ImportRowErrorDto> errors = new ArrayList<>();
+
+  private volatile Status status = Status.QUEUED;
+
+  private volatile Instant startedAt;
+
+  private volatile Instant finishedAt;
+
+  private volatile String failure;
+
+  /**
+   * Constructs a new queued ImportJob.
+   *
+   * @param type       The kind of rows the import reads.
+   * @param format     The encoding of the import file.
+   * @param totalBytes The size of the import file.
+   * @param maxErrors  The number of rejected rows kept with their message.
+   */
+  public ImportJob(Type type, Format format, long totalBytes, int maxErrors) {
+    this.type = type;
+    this.format = format;
+    this.totalBytes = totalBytes;
+    this.maxErrors = maxErrors;
+  }
+
+  /**
+   * Marks the import as running.
+   */
+  public void start() {
+    startedAt = Instant.now();
+    status = Status.RUNNING;
+  }
+
+  /**
+   * Marks the import as completed.
+   */
+  public void complete() {
+    finishedAt = Instant.now();
+    status = Status.COMPLETED;
+  }
+
+  /**
+   * Marks the import as failed.
+   *
+   * @param message The reason the import stopped.
+   */
+  public void fail(String message) {
+    failure = message;
+    finishedAt = Instant.now();
+    status = Status.FAILED;
+  }
+
+  /**
+   * Records a row read from the file.
+   */
+  public void rowRead() {
+    rowsRead.incrementAndGet();
+  }
+
+  /**
+   * Records rows written to the database.
+   *
+   * @param count The number of rows written.
+   */
+  public void rowsImported(int count) {
+    rowsImported.addAndGet(count);
+  }
+
+  /**
+   * Records a rejected row. Only the first rejected rows keep their message.
+   *
+   * @param row     The number of the row in the file, starting at 1.
+   * @param message The reason the row was rejected.
+   */
+  public void rowFailed(long row, String message) {
+    rowsFailed.incrementAndGet();
+    synchronized (errors) {
+      if (errors.size() < maxErrors) {
+        errors.add(new ImportRowErrorDto(row, message));
+      }
+    }
+  }
+
+  /**
+   * Records how far into the file the import has read.
+   *
+   * @param bytes The number of bytes read so far.
+   */
+  public void setBytesRead(long bytes) {
+    bytesRead.set(bytes);
+  }
+
+  public UUID getId() {
+    return id;
+  }
+
+  public Type getType() {
+    return type;
+  }
+
+  public Format getFormat() {
+    return format;
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  public long getTotalBytes() {
+    return totalBytes;
+  }
+
+  public long getBytesRead() {
+    return bytesRead.get();
+  }
+
+  public long getRowsRead() {
+    return rowsRead.get();
+  }
+
+  public long getRowsImported() {
+    return rowsImported.get();
+  }
+
+  public long getRowsFailed() {
+    return rowsFailed.get();
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public Instant getStartedAt() {
+    return startedAt;
+  }
+
+  public Instant getFinishedAt() {
+    return finishedAt;
+  }
+
+  public String getFailure() {
+    return failure;
+  }
+
+  /**
+   * Get a copy of the rejected rows kept so far.
+   *
+   * @return The rejected rows, in the order they were found.
+   */
+  public List<ImportRowErrorDto> getErrors() {
+    synchronized (errors) {
+      return List.copyOf(errors);
+    }
+  }
+}
@@ -0,0 +1,627 @@
+package com.betrybe.agrix.services;
+
+import com.betrybe.agrix.controllers.dto.CropCreationDto;
+import com.betrybe.agrix.controllers.dto.FarmDto;
+import com.betrybe.agrix.controllers.dto.FertilizerCreationDto;
+import com.betrybe.agrix.exception.ErrorRequestException;
+import com.betrybe.agrix.exception.NotFoundException;
+import com.betrybe.agrix.exception.ServiceUnavailableException;
+import com.betrybe.agrix.models.entity.Crop;
+import com.betrybe.agrix.models.entity.Farm;
+import com.betrybe.agrix.models.entity.Fertilizer;
+import com.betrybe.agrix.models.repository.CropRepository;
+import com.betrybe.agrix.models.repository.FarmRepository;
+import com.betrybe.agrix.models.repository.FertilizerRepository;
+import com.betrybe.agrix.tracing.ContextPropagatingTaskDecorator;
+import com.betrybe.agrix.util.CsvReader;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The ImportService class loads farms, crops and fertilizers in bulk from CSV or NDJSON
+ * files.
+ *
+ * <p>The uploaded file is first copied to a temporary file, so the request returns at once
+ * with a job id, and the rows are then read one at a time on a small, bounded pool of import
+ * threads. Each row is validated against the constraints of {@link FarmDto},
+ * {@link CropCreationDto} or {@link FertilizerCreationDto}; rejected rows are reported with
+ * their number and do not stop the import. Valid rows are written in fixed-size chunks, each
+ * chunk in its own transaction. Crop farms are checked once per chunk with a single query
+ * and remembered for the rest of the import.</p>
+ *
+ * @since 2026-10-18
+ */
+@Service
+public class ImportService {
+
+  private final FarmRepository farmRepository;
+
+  private final CropRepository cropRepository;
+
+  private final FertilizerRepository fertilizerRepository;
+
+  private final RollupService rollupService;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final ObjectMapper objectMapper;
+
+  private final Validator validator;
+
+  private final int chunkSize;
+
+  private final int maxErrors;
+
+  private final long maxBytes;
+
+  private final Duration retention;
+
+  private final ThreadPoolExecutor executor;
+
+  private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a new ImportService.
+   *
+   * @param farmRepository       The repository for managing farm data.
+   * @param cropRepository       The repository for managing crop data.
+   * @param fertilizerRepository The repository for managing fertilizer data.
+   * @param rollupService        The service maintaining the rollups.
+   * @param transactionManager   The transaction manager used for each chunk.
+   * @param objectMapper         The mapper used to read rows into DTOs.
+   * @param validator            The validator applied to each row.
+   * @param chunkSize            The number of rows written per transaction.
+   * @param maxErrors            The number of rejected rows reported with their message.
+   * @param maxBytes             The largest file accepted.
+   * @param threads              The number of imports running at the same time.
+   * @param queueCapacity        The number of imports allowed to wait for a thread.
+   * @param retentionMinutes     How long a finished import can still be queried.
+   */
+  @Autowired
+  public ImportService(
+      FarmRepository farmRepository,
+      CropRepository cropRepository,
+      FertilizerRepository fertilizerRepository,
+      RollupService rollupService,
+      PlatformTransactionManager transactionManager,
+      ObjectMapper objectMapper,
+      Validator validator,
+      @Value("${agrix.import.chunk-size:500}") int chunkSize,
+      @Value("${agrix.import.max-errors:1000}") int maxErrors,
+      @Value("${agrix.import.max-bytes:104857600}") long maxBytes,
+      @Value("${agrix.import.threads:2}") int threads,
+      @Value("${agrix.import.queue-capacity:8}") int queueCapacity,
+      @Value("${agrix.import.retention-minutes:60}") long retentionMinutes) {
+    this.farmRepository = farmRepository;
+    this.cropRepository = cropRepository;
+    this.fertilizerRepository = fertilizerRepository;
+    this.rollupService = rollupService;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.objectMapper = objectMapper;
+    this.validator = validator;
+    this.chunkSize = chunkSize;
+    this.maxErrors = maxErrors;
+    this.maxBytes = maxBytes;
+    this.retention = Duration.ofMinutes(retentionMinutes);
+    this.executor = new ThreadPoolExecutor(
+        threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        new ImportThreadFactory(),
+        new ThreadPoolExecutor.AbortPolicy());
+  }
+
+  /**
+   * Starts an import of farms. Each row has the name and size of a FarmDto; ids in the file
+   * are ignored and every row creates a new farm.
+   *
+   * @param body   The file to import.
+   * @param format The encoding of the file.
+   * @return The queued import.
+   * @throws ErrorRequestException If the file is larger than the configured limit.
+   * @throws ServiceUnavailableException If too many imports are already waiting.
+   */
+  public ImportJob importFarms(InputStream body, ImportJob.Format format) {
+    return submit(ImportJob.Type.FARMS, format, body);
+  }
+
+  /**
+   * Starts an import of crops. Each row has a farmId and the fields of a CropCreationDto.
+   *
+   * @param body   The file to import.
+   * @param format The encoding of the file.
+   * @return The queued import.
+   * @throws ErrorRequestException If the file is larger than the configured limit.
+   * @throws ServiceUnavailableException If too many imports are already waiting.
+   */
+  public ImportJob importCrops(InputStream body, ImportJob.Format format) {
+    return submit(ImportJob.Type.CROPS, format, body);
+  }
+
+  /**
+   * Starts an import of fertilizers. Each row has the fields of a FertilizerCreationDto.
+   *
+   * @param body   The file to import.
+   * @param format The encoding of the file.
+   * @return The queued import.
+   * @throws ErrorRequestException If the file is larger than the configured limit.
+   * @throws ServiceUnavailableException If too many imports are already waiting.
+   */
+  public ImportJob importFertilizers(InputStream body, ImportJob.Format format) {
+    return submit(ImportJob.Type.FERTILIZERS, format, body);
+  }
+
+  /**
+   * Retrieves an import by its id.
+   *
+   * @param id The id of the import.
+   * @return The import.
+   * @throws NotFoundException If there is no such import, or it finished long ago.
+   */
+  public ImportJob getJob(UUID id) throws NotFoundException {
+    ImportJob job = jobs.get(id);
+    if (job == null) {
+      throw new NotFoundException("Importação não encontrada!");
+    }
+    return job;
+  }
+
+  /**
+   * Stops the import threads when the application shuts down.
+   */
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private ImportJob submit(ImportJob.Type type, ImportJob.Format format, InputStream body) {
+    pruneFinishedJobs();
+
+    Path file = spool(body);
+    ImportJob job;
+    try {
+      job = new ImportJob(type, format, Files.size(file), maxErrors);
+    } catch (IOException e) {
+      deleteQuietly(file);
+      throw new UncheckedIOException(e);
+    }
+
+    jobs.put(job.getId(), job);
+    try {
+      // The import stays in the trace of the request that submitted it
+      executor.execute(ContextPropagatingTaskDecorator.SNAPSHOTS.captureAll()
+          .wrap(() -> run(job, file)));
+    } catch (RejectedExecutionException e) {
+      jobs.remove(job.getId());
+      deleteQuietly(file);
+      throw new ServiceUnavailableException("Muitas importações em andamento, tente novamente!");
+    }
+    return job;
+  }
+
+  private Path spool(InputStream body) {
+    Path file;
+    try {
+      file = Files.createTempFile("agrix-import-", ".tmp");
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    try (OutputStream out = Files.newOutputStream(file)) {
+      byte[] buffer = new byte[8192];
+      long total = 0;
+      int read;
+      while ((read = body.read(buffer)) != -1) {
+        total += read;
+        if (total > maxBytes) {
+          throw new ErrorRequestException("Arquivo de importação muito grande!");
+        }
+        out.write(buffer, 0, read);
+      }
+    } catch (IOException e) {
+      deleteQuietly(file);
+      throw new UncheckedIOException(e);
+    } catch (RuntimeException e) {
+      deleteQuietly(file);
+      throw e;
+    }
+    return file;
+  }
+
+  private void pruneFinishedJobs() {
+    Instant limit = Instant.now().minus(retention);
+    jobs.values().removeIf(job -> job.getFinishedAt() != null
+        && job.getFinishedAt().isBefore(limit));
+  }
+
+  private void run(ImportJob job, Path file) {
+    job.start();
+    try (CountingInputStream input = new CountingInputStream(Files.newInputStream(file));
+        BufferedReader reader = new BufferedReader(
+            new InputStreamReader(input, StandardCharsets.UTF_8))) {
+      RowSource source = job.getFormat() == ImportJob.Format.CSV
+          ? new CsvRowSource(new CsvReader(reader))
+          : new NdjsonRowSource(reader);
+
+      switch (job.getType()) {
+        case FARMS -> readInChunks(job, source, input, this::parseFarm,
+            chunk -> job.rowsImported(writeFarms(chunk)));
+        case CROPS -> {
+          Map<Long, Boolean> knownFarms = new HashMap<>();
+          readInChunks(job, source, input, this::parseCrop,
+              chunk -> job.rowsImported(writeCrops(job, chunk, knownFarms)));
+        }
+        default -> readInChunks(job, source, input, this::parseFertilizer,
+            chunk -> job.rowsImported(writeFertilizers(chunk)));
+      }
+      job.complete();
+    } catch (IOException | UncheckedIOException e) {
+      job.fail("Falha ao ler o arquivo: " + e.getMessage());
+    } catch (RuntimeException e) {
+      job.fail("Falha ao gravar as linhas: " + e.getMessage());
+    } finally {
+      deleteQuietly(file);
+    }
+  }
+
+  private <T> void readInChunks(ImportJob job, RowSource source, CountingInputStream input,
+      Function<ImportRow, T> parser, Consumer<List<T>> writer) throws IOException {
+    List<T> chunk = new ArrayList<>(chunkSize);
+    ImportRow row;
+    while ((row = source.next()) != null) {
+      if (Thread.currentThread().isInterrupted()) {
+        throw new IOException("Importação interrompida!");
+      }
+
+      job.rowRead();
+      if (row.error() != null) {
+        job.rowFailed(row.number(), row.error());
+        continue;
+      }
+
+      try {
+        chunk.add(parser.apply(row));
+      } catch (RowRejectedException e) {
+        job.rowFailed(row.number(), e.getMessage());
+        continue;
+      }
+
+      if (chunk.size() == chunkSize) {
+        writer.accept(chunk);
+        chunk = new ArrayList<>(chunkSize);
+        job.setBytesRead(input.getCount());
+      }
+    }
+
+    if (!chunk.isEmpty()) {
+      writer.accept(chunk);
+    }
+    job.setBytesRead(input.getCount());
+  }
+
+  private FarmDto parseFarm(ImportRow row) {
+    return toValidDto(row.fields(), FarmDto.class);
+  }
+
+  private CropRow parseCrop(ImportRow row) {
+    String farmId = row.fields().path("farmId").asText("");
+    if (farmId.isBlank()) {
+      throw new RowRejectedException("farmId: não deve estar em branco");
+    }
+
+    try {
+      return new CropRow(row.number(), Long.parseLong(farmId.trim()),
+          toValidDto(row.fields(), CropCreationDto.class));
+    } catch (NumberFormatException e) {
+      throw new RowRejectedException("farmId: deve ser um número inteiro");
+    }
+  }
+
+  private FertilizerCreationDto parseFertilizer(ImportRow row) {
+    return toValidDto(row.fields(), FertilizerCreationDto.class);
+  }
+
+  private <T> T toValidDto(JsonNode fields, Class<T> type) {
+    T dto;
+    try {
+      dto = objectMapper.treeToValue(fields, type);
+    } catch (JsonMappingException e) {
+      String field = e.getPath().stream()
+          .map(JsonMappingException.Reference::getFieldName)
+          .filter(Objects::nonNull)
+          .collect(Collectors.joining("."));
+      throw new RowRejectedException(field.isEmpty()
+          ? "Linha inválida!"
+          : field + ": valor inválido");
+    } catch (JsonProcessingException e) {
+      throw new RowRejectedException("Linha inválida!");
+    }
+
+    Set<ConstraintViolation<T>> violations = validator.validate(dto);
+    if (!violations.isEmpty()) {
+      throw new RowRejectedException(violations.stream()
+          .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+          .sorted()
+          .collect(Collectors.joining("; ")));
+    }
+    return dto;
+  }
+
+  private int writeFarms(List<FarmDto> chunk) {
+    Integer written = transactionTemplate.execute(status -> {
+      List<Farm> farms = chunk.stream()
+          .map(dto -> new Farm(null, dto.name(), dto.size()))
+          .toList();
+      farmRepository.saveAll(farms);
+      return farms.size();
+    });
+    return written == null ? 0 : written;
+  }
+
+  private int writeCrops(ImportJob job, List<CropRow> chunk, Map<Long, Boolean> knownFarms) {
+    Set<Long> unknownFarms = new HashSet<>();
+    for (CropRow row : chunk) {
+      if (!knownFarms.containsKey(row.farmId())) {
+        unknownFarms.add(row.farmId());
+      }
+    }
+
+    Integer written = transactionTemplate.execute(status -> {
+      if (!unknownFarms.isEmpty()) {
+        Set<Long> existing = farmRepository.findExistingIds(unknownFarms);
+        for (Long farmId : unknownFarms) {
+          knownFarms.put(farmId, existing.contains(farmId));
+        }
+      }
+
+      List<Crop> crops = new ArrayList<>(chunk.size());
+      for (CropRow row : chunk) {
+        if (!knownFarms.get(row.farmId())) {
+          job.rowFailed(row.number(), "Fazenda não encontrada!");
+          continue;
+        }
+        CropCreationDto dto = row.crop();
+        crops.add(new Crop(null, farmRepository.getReferenceById(row.farmId()), dto.name(),
+            dto.plantedArea(), dto.plantedDate(), dto.harvestDate()));
+      }
+
+      cropRepository.saveAll(crops);
+      rollupService.cropsAdded(crops);
+      return crops.size();
+    });
+    return written == null ? 0 : written;
+  }
+
+  private int writeFertilizers(List<FertilizerCreationDto> chunk) {
+    Integer written = transactionTemplate.execute(status -> {
+      List<Fertilizer> fertilizers = chunk.stream()
+          .map(dto -> new Fertilizer(null, dto.name(), dto.brand(), dto.composition()))
+          .toList();
+      fertilizerRepository.saveAll(fertilizers);
+      return fertilizers.size();
+    });
+    return written == null ? 0 : written;
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      file.toFile().deleteOnExit();
+    }
+  }
+
+  /**
+   * A row read from the file: its fields, or the reason it could not be read.
+   */
+  private record ImportRow(long number, JsonNode fields, String error) {}
+
+  /**
+   * A valid crop row, waiting for its farm to be resolved.
+   */
+  private record CropRow(long number, Long farmId, CropCreationDto crop) {}
+
+  /**
+   * Reads the rows of a file one at a time.
+   */
+  private interface RowSource {
+
+    ImportRow next() throws IOException;
+  }
+
+  /**
+   * Reads CSV rows. The first record is the header and names the fields of the rows.
+   */
+  private class CsvRowSource implements RowSource {
+
+    private final CsvReader csvReader;
+
+    private List<String> header;
+
+    private long number;
+
+    CsvRowSource(CsvReader csvReader) {
+      this.csvReader = csvReader;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+      if (header == null) {
+        header = readHeader();
+        if (header == null) {
+          return null;
+        }
+      }
+
+      List<String> record;
+      do {
+        record = csvReader.readRecord();
+        if (record == null) {
+          return null;
+        }
+      } while (record.size() == 1 && record.get(0).isBlank());
+
+      number++;
+      if (record.size() != header.size()) {
+        return new ImportRow(number, null, "Número de colunas diferente do cabeçalho!");
+      }
+
+      ObjectNode fields = objectMapper.createObjectNode();
+      for (int i = 0; i < header.size(); i++) {
+        String value = record.get(i).trim();
+        if (!value.isEmpty()) {
+          fields.put(header.get(i), value);
+        }
+      }
+      return new ImportRow(number, fields, null);
+    }
+
+    private List<String> readHeader() throws IOException {
+      List<String> names = csvReader.readRecord();
+      if (names == null) {
+        return null;
+      }
+
+      List<String> trimmed = new ArrayList<>(names.size());
+      for (String name : names) {
+        trimmed.add(name.replace("\uFEFF", "").trim());
+      }
+      return trimmed;
+    }
+  }
+
+  /**
+   * Reads NDJSON rows, one JSON object per line.
+   */
+  private class NdjsonRowSource implements RowSource {
+
+    private final BufferedReader reader;
+
+    private long number;
+
+    NdjsonRowSource(BufferedReader reader) {
+      this.reader = reader;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+      String line;
+      do {
+        line = reader.readLine();
+        if (line == null) {
+          return null;
+        }
+      } while (line.isBlank());
+
+      number++;
+      try {
+        JsonNode fields = objectMapper.readTree(line);
+        if (!fields.isObject()) {
+          return new ImportRow(number, null, "A linha não é um objeto JSON!");
+        }
+        return new ImportRow(number, fields, null);
+      } catch (JsonProcessingException e) {
+        return new ImportRow(number, null, "JSON inválido!");
+      }
+    }
+  }
+
+  /**
+   * Thrown when a row does not pass validation.
+   */
+  private static class RowRejectedException extends RuntimeException {
+
+    RowRejectedException(String message) {
+      super(message);
+    }
+  }
+
+  /**
+   * Counts the bytes read from the file, to report the progress of the import.
+   */
+  private static class CountingInputStream extends FilterInputStream {
+
+    private long count;
+
+    CountingInputStream(InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+      int value = super.read();
+      if (value != -1) {
+        count++;
+      }
+      return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      int read = super.read(buffer, offset, length);
+      if (read > 0) {
+        count += read;
+      }
+      return read;
+    }
+
+    long getCount() {
+      return count;
+    }
+  }
+
+  /**
+   * Names the import threads, so they are easy to spot in thread dumps.
+   */
+  private static class ImportThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "import-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
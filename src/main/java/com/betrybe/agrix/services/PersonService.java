@@ -3,34 +3,53 @@ package com.betrybe.agrix.services;
 import com.betrybe.agrix.exception.NotFoundException;
 import com.betrybe.agrix.models.entity.Person;
 import com.betrybe.agrix.models.repository.PersonRepository;
+import io.micrometer.observation.annotation.Observed;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Service layer class for handling persons business logic.
  *
+ * <p>As a {@link UserDetailsPasswordService}, it stores the new hash when Spring Security
+ * rehashes a password on login after the hashing configuration changed.</p>
+ *
  * @author Pablo
  * @version 1.0
  * @since 2023-08-25
  */
 @Service
-public class PersonService implements UserDetailsService {
+@Observed(name = "agrix.service")
+public class PersonService implements UserDetailsService, UserDetailsPasswordService {
 
   private final PersonRepository personRepository;
 
+  private final PasswordEncoder passwordEncoder;
+
+  private final TransactionTemplate transactionTemplate;
+
   /**
    * Constructs a new PersonService with the given person repository.
    *
-   * @param personRepository The repository for managing person data.
+   * @param personRepository   The repository for managing person data.
+   * @param passwordEncoder    The shared encoder used to hash passwords.
+   * @param transactionManager The transaction manager, used to save a person once the
+   *                           password is hashed.
    */
   @Autowired
-  public PersonService(PersonRepository personRepository) {
+  public PersonService(PersonRepository personRepository, PasswordEncoder passwordEncoder,
+      PlatformTransactionManager transactionManager) {
     this.personRepository = personRepository;
+    this.passwordEncoder = passwordEncoder;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
   }
 
   /**
@@ -40,6 +59,7 @@ public class PersonService implements UserDetailsService {
    * @return The retrieved person entity.
    * @throws NotFoundException If the specified person ID is not found in the database.
    */
+  @Transactional(readOnly = true)
   public Person getPersonById(Long id) {
     Optional<Person> person = personRepository.findById(id);
 
@@ -57,6 +77,7 @@ public class PersonService implements UserDetailsService {
    * @return The retrieved person entity.
    * @throws NotFoundException If the specified username is not found in the database.
    */
+  @Transactional(readOnly = true)
   public Person getPersonByUsername(String username) {
     Person person = personRepository.findByUsername(username);
 
@@ -68,26 +89,38 @@ public class PersonService implements UserDetailsService {
   }
 
   /**
-   * Creates a new person.
+   * Creates a new person. The password is hashed before the transaction starts, so no
+   * connection is held while the hashing pool works.
    *
    * @param person The person entity to be created.
    * @return The created person entity.
    */
   public Person create(Person person) {
-    Person personOptional = personRepository.findByUsername(person.getUsername());
-    if (personOptional != null) {
-      throw new NotFoundException("Não foi possível cadastrar, nome de usuário já existe!");
-    } else {
-      String hashedPassword = new BCryptPasswordEncoder().encode(person.getPassword());
+    String hashedPassword = passwordEncoder.encode(person.getPassword());
+
+    return transactionTemplate.execute(status -> {
+      Person personOptional = personRepository.findByUsername(person.getUsername());
+      if (personOptional != null) {
+        throw new NotFoundException("Não foi possível cadastrar, nome de usuário já existe!");
+      }
 
       person.setPassword(hashedPassword);
 
       return personRepository.save(person);
-    }
+    });
   }
 
   @Override
+  @Transactional(readOnly = true)
   public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
     return personRepository.findByUsername(username);
   }
+
+  @Override
+  @Transactional
+  public UserDetails updatePassword(UserDetails user, String newPassword) {
+    Person person = personRepository.findByUsername(user.getUsername());
+    person.setPassword(newPassword);
+    return personRepository.save(person);
+  }
 }
\ No newline at end of file
@@ -0,0 +1,225 @@
+package com.betrybe.agrix.services;
+
+import com.betrybe.agrix.controllers.dto.CropFertilizerPairDto;
+import com.betrybe.agrix.controllers.dto.FertilizerUsageDto;
+import com.betrybe.agrix.controllers.dto.MonthlyAreaDto;
+import com.betrybe.agrix.controllers.dto.RollupCheckDto;
+import com.betrybe.agrix.exception.NotFoundException;
+import com.betrybe.agrix.models.entity.Crop;
+import com.betrybe.agrix.models.repository.FarmRepository;
+import com.betrybe.agrix.models.repository.RollupRepository;
+import com.betrybe.agrix.models.repository.RollupRepository.FarmMonthTotals;
+import com.betrybe.agrix.models.repository.RollupRepository.FertilizerTotals;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * The RollupService class maintains the farm-month and fertilizer-usage rollups.
+ *
+ * <p>Every write path that adds or removes crops or crop and fertilizer associations reports
+ * the change here, inside its own transaction, so the rollups commit or roll back together
+ * with the rows they summarize. Changes are grouped by key first, so a batch of crops costs
+ * one statement per farm and month rather than one per crop.</p>
+ *
+ * @since 2026-10-18
+ */
+@Service
+public class RollupService {
+
+  /**
+   * The largest difference between two planted areas still considered equal.
+   */
+  private static final double AREA_TOLERANCE = 1e-6;
+
+  private static final Comparator<FarmMonth> FARM_MONTH_ORDER =
+      Comparator.comparing(FarmMonth::farmId)
+          .thenComparingInt(FarmMonth::year)
+          .thenComparingInt(FarmMonth::month);
+
+  private record FarmMonth(Long farmId, int year, int month) {}
+
+  private final RollupRepository rollupRepository;
+
+  private final FarmRepository farmRepository;
+
+  /**
+   * Constructs a new RollupService.
+   *
+   * @param rollupRepository The repository for the rollup tables.
+   * @param farmRepository   The repository for managing farm data.
+   */
+  @Autowired
+  public RollupService(RollupRepository rollupRepository, FarmRepository farmRepository) {
+    this.rollupRepository = rollupRepository;
+    this.farmRepository = farmRepository;
+  }
+
+  /**
+   * Adds newly saved crops to the farm-month rollup.
+   *
+   * @param crops The crops that were inserted.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void cropsAdded(Collection<Crop> crops) {
+    applyCrops(crops, 1);
+  }
+
+  /**
+   * Removes deleted crops from the farm-month rollup.
+   *
+   * @param crops The crops that were deleted, as they were before deletion.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void cropsRemoved(Collection<Crop> crops) {
+    applyCrops(crops, -1);
+  }
+
+  /**
+   * Adds newly inserted associations to the fertilizer-usage rollup.
+   *
+   * @param pairs The crop and fertilizer pairs that were inserted.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void associationsAdded(Collection<CropFertilizerPairDto> pairs) {
+    applyAssociations(pairs, 1);
+  }
+
+  /**
+   * Removes deleted associations from the fertilizer-usage rollup.
+   *
+   * @param pairs The crop and fertilizer pairs that were deleted.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void associationsRemoved(Collection<CropFertilizerPairDto> pairs) {
+    applyAssociations(pairs, -1);
+  }
+
+  /**
+   * Get the crop count and planted area of a farm per planting month, from the rollup.
+   *
+   * @param farmId The id of the farm.
+   * @return The totals of each planting month with crops, in chronological order.
+   * @throws NotFoundException If the farm does not exist.
+   */
+  @Transactional(readOnly = true)
+  public List<MonthlyAreaDto> getMonthlyArea(Long farmId) throws NotFoundException {
+    if (!farmRepository.existsById(farmId)) {
+      throw new NotFoundException("Fazenda não encontrada!");
+    }
+
+    return rollupRepository.findFarmMonths(farmId);
+  }
+
+  /**
+   * Get the number of crops associated with each fertilizer, from the rollup.
+   *
+   * @return The usage of each fertilizer, ordered by fertilizer id.
+   */
+  @Transactional(readOnly = true)
+  public List<FertilizerUsageDto> getFertilizerUsage() {
+    return rollupRepository.findFertilizerUsage();
+  }
+
+  /**
+   * Recomputes both rollups from the crop and crop_fertilizer tables. The rebuild rewrites
+   * every rollup row in one transaction, so it is meant for quiet periods or for repairing
+   * the rollups after a reported inconsistency.
+   *
+   * @return The outcome of checking the rebuilt rollups.
+   */
+  @Transactional
+  public RollupCheckDto rebuild() {
+    rollupRepository.rebuild();
+    return check();
+  }
+
+  /**
+   * Compares both rollups with totals recomputed from the crop and crop_fertilizer tables.
+   *
+   * @return Whether the rollups are consistent, and a description of each difference.
+   */
+  @Transactional(readOnly = true)
+  public RollupCheckDto check() {
+    List<String> differences = new ArrayList<>();
+
+    compare("farm_month_rollup",
+        index(rollupRepository.findAllFarmMonths(), RollupService::farmMonthKey),
+        index(rollupRepository.computeFarmMonths(), RollupService::farmMonthKey),
+        (stored, live) -> stored.cropCount() == live.cropCount()
+            && Math.abs(stored.plantedArea() - live.plantedArea()) <= AREA_TOLERANCE,
+        differences);
+    compare("fertilizer_usage_rollup",
+        index(rollupRepository.findAllFertilizerUsage(), RollupService::fertilizerKey),
+        index(rollupRepository.computeFertilizerUsage(), RollupService::fertilizerKey),
+        (stored, live) -> stored.cropCount() == live.cropCount(),
+        differences);
+
+    return new RollupCheckDto(differences.isEmpty(), differences);
+  }
+
+  private void applyCrops(Collection<Crop> crops, int sign) {
+    Map<FarmMonth, double[]> totals = new TreeMap<>(FARM_MONTH_ORDER);
+    for (Crop crop : crops) {
+      if (crop.getFarm() == null || crop.getPlantingDate() == null) {
+        continue;
+      }
+      FarmMonth key = new FarmMonth(crop.getFarm().getId(),
+          crop.getPlantingDate().getYear(), crop.getPlantingDate().getMonthValue());
+      double[] total = totals.computeIfAbsent(key, ignored -> new double[2]);
+      total[0] += 1;
+      total[1] += crop.getPlantedArea() == null ? 0 : crop.getPlantedArea();
+    }
+
+    // Keys are applied in a fixed order so concurrent writers lock rollup rows alike.
+    totals.forEach((key, total) -> rollupRepository.addFarmMonth(new FarmMonthTotals(
+        key.farmId(), key.year(), key.month(), sign * (long) total[0], sign * total[1])));
+  }
+
+  private void applyAssociations(Collection<CropFertilizerPairDto> pairs, int sign) {
+    Map<Long, Long> counts = pairs.stream().collect(Collectors.groupingBy(
+        CropFertilizerPairDto::fertilizerId, TreeMap::new, Collectors.counting()));
+
+    counts.forEach((fertilizerId, count) -> rollupRepository.addFertilizerUsage(
+        new FertilizerTotals(fertilizerId, sign * count)));
+  }
+
+  private static <T> Map<String, T> index(List<T> rows, Function<T, String> key) {
+    return rows.stream().collect(Collectors.toMap(key, Function.identity()));
+  }
+
+  private static <T> void compare(String table, Map<String, T> stored, Map<String, T> live,
+      BiPredicate<T, T> equal, List<String> differences) {
+    TreeSet<String> keys = new TreeSet<>(stored.keySet());
+    keys.addAll(live.keySet());
+    for (String key : keys) {
+      T storedRow = stored.get(key);
+      T liveRow = live.get(key);
+      if (storedRow == null || liveRow == null || !equal.test(storedRow, liveRow)) {
+        differences.add(table + " " + key + ": stored " + Objects.toString(storedRow, "none")
+            + ", expected " + Objects.toString(liveRow, "none"));
+      }
+    }
+  }
+
+  private static String farmMonthKey(FarmMonthTotals totals) {
+    return String.format("farm=%d month=%04d-%02d",
+        totals.farmId(), totals.year(), totals.month());
+  }
+
+  private static String fertilizerKey(FertilizerTotals totals) {
+    return "fertilizer=" + totals.fertilizerId();
+  }
+}
@@ -0,0 +1,132 @@
+package com.betrybe.agrix.services;
+
+import com.betrybe.agrix.controllers.dto.FarmUtilizationDto;
+import com.betrybe.agrix.controllers.dto.HarvestDayDto;
+import com.betrybe.agrix.controllers.dto.HarvestWeekDto;
+import com.betrybe.agrix.controllers.dto.MonthlyPlantedAreaDto;
+import com.betrybe.agrix.exception.ErrorRequestException;
+import com.betrybe.agrix.exception.NotFoundException;
+import com.betrybe.agrix.models.repository.CropRepository;
+import com.betrybe.agrix.models.repository.FarmRepository;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * The StatisticsService class provides farm-level crop statistics. Every total is
+ * aggregated by the database with GROUP BY and read straight into DTOs, so no crop entity
+ * is loaded whatever the number of crops.
+ *
+ * @since 2026-10-18
+ */
+@Service
+public class StatisticsService {
+
+  /**
+   * The largest number of weeks of upcoming harvests that can be requested.
+   */
+  public static final int MAX_HARVEST_WEEKS = 52;
+
+  private final FarmRepository farmRepository;
+
+  private final CropRepository cropRepository;
+
+  /**
+   * Constructs a new StatisticsService.
+   *
+   * @param farmRepository The repository for managing farm data.
+   * @param cropRepository The repository for managing crop data.
+   */
+  @Autowired
+  public StatisticsService(FarmRepository farmRepository, CropRepository cropRepository) {
+    this.farmRepository = farmRepository;
+    this.cropRepository = cropRepository;
+  }
+
+  /**
+   * Get the crop count, planted area and utilization of every farm.
+   *
+   * @return The totals of each farm, ordered by farm id.
+   */
+  @Transactional(readOnly = true)
+  public List<FarmUtilizationDto> getFarmUtilization() {
+    return farmRepository.findUtilization();
+  }
+
+  /**
+   * Get the crop count, planted area and utilization of a farm.
+   *
+   * @param farmId The id of the farm.
+   * @return The totals of the farm.
+   * @throws NotFoundException If the farm does not exist.
+   */
+  @Transactional(readOnly = true)
+  public FarmUtilizationDto getFarmUtilization(Long farmId) throws NotFoundException {
+    return farmRepository.findUtilizationByFarmId(farmId)
+        .orElseThrow(() -> new NotFoundException("Fazenda não encontrada!"));
+  }
+
+  /**
+   * Get the crop count and planted area of a farm per planting month and crop name.
+   *
+   * @param farmId The id of the farm.
+   * @return The totals per month and crop name, in chronological order.
+   * @throws NotFoundException If the farm does not exist.
+   */
+  @Transactional(readOnly = true)
+  public List<MonthlyPlantedAreaDto> getMonthlyPlantedArea(Long farmId)
+      throws NotFoundException {
+    if (!farmRepository.existsById(farmId)) {
+      throw new NotFoundException("Fazenda não encontrada!");
+    }
+    return cropRepository.sumPlantedAreaByMonth(farmId);
+  }
+
+  /**
+   * Get the crops to be harvested in each of the coming weeks, starting with the current
+   * one. The database groups the harvests by day; the days are then added up per ISO week.
+   * Weeks without harvests are included with zero totals.
+   *
+   * @param farmId The id of the farm, or null for every farm.
+   * @param weeks  The number of weeks.
+   * @param today  The current date.
+   * @return The totals of each week, in chronological order.
+   * @throws ErrorRequestException If the number of weeks is out of bounds.
+   * @throws NotFoundException If the farm does not exist.
+   */
+  @Transactional(readOnly = true)
+  public List<HarvestWeekDto> getUpcomingHarvests(Long farmId, int weeks, LocalDate today)
+      throws NotFoundException {
+    if (weeks < 1 || weeks > MAX_HARVEST_WEEKS) {
+      throw new ErrorRequestException("Número de semanas inválido!");
+    }
+    if (farmId != null && !farmRepository.existsById(farmId)) {
+      throw new NotFoundException("Fazenda não encontrada!");
+    }
+
+    LocalDate firstWeek = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    LocalDate to = firstWeek.plusWeeks(weeks).minusDays(1);
+    List<HarvestDayDto> days = farmId == null
+        ? cropRepository.sumHarvestsByDay(today, to)
+        : cropRepository.sumHarvestsByDayForFarm(farmId, today, to);
+
+    long[] counts = new long[weeks];
+    double[] areas = new double[weeks];
+    for (HarvestDayDto day : days) {
+      int week = (int) (day.harvestDate().toEpochDay() - firstWeek.toEpochDay()) / 7;
+      counts[week] += day.cropCount();
+      areas[week] += day.plantedArea() == null ? 0.0 : day.plantedArea();
+    }
+
+    List<HarvestWeekDto> result = new ArrayList<>(weeks);
+    for (int week = 0; week < weeks; week++) {
+      result.add(new HarvestWeekDto(firstWeek.plusWeeks(week), counts[week], areas[week]));
+    }
+    return result;
+  }
+}
@@ -1,11 +1,22 @@
 package com.betrybe.agrix.services;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.betrybe.agrix.models.entity.Person;
+import com.betrybe.agrix.util.PemKeys;
+import io.micrometer.observation.annotation.Observed;
+import java.nio.file.Path;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
+import java.util.Locale;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -14,26 +25,110 @@ import org.springframework.stereotype.Service;
  * This service is responsible for handling token-related operations, including
  * token generation and validation.
  *
+ * <p>The signing algorithm and the verifier are built once at startup and shared across
+ * threads. Besides the default HS256 shared secret, tokens can be signed with RS256 or ES256
+ * key pairs read from PEM files; a node configured with only the public key can verify
+ * tokens but not issue them.</p>
+ *
  * @author Pablo
  * @version 1.0
  * @since 2023-08-17
  */
 @Service
+@Observed(name = "agrix.service")
 public class TokenService {
 
-  @Value("${api.security.token.secret}")
-  private String secret;
+  private static final String ISSUER = "trybetrack";
+
+  private static final Duration TOKEN_LIFETIME = Duration.ofHours(2);
+
+  private final Algorithm algorithm;
+
+  private final JWTVerifier verifier;
+
+  private final boolean canSign;
+
+  private final Clock clock;
+
+  /**
+   * Constructs a new TokenService for the configured algorithm.
+   *
+   * @param secret         The shared secret used by HS256.
+   * @param algorithmName  The signing algorithm: HS256, RS256 or ES256.
+   * @param publicKeyPath  The PEM file with the public key, used by RS256 and ES256.
+   * @param privateKeyPath The PEM file with the private key, used by RS256 and ES256.
+   *                       Leave it empty on nodes that only verify tokens.
+   */
+  @Autowired
+  public TokenService(
+      @Value("${api.security.token.secret}") String secret,
+      @Value("${api.security.token.algorithm:HS256}") String algorithmName,
+      @Value("${api.security.token.public-key-path:}") String publicKeyPath,
+      @Value("${api.security.token.private-key-path:}") String privateKeyPath) {
+    this(secret, algorithmName, publicKeyPath, privateKeyPath, Clock.systemUTC());
+  }
+
+  /**
+   * Constructs a new TokenService that reads the time from the given clock, both to date the
+   * tokens it issues and to check the expiration of the tokens it verifies.
+   *
+   * @param secret         The shared secret used by HS256.
+   * @param algorithmName  The signing algorithm: HS256, RS256 or ES256.
+   * @param publicKeyPath  The PEM file with the public key, used by RS256 and ES256.
+   * @param privateKeyPath The PEM file with the private key, used by RS256 and ES256.
+   * @param clock          The clock of the token dates.
+   */
+  public TokenService(String secret, String algorithmName, String publicKeyPath,
+      String privateKeyPath, Clock clock) {
+    boolean hasPrivateKey = privateKeyPath != null && !privateKeyPath.isBlank();
+
+    switch (algorithmName.toUpperCase(Locale.ROOT)) {
+      case "HS256" -> {
+        this.algorithm = Algorithm.HMAC256(secret);
+        this.canSign = true;
+      }
+      case "RS256" -> {
+        RSAPublicKey publicKey = (RSAPublicKey) PemKeys.readPublicKey(
+            Path.of(publicKeyPath), "RSA");
+        RSAPrivateKey privateKey = hasPrivateKey
+            ? (RSAPrivateKey) PemKeys.readPrivateKey(Path.of(privateKeyPath), "RSA")
+            : null;
+        this.algorithm = Algorithm.RSA256(publicKey, privateKey);
+        this.canSign = hasPrivateKey;
+      }
+      case "ES256" -> {
+        ECPublicKey publicKey = (ECPublicKey) PemKeys.readPublicKey(
+            Path.of(publicKeyPath), "EC");
+        ECPrivateKey privateKey = hasPrivateKey
+            ? (ECPrivateKey) PemKeys.readPrivateKey(Path.of(privateKeyPath), "EC")
+            : null;
+        this.algorithm = Algorithm.ECDSA256(publicKey, privateKey);
+        this.canSign = hasPrivateKey;
+      }
+      default -> throw new IllegalStateException(
+          "Algoritmo de token não suportado: " + algorithmName);
+    }
+
+    this.verifier = ((JWTVerifier.BaseVerification) JWT.require(algorithm)
+        .withIssuer(ISSUER))
+        .build(clock);
+    this.clock = clock;
+  }
 
   /**
    * Generates a JWT token for the given person.
    *
    * @param person The person for whom the token is generated.
    * @return The generated JWT token.
+   * @throws IllegalStateException If this node has no private key to sign tokens.
    */
   public String generateToken(Person person) {
-    Algorithm algorithm = Algorithm.HMAC256(secret);
+    if (!canSign) {
+      throw new IllegalStateException("Este servidor não possui chave para emitir tokens!");
+    }
+
     return JWT.create()
-        .withIssuer("trybetrack")
+        .withIssuer(ISSUER)
         .withSubject(person.getUsername())
         .withExpiresAt(generateExpirationDate())
         .sign(algorithm);
@@ -45,9 +140,7 @@ public class TokenService {
    * @return The expiration date of the JWT token.
    */
   private Instant generateExpirationDate() {
-    return LocalDateTime.now()
-        .plusHours(2)
-        .toInstant(ZoneOffset.of("-03:00"));
+    return Instant.now(clock).plus(TOKEN_LIFETIME);
   }
 
   /**
@@ -57,12 +150,17 @@ public class TokenService {
    * @return The subject (username) retrieved from the validated token.
    */
   public String validateToken(String token) {
-    Algorithm algorithm = Algorithm.HMAC256(secret);
-    return JWT.require(algorithm)
-        .withIssuer("trybetrack")
-        .build()
-        .verify(token)
-        .getSubject();
+    return verifyToken(token).getSubject();
+  }
+
+  /**
+   * Verifies a JWT token and returns its decoded claims.
+   *
+   * @param token The JWT token to be verified.
+   * @return The decoded token, including its subject and expiration date.
+   */
+  public DecodedJWT verifyToken(String token) {
+    return verifier.verify(token);
   }
 
 }
@@ -0,0 +1,90 @@
+package com.betrybe.agrix.threads;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Bounds the number of requests handled at once. With platform threads the Tomcat pool
+ * already does this; with virtual threads every accepted connection gets a thread, so this
+ * filter takes over. Requests over the limit wait a short while for a slot, then fail fast
+ * with 503 instead of piling up on the connection pool.
+ *
+ * @since 2026-10-18
+ */
+public class RequestConcurrencyLimitFilter extends OncePerRequestFilter {
+
+  private final Semaphore permits;
+
+  private final int maxConcurrentRequests;
+
+  private final long waitMillis;
+
+  private final AtomicLong rejectedCount = new AtomicLong();
+
+  /**
+   * Constructs a new RequestConcurrencyLimitFilter.
+   *
+   * @param maxConcurrentRequests The largest number of requests handled at once.
+   * @param waitMillis            How long a request over the limit waits for a slot.
+   */
+  public RequestConcurrencyLimitFilter(int maxConcurrentRequests, long waitMillis) {
+    this.permits = new Semaphore(maxConcurrentRequests);
+    this.maxConcurrentRequests = maxConcurrentRequests;
+    this.waitMillis = waitMillis;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    boolean acquired;
+    try {
+      acquired = permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      acquired = false;
+    }
+    if (!acquired) {
+      rejectedCount.incrementAndGet();
+      response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+      response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+      response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+      response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+      response.getWriter().write("Servidor sobrecarregado, tente novamente!");
+      return;
+    }
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      permits.release();
+    }
+  }
+
+  /**
+   * Get the number of requests being handled.
+   *
+   * @return The number of requests holding a slot.
+   */
+  public int getActiveCount() {
+    return maxConcurrentRequests - permits.availablePermits();
+  }
+
+  /**
+   * Get the number of requests rejected because every slot was taken.
+   *
+   * @return The number of rejected requests since startup.
+   */
+  public long getRejectedCount() {
+    return rejectedCount.get();
+  }
+}
@@ -0,0 +1,37 @@
+package com.betrybe.agrix.threads;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Fails startup when agrix.threads.virtual.enabled is true but the build has no virtual
+ * thread support. The VirtualThreadConfiguration is only compiled by the java21 Maven
+ * profile, so a Java 17 build would otherwise ignore the flag and keep serving requests on
+ * the Tomcat pool, while the pool size self-check already sized the connection pool for
+ * the virtual thread limit.
+ *
+ * @since 2026-10-18
+ */
+@Component
+@ConditionalOnProperty("agrix.threads.virtual.enabled")
+public class VirtualThreadSupportCheck {
+
+  private static final String CONFIGURATION =
+      "com.betrybe.agrix.threads.VirtualThreadConfiguration";
+
+  /**
+   * Checks that the virtual thread configuration is part of the build.
+   *
+   * @param resourceLoader The loader of the application classes.
+   */
+  @Autowired
+  public VirtualThreadSupportCheck(ResourceLoader resourceLoader) {
+    if (!ClassUtils.isPresent(CONFIGURATION, resourceLoader.getClassLoader())) {
+      throw new IllegalStateException("agrix.threads.virtual.enabled exige um build com o "
+          + "perfil java21 (./mvnw -P java21 package) rodando em Java 21 ou superior");
+    }
+  }
+}
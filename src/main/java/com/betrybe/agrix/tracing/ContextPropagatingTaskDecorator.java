@@ -0,0 +1,25 @@
+package com.betrybe.agrix.tracing;
+
+import io.micrometer.context.ContextSnapshotFactory;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Runs each task with the thread-local context of the thread that submitted it, among them
+ * the current observation, so the spans of asynchronous work stay in the trace of the
+ * request that started it.
+ *
+ * @since 2026-10-18
+ */
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+  /**
+   * Takes the snapshots of the thread-local context, here and wherever else work is handed
+   * over to another thread.
+   */
+  public static final ContextSnapshotFactory SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
+  @Override
+  public Runnable decorate(Runnable runnable) {
+    return SNAPSHOTS.captureAll().wrap(runnable);
+  }
+}
@@ -0,0 +1,43 @@
+package com.betrybe.agrix.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * The JSON converter of the controllers, observing the serialization of each response body
+ * so the time spent in Jackson, including the lazy loads it triggers, is a span of its own.
+ * Replaces the converter Spring Boot would otherwise register.
+ *
+ * @since 2026-10-18
+ */
+public class ObservedJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+  private final ObservationRegistry observationRegistry;
+
+  /**
+   * Constructs a new ObservedJsonHttpMessageConverter.
+   *
+   * @param objectMapper        The object mapper of the application.
+   * @param observationRegistry The observation registry.
+   */
+  public ObservedJsonHttpMessageConverter(ObjectMapper objectMapper,
+      ObservationRegistry observationRegistry) {
+    super(objectMapper);
+    this.observationRegistry = observationRegistry;
+  }
+
+  @Override
+  protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+      throws IOException {
+    Observation.createNotStarted("agrix.http.serialization", observationRegistry)
+        .contextualName("serialize response")
+        .lowCardinalityKeyValue("type",
+            object == null ? "null" : object.getClass().getSimpleName())
+        .observeChecked(() -> super.writeInternal(object, type, outputMessage));
+  }
+}
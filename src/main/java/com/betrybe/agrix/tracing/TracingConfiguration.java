@@ -0,0 +1,60 @@
+package com.betrybe.agrix.tracing;
+
+import com.betrybe.agrix.datasource.QueryTracingListener;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the spans of the application, exported over OTLP to
+ * management.otlp.tracing.endpoint through the OpenTelemetry bridge of Micrometer Tracing.
+ * Besides the HTTP request spans of Spring Boot, a request is broken down into the JWT
+ * verification and user lookup of the SecurityFilter, each service method
+ * ({@code @Observed}), each JDBC statement and the JSON serialization of the response.
+ *
+ * <p>The context of the trace follows the work handed to the application task executor,
+ * the password hashing pool and the import workers.</p>
+ *
+ * @since 2026-10-18
+ */
+@Configuration
+public class TracingConfiguration {
+
+  /**
+   * Makes each statement of the application DataSource a span.
+   *
+   * @param observationRegistry The observation registry.
+   * @return The statement listener.
+   */
+  @Bean
+  @ConditionalOnProperty(name = "agrix.tracing.jdbc.enabled", matchIfMissing = true)
+  public QueryTracingListener queryTracingListener(ObservationRegistry observationRegistry) {
+    return new QueryTracingListener(observationRegistry);
+  }
+
+  /**
+   * Propagates the trace to the tasks of the application task executor, which runs the
+   * streamed exports.
+   *
+   * @return The task decorator.
+   */
+  @Bean
+  public ContextPropagatingTaskDecorator contextPropagatingTaskDecorator() {
+    return new ContextPropagatingTaskDecorator();
+  }
+
+  /**
+   * Makes the JSON serialization of each response a span.
+   *
+   * @param objectMapper        The object mapper of the application.
+   * @param observationRegistry The observation registry.
+   * @return The JSON converter.
+   */
+  @Bean
+  public ObservedJsonHttpMessageConverter observedJsonHttpMessageConverter(
+      ObjectMapper objectMapper, ObservationRegistry observationRegistry) {
+    return new ObservedJsonHttpMessageConverter(objectMapper, observationRegistry);
+  }
+}
@@ -0,0 +1,104 @@
+package com.betrybe.agrix.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The CsvReader class reads comma-separated records one at a time from a character stream,
+ * so a file of any size can be processed without loading it into memory.
+ *
+ * <p>Fields may be enclosed in double quotes; quoted fields can contain commas, line breaks
+ * and doubled quotes. Records end with LF or CRLF.</p>
+ *
+ * @since 2026-10-18
+ */
+public class CsvReader {
+
+  private static final int END = -1;
+
+  private static final int NONE = -2;
+
+  private final Reader reader;
+
+  private int pending = NONE;
+
+  /**
+   * Constructs a new CsvReader.
+   *
+   * @param reader The stream to read; it should be buffered.
+   */
+  public CsvReader(Reader reader) {
+    this.reader = reader;
+  }
+
+  /**
+   * Reads the next record.
+   *
+   * @return The fields of the record, or null at the end of the stream.
+   * @throws IOException If the stream cannot be read, or a quoted field is not closed.
+   */
+  public List<String> readRecord() throws IOException {
+    int current = read();
+    if (current == END) {
+      return null;
+    }
+
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+
+    while (true) {
+      if (quoted) {
+        if (current == END) {
+          throw new IOException("Campo entre aspas não foi fechado!");
+        }
+        if (current == '"') {
+          int next = read();
+          if (next == '"') {
+            field.append('"');
+          } else {
+            quoted = false;
+            current = next;
+            continue;
+          }
+        } else {
+          field.append((char) current);
+        }
+      } else if (current == '"' && field.isEmpty()) {
+        quoted = true;
+      } else if (current == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else if (current == '\r') {
+        int next = read();
+        if (next != '\n') {
+          unread(next);
+        }
+        break;
+      } else if (current == '\n' || current == END) {
+        break;
+      } else {
+        field.append((char) current);
+      }
+      current = read();
+    }
+
+    fields.add(field.toString());
+    return fields;
+  }
+
+  private int read() throws IOException {
+    if (pending != NONE) {
+      int value = pending;
+      pending = NONE;
+      return value;
+    }
+    return reader.read();
+  }
+
+  private void unread(int value) {
+    pending = value;
+  }
+}
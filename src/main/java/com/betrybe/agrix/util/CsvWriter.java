@@ -0,0 +1,79 @@
+package com.betrybe.agrix.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The CsvWriter class writes comma-separated records straight to an output stream, one
+ * record at a time, in the format read by {@link CsvReader}.
+ *
+ * @since 2026-10-18
+ */
+public class CsvWriter {
+
+  private final Writer writer;
+
+  /**
+   * Constructs a new CsvWriter that writes UTF-8 text.
+   *
+   * @param outputStream The stream the records are written to.
+   */
+  public CsvWriter(OutputStream outputStream) {
+    this.writer = new BufferedWriter(
+        new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Writes one record. Null values are written as empty fields, and fields holding commas,
+   * quotes or line breaks are quoted.
+   *
+   * @param values The fields of the record.
+   * @throws UncheckedIOException If the stream cannot be written.
+   */
+  public void writeRecord(Object... values) {
+    try {
+      for (int i = 0; i < values.length; i++) {
+        if (i > 0) {
+          writer.write(',');
+        }
+        if (values[i] != null) {
+          writeField(values[i].toString());
+        }
+      }
+      writer.write("\r\n");
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Writes the buffered records to the stream.
+   *
+   * @throws UncheckedIOException If the stream cannot be written.
+   */
+  public void flush() {
+    try {
+      writer.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void writeField(String value) throws IOException {
+    boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+        || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+    if (!quote) {
+      writer.write(value);
+      return;
+    }
+
+    writer.write('"');
+    writer.write(value.replace("\"", "\"\""));
+    writer.write('"');
+  }
+}
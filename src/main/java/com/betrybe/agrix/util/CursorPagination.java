@@ -0,0 +1,114 @@
+package com.betrybe.agrix.util;
+
+import com.betrybe.agrix.exception.ErrorRequestException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * The CursorPagination class implements keyset (cursor) pagination for the list endpoints.
+ * Pages are ordered by id, and the cursor is an opaque token carrying the last id of the
+ * previous page, returned in the {@value #NEXT_CURSOR_HEADER} response header.
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class CursorPagination {
+
+  /**
+   * The response header carrying the cursor of the next page.
+   */
+  public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+  private static final String CURSOR_PREFIX = "id:";
+
+  private final int defaultSize;
+
+  private final int maxSize;
+
+  /**
+   * Constructs a new CursorPagination with the configured page sizes.
+   *
+   * @param defaultSize The page size used when the client does not ask for one.
+   * @param maxSize     The largest page size a client can ask for.
+   */
+  @Autowired
+  public CursorPagination(
+      @Value("${agrix.pagination.default-size:100}") int defaultSize,
+      @Value("${agrix.pagination.max-size:1000}") int maxSize) {
+    this.defaultSize = defaultSize;
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Resolves the page size requested by the client.
+   *
+   * @param size The requested page size, or null for the default.
+   * @return The page size.
+   * @throws ErrorRequestException If the size is out of bounds.
+   */
+  public int resolveSize(Integer size) {
+    if (size == null) {
+      return defaultSize;
+    }
+    if (size < 1 || size > maxSize) {
+      throw new ErrorRequestException("Tamanho de página inválido!");
+    }
+    return size;
+  }
+
+  /**
+   * Decodes a cursor into the last id of the previous page.
+   *
+   * @param cursor The cursor sent by the client, or null for the first page.
+   * @return The id after which the page starts.
+   * @throws ErrorRequestException If the cursor is malformed.
+   */
+  public long decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return 0L;
+    }
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      if (!decoded.startsWith(CURSOR_PREFIX)) {
+        throw new ErrorRequestException("Cursor inválido!");
+      }
+      return Long.parseLong(decoded.substring(CURSOR_PREFIX.length()));
+    } catch (IllegalArgumentException e) {
+      throw new ErrorRequestException("Cursor inválido!");
+    }
+  }
+
+  /**
+   * Encodes the last id of a page into the cursor of the next page.
+   *
+   * @param lastId The id of the last item of the page.
+   * @return The opaque cursor.
+   */
+  public String encode(long lastId) {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString((CURSOR_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Builds the response for a page, adding the next cursor header when the page is full.
+   *
+   * @param items The items of the page.
+   * @param size  The requested page size.
+   * @param idOf  The function extracting the id of an item.
+   * @param <T>   The type of the items.
+   * @return A ResponseEntity with the page and an HTTP status code of 200 (OK).
+   */
+  public <T> ResponseEntity<List<T>> toResponse(List<T> items, int size, Function<T, Long> idOf) {
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+    if (items.size() == size) {
+      response.header(NEXT_CURSOR_HEADER, encode(idOf.apply(items.get(items.size() - 1))));
+    }
+    return response.body(items);
+  }
+}
@@ -1,9 +1,11 @@
 package com.betrybe.agrix.util;
 
 import com.betrybe.agrix.controllers.dto.CropDto;
+import com.betrybe.agrix.controllers.dto.FarmDto;
 import com.betrybe.agrix.controllers.dto.FertilizerDto;
 import com.betrybe.agrix.controllers.dto.PersonDto;
 import com.betrybe.agrix.models.entity.Crop;
+import com.betrybe.agrix.models.entity.Farm;
 import com.betrybe.agrix.models.entity.Fertilizer;
 import com.betrybe.agrix.models.entity.Person;
 
@@ -39,6 +41,16 @@ public class DtoConverter {
     );
   }
 
+  /**
+   * Converts a Farm entity to a FarmDto.
+   *
+   * @param farm The Farm entity to be converted.
+   * @return The corresponding FarmDto.
+   */
+  public static FarmDto farmToDto(Farm farm) {
+    return new FarmDto(farm.getId(), farm.getName(), farm.getSize());
+  }
+
   /**
    * Converts a Fertilizer entity to a FertilizerNewDto.
    *
@@ -0,0 +1,46 @@
+package com.betrybe.agrix.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * The NdjsonWriter class writes values as newline-delimited JSON, one value per line,
+ * straight to an output stream, so a response never holds more than one row in memory.
+ *
+ * @since 2026-10-18
+ */
+public class NdjsonWriter {
+
+  private final ObjectMapper objectMapper;
+
+  private final OutputStream outputStream;
+
+  /**
+   * Constructs a new NdjsonWriter.
+   *
+   * @param objectMapper The mapper used to serialize the values.
+   * @param outputStream The stream the lines are written to.
+   */
+  public NdjsonWriter(ObjectMapper objectMapper, OutputStream outputStream) {
+    this.objectMapper = objectMapper;
+    this.outputStream = outputStream;
+  }
+
+  /**
+   * Writes a value as one JSON line.
+   *
+   * @param value The value to write.
+   * @throws UncheckedIOException If the stream cannot be written, for example when the
+   *     client disconnects.
+   */
+  public void write(Object value) {
+    try {
+      outputStream.write(objectMapper.writeValueAsBytes(value));
+      outputStream.write('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.betrybe.agrix.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+/**
+ * The PemKeys class provides utility methods for reading keys from PEM files.
+ * Public keys must be X.509 encoded ("BEGIN PUBLIC KEY") and private keys must be
+ * PKCS#8 encoded ("BEGIN PRIVATE KEY").
+ *
+ * @since 2026-10-18
+ */
+public class PemKeys {
+
+  /**
+   * Reads a public key from an X.509 PEM file.
+   *
+   * @param path         The path of the PEM file.
+   * @param keyAlgorithm The key algorithm, such as "RSA" or "EC".
+   * @return The public key.
+   */
+  public static PublicKey readPublicKey(Path path, String keyAlgorithm) {
+    byte[] encoded = readPem(path, "PUBLIC KEY");
+    try {
+      return KeyFactory.getInstance(keyAlgorithm).generatePublic(new X509EncodedKeySpec(encoded));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Chave pública inválida: " + path, e);
+    }
+  }
+
+  /**
+   * Reads a private key from a PKCS#8 PEM file.
+   *
+   * @param path         The path of the PEM file.
+   * @param keyAlgorithm The key algorithm, such as "RSA" or "EC".
+   * @return The private key.
+   */
+  public static PrivateKey readPrivateKey(Path path, String keyAlgorithm) {
+    byte[] encoded = readPem(path, "PRIVATE KEY");
+    try {
+      return KeyFactory.getInstance(keyAlgorithm)
+          .generatePrivate(new PKCS8EncodedKeySpec(encoded));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Chave privada inválida: " + path, e);
+    }
+  }
+
+  private static byte[] readPem(Path path, String type) {
+    String pem;
+    try {
+      pem = Files.readString(path, StandardCharsets.US_ASCII);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Não foi possível ler a chave: " + path, e);
+    }
+
+    String header = "-----BEGIN " + type + "-----";
+    String footer = "-----END " + type + "-----";
+    int start = pem.indexOf(header);
+    int end = pem.indexOf(footer);
+    if (start < 0 || end < start) {
+      throw new IllegalStateException("Arquivo PEM sem bloco " + type + ": " + path);
+    }
+
+    String body = pem.substring(start + header.length(), end).replaceAll("\\s", "");
+    return Base64.getDecoder().decode(body);
+  }
+}
@@ -0,0 +1,78 @@
+package com.betrybe.agrix.threads;
+
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+/**
+ * Runs each request on its own virtual thread when agrix.threads.virtual.enabled is true:
+ * the Tomcat request pipeline, the security filters, the controllers and the services, and
+ * the streamed responses of the exports. Only compiled by the java21 Maven profile.
+ *
+ * <p>Blocking on JDBC no longer holds a platform thread: PostgreSQL driver 42.6 guards its
+ * connections with locks rather than synchronized blocks, and HikariCP parks waiting
+ * threads, so virtual threads unmount while they wait. Database concurrency stays bounded
+ * by agrix.db.pool.maximum-size, request concurrency by
+ * agrix.threads.virtual.max-concurrent-requests, and password hashing keeps its own
+ * bounded pool of platform threads since it is CPU-bound.</p>
+ *
+ * @since 2026-10-18
+ */
+@Configuration
+@ConditionalOnProperty("agrix.threads.virtual.enabled")
+public class VirtualThreadConfiguration {
+
+  /**
+   * Makes Tomcat start a virtual thread for each request instead of using its pool.
+   *
+   * @return The customizer of the Tomcat protocol handler.
+   */
+  @Bean
+  public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+    return protocolHandler -> protocolHandler.setExecutor(
+        Executors.newVirtualThreadPerTaskExecutor());
+  }
+
+  /**
+   * Runs the asynchronous part of requests, such as streamed exports, on virtual threads.
+   *
+   * @param taskDecorator The decorator of the tasks, which propagates the trace.
+   * @return The application task executor.
+   */
+  @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+      "taskExecutor"})
+  public AsyncTaskExecutor applicationTaskExecutor(ObjectProvider<TaskDecorator> taskDecorator) {
+    TaskExecutorAdapter executor =
+        new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    taskDecorator.ifUnique(executor::setTaskDecorator);
+    return executor;
+  }
+
+  /**
+   * Bounds the requests handled at once, ahead of every other filter.
+   *
+   * @param maxConcurrentRequests The largest number of requests handled at once.
+   * @param waitMillis            How long a request over the limit waits for a slot.
+   * @return The registration of the filter.
+   */
+  @Bean
+  public FilterRegistrationBean<RequestConcurrencyLimitFilter> requestConcurrencyLimitFilter(
+      @Value("${agrix.threads.virtual.max-concurrent-requests:200}") int maxConcurrentRequests,
+      @Value("${agrix.threads.virtual.queue-wait-ms:100}") long waitMillis) {
+    FilterRegistrationBean<RequestConcurrencyLimitFilter> registration =
+        new FilterRegistrationBean<>(
+            new RequestConcurrencyLimitFilter(maxConcurrentRequests, waitMillis));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    return registration;
+  }
+}
@@ -0,0 +1,14 @@
+-- Indexes for GET /crops/search that JPA cannot declare. Hibernate creates the plain
+-- idx_crop_harvest_date and idx_crop_farm_harvest indexes from the Crop mapping.
+--
+-- Case-insensitive name prefix search: lower(name) like 'abc%'.
+create index concurrently if not exists idx_crop_lower_name
+    on crop (lower(name) text_pattern_ops);
+
+-- Harvest-window searches answered from the index alone (index-only scans), without
+-- visiting the table for the other crop columns.
+create index concurrently if not exists idx_crop_harvest_covering
+    on crop (harvest_date, id) include (farm_id, name, planted_area, planting_date);
+
+-- Replaced by idx_crop_farm_harvest, whose leading column is farm_id.
+drop index concurrently if exists idx_crop_farm_id;
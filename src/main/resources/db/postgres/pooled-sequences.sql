@@ -0,0 +1,16 @@
+-- Moves an existing database from IDENTITY columns to the pooled sequences used by the
+-- entities. Run once before deploying; Hibernate only creates missing sequences and
+-- would start them at 1, colliding with the ids already stored.
+--
+-- Each sequence advances by the allocationSize of its @SequenceGenerator (50), and with
+-- the pooled-lo optimizer its value is the first id of the next block.
+
+create sequence if not exists farm_seq increment by 50;
+create sequence if not exists crop_seq increment by 50;
+create sequence if not exists fertilizer_seq increment by 50;
+create sequence if not exists person_seq increment by 50;
+
+select setval('farm_seq', coalesce((select max(id) from farm), 0) + 1, false);
+select setval('crop_seq', coalesce((select max(id) from crop), 0) + 1, false);
+select setval('fertilizer_seq', coalesce((select max(id) from fertilizer), 0) + 1, false);
+select setval('person_seq', coalesce((select max(id) from person), 0) + 1, false);
@@ -0,0 +1,14 @@
+-- Makes idx_crop_fertilizer_pair unique on databases created while it was a plain index.
+-- Hibernate does not change an index that already exists, and the inserts of
+-- CropFertilizerRepository rely on it to skip pairs with ON CONFLICT DO NOTHING.
+--
+-- Duplicate pairs are removed first, keeping one row of each; run
+-- POST /diagnostics/rollups/rebuild afterwards so the fertilizer usage counts match.
+delete from crop_fertilizer a
+    using crop_fertilizer b
+    where a.ctid > b.ctid
+      and a.crop_id = b.crop_id
+      and a.fertilizer_id = b.fertilizer_id;
+
+drop index if exists idx_crop_fertilizer_pair;
+create unique index idx_crop_fertilizer_pair on crop_fertilizer (crop_id, fertilizer_id);
@@ -0,0 +1,60 @@
+package com.betrybe.agrix;
+
+import com.betrybe.agrix.controllers.dto.CropFertilizerPairDto;
+import com.betrybe.agrix.models.repository.CropFertilizerRepository;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// PostgreSQL is not available to the tests, so its driver is stood in for by mocks: the
+// rows skipped by ON CONFLICT DO NOTHING are simply absent from the RETURNING result
+public class CropFertilizerRepositoryTest {
+
+  @Test
+  public void TestPostgresInsertReportsOnlyReturnedPairs() throws Exception {
+    Connection connection = mock(Connection.class);
+    DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+    PreparedStatement statement = mock(PreparedStatement.class);
+    ResultSet resultSet = mock(ResultSet.class);
+    DataSource dataSource = mock(DataSource.class);
+
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(connection.getMetaData()).thenReturn(metaData);
+    when(metaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+    when(connection.createArrayOf(eq("bigint"), any())).thenReturn(mock(Array.class));
+    when(connection.prepareStatement(anyString())).thenReturn(statement);
+    when(statement.executeQuery()).thenReturn(resultSet);
+    when(resultSet.next()).thenReturn(true, false);
+    when(resultSet.getLong("crop_id")).thenReturn(1L);
+    when(resultSet.getLong("fertilizer_id")).thenReturn(2L);
+
+    CropFertilizerRepository repository =
+        new CropFertilizerRepository(new NamedParameterJdbcTemplate(dataSource));
+    List<CropFertilizerPairDto> inserted = repository.insertPairs(List.of(
+        new CropFertilizerPairDto(1L, 1L), new CropFertilizerPairDto(1L, 2L)), 10);
+
+    assertEquals(List.of(new CropFertilizerPairDto(1L, 2L)), inserted);
+    verify(connection).prepareStatement(
+        "insert into crop_fertilizer (crop_id, fertilizer_id) select * from unnest(?, ?) "
+            + "on conflict (crop_id, fertilizer_id) do nothing "
+            + "returning crop_id, fertilizer_id");
+    verify(connection).createArrayOf("bigint", new Long[] {1L, 1L});
+    verify(connection).createArrayOf("bigint", new Long[] {1L, 2L});
+    verify(statement, never()).executeBatch();
+  }
+}
@@ -0,0 +1,319 @@
+package com.betrybe.agrix;
+
+import com.betrybe.agrix.controllers.dto.AssociationResultDto.Status;
+import com.betrybe.agrix.controllers.dto.BulkAssociationResultDto;
+import com.betrybe.agrix.controllers.dto.CropDto;
+import com.betrybe.agrix.controllers.dto.CropFertilizerPairDto;
+import com.betrybe.agrix.controllers.dto.CropSearchDto;
+import com.betrybe.agrix.datasource.DatabaseConfiguration;
+import com.betrybe.agrix.datasource.QueryStatsConfiguration;
+import com.betrybe.agrix.exception.ErrorRequestException;
+import com.betrybe.agrix.exception.NotFoundException;
+import com.betrybe.agrix.models.entity.Crop;
+import com.betrybe.agrix.models.entity.Farm;
+import com.betrybe.agrix.models.entity.Fertilizer;
+import com.betrybe.agrix.models.repository.CropFertilizerRepository;
+import com.betrybe.agrix.models.repository.CropRepository;
+import com.betrybe.agrix.models.repository.FarmRepository;
+import com.betrybe.agrix.models.repository.FertilizerRepository;
+import com.betrybe.agrix.models.repository.RollupRepository;
+import com.betrybe.agrix.services.CropService;
+import com.betrybe.agrix.services.FarmService;
+import com.betrybe.agrix.services.RollupService;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({CropService.class, FarmService.class, CropFertilizerRepository.class,
+    RollupService.class, RollupRepository.class, DatabaseConfiguration.class,
+    QueryStatsConfiguration.class})
+public class CropServiceTest {
+
+  @RegisterExtension
+  private final QueryCountExtension queries = new QueryCountExtension();
+
+  @Autowired
+  private CropService cropService;
+
+  @Autowired
+  private FarmRepository farmRepository;
+
+  @Autowired
+  private CropRepository cropRepository;
+
+  @Autowired
+  private FertilizerRepository fertilizerRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private CropFertilizerRepository cropFertilizerRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private StatementCapture statementCapture;
+
+  private Farm seedFarmWithCrops(int crops) {
+    Farm farm = farmRepository.save(new Farm(null, "Fazenda Boa Vista", 500.0));
+    Farm otherFarm = farmRepository.save(new Farm(null, "Fazenda Santa Rita", 300.0));
+    LocalDate today = LocalDate.now();
+
+    for (int i = 0; i < crops; i++) {
+      Farm owner = i % 2 == 0 ? farm : otherFarm;
+      cropRepository.save(
+          new Crop(null, owner, "Plantação " + i, 10.0, today, today.plusDays(i)));
+    }
+
+    entityManager.flush();
+    entityManager.clear();
+    return farm;
+  }
+
+  private long countStatementsForFarmWith(int crops) {
+    Farm farm = seedFarmWithCrops(crops);
+
+    Statistics statistics = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.clear();
+
+    Slice<CropDto> page = cropService.findByFarmId(farm.getId(), 0, CropService.MAX_PAGE_SIZE);
+
+    assertEquals(crops / 2, page.getNumberOfElements());
+    assertTrue(page.stream().allMatch(crop -> crop.farmId().equals(farm.getId())));
+    assertEquals(0, statistics.getEntityLoadCount());
+
+    return statistics.getPrepareStatementCount();
+  }
+
+  @Test
+  public void TestFindByFarmIdStatementCountIsConstant() {
+    long statementsForSmallTable = countStatementsForFarmWith(10);
+    long statementsForLargeTable = countStatementsForFarmWith(400);
+
+    assertEquals(statementsForSmallTable, statementsForLargeTable);
+  }
+
+  @Test
+  public void TestFindByFarmIdRunsNoRepeatedStatements() {
+    Farm farm = seedFarmWithCrops(100);
+    queries.reset();
+
+    cropService.findByFarmId(farm.getId(), 0, CropService.MAX_PAGE_SIZE);
+
+    queries.assertNoRepeatedStatements(2);
+    queries.assertStatements(2);
+    assertEquals(51, queries.rows());
+  }
+
+  @Test
+  public void TestSearchRunsPageAndCountStatements() {
+    Farm farm = seedFarmWithCrops(40);
+    queries.reset();
+
+    Page<CropDto> page = cropService.searchCrops(new CropSearchDto(null, null, null, null,
+        farm.getId(), null, null, null), 0, 5, "harvestDate");
+
+    assertEquals(20, page.getTotalElements());
+    queries.assertStatements(2);
+    assertEquals(6, queries.rows());
+  }
+
+  @Test
+  public void TestFindByFarmIdIsPaged() {
+    Farm farm = seedFarmWithCrops(40);
+    queries.reset();
+
+    Slice<CropDto> firstPage = cropService.findByFarmId(farm.getId(), 0, 15);
+
+    queries.assertStatements(2);
+    assertEquals(1 + 16, queries.rows());
+    Slice<CropDto> lastPage = cropService.findByFarmId(farm.getId(), 1, 15);
+
+    assertEquals(15, firstPage.getNumberOfElements());
+    assertTrue(firstPage.hasNext());
+    assertEquals(5, lastPage.getNumberOfElements());
+    assertFalse(lastPage.hasNext());
+  }
+
+  @Test
+  public void TestFindByFarmIdNotFound() {
+    assertThrows(NotFoundException.class, () -> cropService.findByFarmId(999L, 0, 10));
+  }
+
+  @Test
+  public void TestAssociateAllReportsEachPair() {
+    Farm farm = farmRepository.save(new Farm(null, "Fazenda Boa Vista", 500.0));
+    LocalDate today = LocalDate.now();
+    Crop soy = cropRepository.save(new Crop(null, farm, "Soja", 10.0, today, today));
+    Crop corn = cropRepository.save(new Crop(null, farm, "Milho", 20.0, today, today));
+    Fertilizer compost = fertilizerRepository.save(
+        new Fertilizer(null, "Compostagem", "Feita em casa", "Restos de alimentos"));
+    entityManager.flush();
+
+    cropService.associatedPost(corn.getId(), compost.getId());
+
+    BulkAssociationResultDto result = cropService.associateAll(List.of(
+        new CropFertilizerPairDto(soy.getId(), compost.getId()),
+        new CropFertilizerPairDto(soy.getId(), compost.getId()),
+        new CropFertilizerPairDto(corn.getId(), compost.getId()),
+        new CropFertilizerPairDto(999L, compost.getId()),
+        new CropFertilizerPairDto(soy.getId(), 999L)
+    ));
+
+    assertEquals(1, result.created());
+    assertEquals(4, result.skipped());
+    assertEquals(
+        List.of(Status.CREATED, Status.DUPLICATE_IN_REQUEST, Status.ALREADY_ASSOCIATED,
+            Status.CROP_NOT_FOUND, Status.FERTILIZER_NOT_FOUND),
+        result.results().stream().map(association -> association.status()).toList());
+    assertEquals(1, fertilizerRepository.findDtoByCropId(soy.getId()).size());
+  }
+
+  @Test
+  public void TestPairsAreMatchedExactlyAndInsertedOnce() {
+    Farm farm = farmRepository.save(new Farm(null, "Fazenda Boa Vista", 500.0));
+    LocalDate today = LocalDate.now();
+    Crop soy = cropRepository.save(new Crop(null, farm, "Soja", 10.0, today, today));
+    Crop corn = cropRepository.save(new Crop(null, farm, "Milho", 20.0, today, today));
+    Fertilizer compost = fertilizerRepository.save(
+        new Fertilizer(null, "Compostagem", "Feita em casa", "Restos de alimentos"));
+    Fertilizer humus = fertilizerRepository.save(
+        new Fertilizer(null, "Húmus", "Minhocas", "Matéria orgânica"));
+    entityManager.flush();
+
+    CropFertilizerPairDto soyCompost = new CropFertilizerPairDto(soy.getId(), compost.getId());
+    CropFertilizerPairDto soyHumus = new CropFertilizerPairDto(soy.getId(), humus.getId());
+    CropFertilizerPairDto cornCompost = new CropFertilizerPairDto(corn.getId(), compost.getId());
+    CropFertilizerPairDto cornHumus = new CropFertilizerPairDto(corn.getId(), humus.getId());
+
+    assertEquals(List.of(soyCompost, cornHumus),
+        cropFertilizerRepository.insertPairs(List.of(soyCompost, cornHumus), 10));
+    assertEquals(Set.of(soyCompost),
+        cropFertilizerRepository.findExistingPairs(List.of(soyCompost, soyHumus, cornCompost)));
+
+    assertEquals(List.of(soyHumus),
+        cropFertilizerRepository.insertPairs(List.of(soyCompost, soyHumus), 10));
+    assertEquals(3, jdbcTemplate.queryForObject(
+        "select count(*) from crop_fertilizer", Integer.class));
+    assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(
+        "insert into crop_fertilizer (crop_id, fertilizer_id) values (?, ?)",
+        soy.getId(), compost.getId()));
+  }
+
+  @Test
+  public void TestBulkInsertIsBatched() {
+    Farm farm = farmRepository.save(new Farm(null, "Fazenda Boa Vista", 500.0));
+    entityManager.flush();
+    LocalDate today = LocalDate.now();
+
+    List<Crop> crops = new ArrayList<>();
+    for (int i = 0; i < 120; i++) {
+      crops.add(new Crop(null, farm, "Plantação " + i, 10.0, today, today));
+    }
+
+    Statistics statistics = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.clear();
+
+    cropRepository.saveAll(crops);
+    entityManager.flush();
+
+    assertEquals(120, statistics.getEntityInsertCount());
+    assertTrue(statistics.getPrepareStatementCount() < 10);
+  }
+
+  @Test
+  public void TestSearchCombinesFilters() {
+    Farm farm = seedFarmWithCrops(40);
+    LocalDate today = LocalDate.now();
+    CropSearchDto filter = new CropSearchDto(
+        today, today.plusDays(10), null, null, farm.getId(), "PLANTAÇ", 5.0, null);
+
+    Page<CropDto> page = cropService.searchCrops(filter, 0, 4, "harvestDate,desc");
+
+    assertEquals(4, page.getNumberOfElements());
+    assertEquals(6, page.getTotalElements());
+    assertEquals(today.plusDays(10), page.getContent().get(0).harvestDate());
+  }
+
+  @Test
+  public void TestSearchRejectsUnknownSort() {
+    CropSearchDto filter = new CropSearchDto(null, null, null, null, null, null, null, null);
+
+    assertThrows(ErrorRequestException.class,
+        () -> cropService.searchCrops(filter, 0, 10, "farm.name"));
+  }
+
+  @Test
+  public void TestCropIndexesAreCreated() {
+    List<String> indexes = jdbcTemplate.queryForList(
+        "select index_name from information_schema.indexes where table_name = 'CROP'",
+        String.class);
+
+    assertTrue(indexes.contains("IDX_CROP_HARVEST_DATE"), indexes.toString());
+    assertTrue(indexes.contains("IDX_CROP_FARM_HARVEST"), indexes.toString());
+  }
+
+  @Test
+  public void TestSearchQueriesUseIndexes() {
+    Farm farm = seedFarmWithCrops(40);
+    LocalDate start = LocalDate.now();
+    LocalDate end = start.plusDays(30);
+
+    assertTrue(explainSearch(new CropSearchDto(start, end, null, null, farm.getId(),
+        null, null, null)).contains("IDX_CROP_FARM_HARVEST"));
+    assertTrue(explainSearch(new CropSearchDto(start, end, null, null, null,
+        null, null, null)).contains("IDX_CROP_HARVEST_DATE"));
+  }
+
+  private String explainSearch(CropSearchDto filter) {
+    statementCapture.clear();
+    cropService.searchCrops(filter, 0, 5, "harvestDate");
+
+    List<StatementCapture.Statement> searches = statementCapture.matching("from crop");
+    assertFalse(searches.isEmpty());
+    StatementCapture.Statement search = searches.get(0);
+
+    String plan = jdbcTemplate.queryForObject(
+        "explain " + search.sql(), String.class, search.parameters()).toUpperCase();
+    assertTrue(plan.contains("IDX_CROP_"), search.sql() + "\n" + plan);
+    return plan;
+  }
+
+  @TestConfiguration
+  static class StatementCaptureConfiguration {
+
+    @Bean
+    StatementCapture statementCapture() {
+      return new StatementCapture();
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.betrybe.agrix;
+
+import com.betrybe.agrix.util.CsvReader;
+import com.betrybe.agrix.util.CsvWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CsvReaderTest {
+
+  @Test
+  public void TestReadsRecordsOneAtATime() throws IOException {
+    CsvReader reader = new CsvReader(new StringReader(
+        "farmId,name,plantedArea\r\n"
+            + "1,Soja,10.5\r\n"
+            + "2,\"Milho, verde\",\"3\"\n"
+            + "3,\"Feijão \"\"carioca\"\"\nsafra\",\n"));
+
+    assertEquals(List.of("farmId", "name", "plantedArea"), reader.readRecord());
+    assertEquals(List.of("1", "Soja", "10.5"), reader.readRecord());
+    assertEquals(List.of("2", "Milho, verde", "3"), reader.readRecord());
+    assertEquals(List.of("3", "Feijão \"carioca\"\nsafra", ""), reader.readRecord());
+    assertNull(reader.readRecord());
+  }
+
+  @Test
+  public void TestUnclosedQuoteFails() {
+    CsvReader reader = new CsvReader(new StringReader("1,\"Soja"));
+
+    assertThrows(IOException.class, reader::readRecord);
+  }
+
+  @Test
+  public void TestReadsWhatCsvWriterWrites() throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    CsvWriter writer = new CsvWriter(output);
+    writer.writeRecord(1L, "Milho, \"verde\"", null, 2.5);
+    writer.flush();
+
+    CsvReader reader = new CsvReader(new StringReader(
+        output.toString(StandardCharsets.UTF_8)));
+
+    assertEquals(List.of("1", "Milho, \"verde\"", "", "2.5"), reader.readRecord());
+    assertNull(reader.readRecord());
+  }
+}
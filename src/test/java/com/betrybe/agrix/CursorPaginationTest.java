@@ -0,0 +1,165 @@
+package com.betrybe.agrix;
+
+import com.betrybe.agrix.controllers.dto.CropCreationDto;
+import com.betrybe.agrix.models.entity.Farm;
+import com.betrybe.agrix.models.entity.Fertilizer;
+import com.betrybe.agrix.services.CropService;
+import com.betrybe.agrix.services.FarmService;
+import com.betrybe.agrix.services.FertilizerService;
+import com.betrybe.agrix.util.CursorPagination;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+public class CursorPaginationTest {
+
+  private static final int ITEMS = 7;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private FarmService farmService;
+
+  @Autowired
+  private CropService cropService;
+
+  @Autowired
+  private FertilizerService fertilizerService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  public void seed() {
+    for (int i = 0; i < ITEMS; i++) {
+      Farm farm = farmService.insertFarm(new Farm(null, "Fazenda " + i, 10.0 + i));
+      cropService.insertCrop(farm.getId(), new CropCreationDto(
+          "Cultivo " + i, 1.0 + i, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 1)));
+      fertilizerService.insertFertilizer(
+          new Fertilizer(null, "Fertilizante " + i, "Marca", "Composição"));
+    }
+  }
+
+  @AfterEach
+  public void cleanUp() {
+    for (String table : List.of("crop_fertilizer", "farm_month_rollup",
+        "fertilizer_usage_rollup", "crop", "fertilizer", "farm")) {
+      jdbcTemplate.update("delete from " + table);
+    }
+  }
+
+  private List<Long> walk(String uri, int size) throws Exception {
+    List<Long> ids = new ArrayList<>();
+    List<Integer> pageSizes = new ArrayList<>();
+    String cursor = null;
+    do {
+      String pageUri = uri + "?size=" + size + (cursor == null ? "" : "&cursor=" + cursor);
+      MvcResult result = mockMvc.perform(get(pageUri).accept(MediaType.APPLICATION_JSON))
+          .andExpect(status().isOk())
+          .andReturn();
+      JsonNode page = objectMapper.readTree(result.getResponse().getContentAsString());
+      page.forEach(item -> ids.add(item.get("id").asLong()));
+      pageSizes.add(page.size());
+      cursor = result.getResponse().getHeader(CursorPagination.NEXT_CURSOR_HEADER);
+      if (page.size() < size) {
+        assertNull(cursor, uri + ": a última página não deve trazer cursor");
+      }
+    } while (cursor != null);
+
+    assertEquals(List.of(size, size, ITEMS - 2 * size), pageSizes, uri);
+    return ids;
+  }
+
+  private void assertWalksEveryRow(String uri, String table) throws Exception {
+    List<Long> ids = walk(uri, 3);
+
+    List<Long> expected = jdbcTemplate.queryForList(
+        "select id from " + table + " order by id", Long.class);
+    assertEquals(expected, ids, uri + ": páginas com lacunas ou repetições");
+  }
+
+  @Test
+  public void TestPagesCoverEveryRowOnce() throws Exception {
+    assertWalksEveryRow("/farms", "farm");
+    assertWalksEveryRow("/crops", "crop");
+    assertWalksEveryRow("/fertilizers", "fertilizer");
+  }
+
+  @Test
+  public void TestFullLastPageIsFollowedByAnEmptyPage() throws Exception {
+    MvcResult full = mockMvc.perform(get("/farms?size=" + ITEMS))
+        .andExpect(status().isOk())
+        .andReturn();
+    String cursor = full.getResponse().getHeader(CursorPagination.NEXT_CURSOR_HEADER);
+
+    MvcResult empty = mockMvc.perform(get("/farms?size=" + ITEMS + "&cursor=" + cursor))
+        .andExpect(status().isOk())
+        .andExpect(content().json("[]"))
+        .andReturn();
+    assertNull(empty.getResponse().getHeader(CursorPagination.NEXT_CURSOR_HEADER));
+  }
+
+  @Test
+  public void TestMalformedCursorsAndSizesAreRejected() throws Exception {
+    String withoutPrefix = Base64.getUrlEncoder()
+        .encodeToString("42".getBytes(StandardCharsets.UTF_8));
+    String notANumber = Base64.getUrlEncoder()
+        .encodeToString("id:abc".getBytes(StandardCharsets.UTF_8));
+
+    for (String uri : List.of("/farms?cursor=%25%25%25", "/crops?cursor=" + withoutPrefix,
+        "/fertilizers?cursor=" + notANumber, "/farms?size=0", "/farms?size=1001")) {
+      mockMvc.perform(get(uri)).andExpect(status().isBadRequest());
+    }
+  }
+
+  @Test
+  public void TestNdjsonStreamWritesOneRowPerLine() throws Exception {
+    MvcResult started = mockMvc.perform(get("/farms").accept(MediaType.APPLICATION_NDJSON))
+        .andReturn();
+    MvcResult result = mockMvc.perform(asyncDispatch(started))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+        .andReturn();
+
+    String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+    assertTrue(body.endsWith("\n"));
+    List<String> names = new ArrayList<>();
+    for (String line : body.split("\n")) {
+      names.add(objectMapper.readTree(line).get("name").asText());
+    }
+    assertEquals(jdbcTemplate.queryForList("select name from farm order by id", String.class),
+        names);
+  }
+}
@@ -0,0 +1,149 @@
+package com.betrybe.agrix;
+
+import com.betrybe.agrix.controllers.dto.PoolStatsDto;
+import com.betrybe.agrix.datasource.DatabaseProperties;
+import com.betrybe.agrix.datasource.HikariTuning;
+import com.betrybe.agrix.datasource.PoolMetrics;
+import com.betrybe.agrix.datasource.PoolSizeSelfCheck;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DatabaseTuningTest {
+
+  private static final Map<String, String> PRESETS = Map.of(
+      "agrix.db.pool.maximum-size", "25",
+      "agrix.db.pool.connection-timeout", "5s",
+      "agrix.db.pool.leak-detection-threshold", "2m",
+      "agrix.db.statement-cache.prepare-threshold", "3",
+      "agrix.db.statement-cache.queries", "512",
+      "agrix.db.statement-cache.size-mib", "8",
+      "agrix.db.fetch-size", "500",
+      "agrix.db.rewrite-batched-inserts", "true"
+  );
+
+  private static DatabaseProperties bind(Map<String, String> properties) {
+    return new Binder(new MapConfigurationPropertySource(properties))
+        .bindOrCreate("agrix.db", DatabaseProperties.class);
+  }
+
+  private static HikariTuning tuning(DatabaseProperties properties, PoolMetrics poolMetrics) {
+    DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+    beanFactory.registerSingleton("databaseProperties", properties);
+    beanFactory.registerSingleton("poolMetrics", poolMetrics);
+    return new HikariTuning(beanFactory.getBeanProvider(DatabaseProperties.class),
+        beanFactory.getBeanProvider(PoolMetrics.class));
+  }
+
+  @Test
+  public void TestPostgresPoolIsTuned() {
+    PoolMetrics poolMetrics = new PoolMetrics();
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl("jdbc:postgresql://localhost:5432/agrixdb");
+
+    tuning(bind(PRESETS), poolMetrics).apply(dataSource);
+
+    assertEquals(25, dataSource.getMaximumPoolSize());
+    assertEquals(5000, dataSource.getConnectionTimeout());
+    assertEquals(120000, dataSource.getLeakDetectionThreshold());
+    assertEquals(3, dataSource.getDataSourceProperties().get("prepareThreshold"));
+    assertEquals(512, dataSource.getDataSourceProperties().get("preparedStatementCacheQueries"));
+    assertEquals(8, dataSource.getDataSourceProperties().get("preparedStatementCacheSizeMiB"));
+    assertEquals(500, dataSource.getDataSourceProperties().get("defaultRowFetchSize"));
+    assertEquals(true, dataSource.getDataSourceProperties().get("reWriteBatchedInserts"));
+    assertSame(poolMetrics, dataSource.getMetricsTrackerFactory());
+  }
+
+  @Test
+  public void TestDriverSettingsSkippedForOtherDatabases() {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl("jdbc:h2:mem:tuning");
+
+    tuning(bind(PRESETS), new PoolMetrics()).apply(dataSource);
+
+    assertEquals(25, dataSource.getMaximumPoolSize());
+    assertTrue(dataSource.getDataSourceProperties().isEmpty());
+  }
+
+  @Test
+  public void TestUnsetSettingsKeepPoolValues() {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl("jdbc:postgresql://localhost:5432/agrixdb");
+    dataSource.setMaximumPoolSize(7);
+
+    tuning(bind(Map.of()), new PoolMetrics()).apply(dataSource);
+
+    assertEquals(7, dataSource.getMaximumPoolSize());
+    assertNull(dataSource.getDataSourceProperties().get("prepareThreshold"));
+  }
+
+  @Test
+  public void TestPoolMetricsReportAcquisitions() throws Exception {
+    PoolMetrics poolMetrics = new PoolMetrics();
+    try (HikariDataSource dataSource = new HikariDataSource()) {
+      dataSource.setJdbcUrl("jdbc:h2:mem:" + UUID.randomUUID());
+      dataSource.setPoolName("agrix-test");
+      dataSource.setMaximumPoolSize(2);
+      tuning(bind(Map.of()), poolMetrics).apply(dataSource);
+
+      try (Connection connection = dataSource.getConnection()) {
+        PoolStatsDto stats = poolMetrics.snapshot().get(0);
+        assertEquals("agrix-test", stats.pool());
+        assertEquals(1, stats.activeConnections());
+        assertEquals(2, stats.maxConnections());
+        assertEquals(1, stats.acquisitions());
+        assertEquals(0, stats.timeouts());
+      }
+    }
+  }
+
+  @Test
+  public void TestPoolMetricsArePublishedToMeterRegistry() throws Exception {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    PoolMetrics poolMetrics = new PoolMetrics(registry);
+    try (HikariDataSource dataSource = new HikariDataSource()) {
+      dataSource.setJdbcUrl("jdbc:h2:mem:" + UUID.randomUUID());
+      dataSource.setPoolName("agrix-test");
+      dataSource.setMaximumPoolSize(2);
+      tuning(bind(Map.of()), poolMetrics).apply(dataSource);
+
+      try (Connection connection = dataSource.getConnection()) {
+        assertEquals(1, registry.get("hikaricp.connections.active")
+            .tag("pool", "agrix-test").gauge().value());
+        assertEquals(1, registry.get("hikaricp.connections.acquire").timer().count());
+        assertEquals(1, poolMetrics.snapshot().get(0).acquisitions());
+      }
+    }
+  }
+
+  @Test
+  public void TestSelfCheckWarnsWhenPoolIsTooSmall() {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setPoolName("agrix-primary");
+    dataSource.setMaximumPoolSize(10);
+    DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+    beanFactory.registerSingleton("dataSource", dataSource);
+
+    List<String> warnings = new PoolSizeSelfCheck(
+        beanFactory.getBeanProvider(HikariDataSource.class), 200, 8).check();
+    assertEquals(1, warnings.size());
+    assertTrue(warnings.get(0).contains("agrix-primary"));
+    assertTrue(warnings.get(0).contains("25"));
+
+    dataSource.setMaximumPoolSize(25);
+    assertTrue(new PoolSizeSelfCheck(
+        beanFactory.getBeanProvider(HikariDataSource.class), 200, 8).check().isEmpty());
+  }
+}
@@ -0,0 +1,188 @@
+package com.betrybe.agrix;
+
+import com.betrybe.agrix.controllers.dto.CropCreationDto;
+import com.betrybe.agrix.models.entity.Crop;
+import com.betrybe.agrix.models.entity.Farm;
+import com.betrybe.agrix.models.entity.Fertilizer;
+import com.betrybe.agrix.services.CropService;
+import com.betrybe.agrix.services.FarmService;
+import com.betrybe.agrix.services.FertilizerService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "MANAGER")
+public class ExportControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private FarmService farmService;
+
+  @Autowired
+  private CropService cropService;
+
+  @Autowired
+  private FertilizerService fertilizerService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private Farm boaVista;
+
+  private Farm santaRita;
+
+  private Crop soy;
+
+  private Crop corn;
+
+  private Crop beans;
+
+  private Fertilizer compost;
+
+  private Fertilizer humus;
+
+  private Fertilizer urea;
+
+  @BeforeEach
+  public void seed() {
+    boaVista = farmService.insertFarm(new Farm(null, "Fazenda Boa Vista", 100.0));
+    santaRita = farmService.insertFarm(new Farm(null, "Sítio Santa Rita", 20.0));
+    soy = cropService.insertCrop(boaVista.getId(), new CropCreationDto(
+        "Soja", 10.0, LocalDate.of(2024, 1, 10), LocalDate.of(2024, 5, 10)));
+    corn = cropService.insertCrop(boaVista.getId(), new CropCreationDto(
+        "Milho, \"verde\"", 5.5, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 7, 1)));
+    beans = cropService.insertCrop(santaRita.getId(), new CropCreationDto(
+        "Feijão", 3.0, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 4, 1)));
+    compost = fertilizerService.insertFertilizer(
+        new Fertilizer(null, "Compostagem", "Feita em casa", "Restos de alimentos"));
+    humus = fertilizerService.insertFertilizer(
+        new Fertilizer(null, "Húmus", "Minhocas", "Matéria orgânica"));
+    urea = fertilizerService.insertFertilizer(
+        new Fertilizer(null, "Ureia", "Química", "Nitrogênio"));
+    cropService.associatedPost(soy.getId(), compost.getId());
+    cropService.associatedPost(beans.getId(), humus.getId());
+  }
+
+  @AfterEach
+  public void cleanUp() {
+    for (String table : List.of("crop_fertilizer", "farm_month_rollup",
+        "fertilizer_usage_rollup", "crop", "fertilizer", "farm")) {
+      jdbcTemplate.update("delete from " + table);
+    }
+  }
+
+  private MvcResult export(String uri) throws Exception {
+    MvcResult started = mockMvc.perform(get(uri)).andExpect(status().isOk()).andReturn();
+    return mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk()).andReturn();
+  }
+
+  private String body(String uri) throws Exception {
+    return export(uri).getResponse().getContentAsString(StandardCharsets.UTF_8);
+  }
+
+  private List<String> names(String ndjson) throws Exception {
+    List<String> names = new ArrayList<>();
+    for (String line : ndjson.split("\n")) {
+      JsonNode row = objectMapper.readTree(line);
+      names.add(row.get("name").asText());
+    }
+    return names;
+  }
+
+  @Test
+  public void TestCropsAreExportedAsCsv() throws Exception {
+    MvcResult result = export("/exports/crops");
+
+    assertEquals("text/csv;charset=UTF-8", result.getResponse().getContentType());
+    assertEquals("attachment; filename=\"crops.csv\"",
+        result.getResponse().getHeader(HttpHeaders.CONTENT_DISPOSITION));
+    assertEquals(
+        "id,name,plantedArea,farmId,plantedDate,harvestDate\r\n"
+            + soy.getId() + ",Soja,10.0," + boaVista.getId() + ",2024-01-10,2024-05-10\r\n"
+            + corn.getId() + ",\"Milho, \"\"verde\"\"\",5.5," + boaVista.getId()
+            + ",2024-03-01,2024-07-01\r\n"
+            + beans.getId() + ",Feijão,3.0," + santaRita.getId() + ",2024-02-01,2024-04-01\r\n",
+        result.getResponse().getContentAsString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void TestFiltersApplyToCropsAndFertilizers() throws Exception {
+    String crops = body("/exports/crops?format=ndjson&farmId=" + boaVista.getId()
+        + "&plantedFrom=2024-02-01");
+    assertEquals(List.of("Milho, \"verde\""), names(crops));
+    JsonNode corn = objectMapper.readTree(crops.trim());
+    assertEquals(5.5, corn.get("plantedArea").asDouble());
+    assertEquals("2024-07-01", corn.get("harvestDate").asText());
+
+    assertEquals(List.of("Soja", "Feijão"),
+        names(body("/exports/crops?format=ndjson&harvestFrom=2024-04-01&harvestTo=2024-06-30")));
+    assertEquals(List.of("Compostagem", "Húmus", "Ureia"),
+        names(body("/exports/fertilizers?format=ndjson")));
+    assertEquals(List.of("Húmus"),
+        names(body("/exports/fertilizers?format=ndjson&farmId=" + santaRita.getId())));
+    assertEquals("id,name,brand,composition\r\n"
+            + compost.getId() + ",Compostagem,Feita em casa,Restos de alimentos\r\n",
+        body("/exports/fertilizers?plantedTo=2024-01-31"));
+  }
+
+  @Test
+  public void TestGzipExportsDecompressToThePlainFile() throws Exception {
+    MvcResult result = export("/exports/crops?format=ndjson&gzip=true");
+
+    assertEquals("application/gzip", result.getResponse().getContentType());
+    assertEquals("attachment; filename=\"crops.ndjson.gz\"",
+        result.getResponse().getHeader(HttpHeaders.CONTENT_DISPOSITION));
+    byte[] decompressed;
+    try (GZIPInputStream input = new GZIPInputStream(
+        new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+      decompressed = input.readAllBytes();
+    }
+    assertEquals(body("/exports/crops?format=ndjson"),
+        new String(decompressed, StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void TestOnlyAdminsAndManagersCanExport() throws Exception {
+    mockMvc.perform(get("/exports/crops").with(user("ana").roles("USER")))
+        .andExpect(status().isForbidden());
+    mockMvc.perform(get("/exports/fertilizers").with(user("ana").roles("USER")))
+        .andExpect(status().isForbidden());
+    mockMvc.perform(get("/exports/crops").with(user("admin").roles("ADMIN")))
+        .andExpect(status().isOk());
+    mockMvc.perform(get("/exports/crops?format=xml"))
+        .andExpect(status().isBadRequest())
+        .andExpect(header().doesNotExist(HttpHeaders.CONTENT_DISPOSITION));
+  }
+}
@@ -0,0 +1,123 @@
+package com.betrybe.agrix;
+
+import com.betrybe.agrix.controllers.dto.ImportRowErrorDto;
+import com.betrybe.agrix.models.entity.Farm;
+import com.betrybe.agrix.models.repository.FarmRepository;
+import com.betrybe.agrix.models.repository.RollupRepository;
+import com.betrybe.agrix.services.ImportJob;
+import com.betrybe.agrix.services.ImportService;
+import com.betrybe.agrix.services.RollupService;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Imports write from their own threads, so the rows must be committed to be seen
+@DataJpaTest(properties = "agrix.import.chunk-size=2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Import({ImportService.class, RollupService.class, RollupRepository.class})
+public class ImportServiceTest {
+
+  @Autowired
+  private ImportService importService;
+
+  @Autowired
+  private FarmRepository farmRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @AfterEach
+  public void tearDown() {
+    jdbcTemplate.update("delete from crop");
+    jdbcTemplate.update("delete from farm");
+    jdbcTemplate.update("delete from fertilizer");
+    jdbcTemplate.update("delete from farm_month_rollup");
+  }
+
+  private static ByteArrayInputStream file(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static ImportJob await(ImportJob job) throws InterruptedException {
+    for (int i = 0; i < 200 && job.getFinishedAt() == null; i++) {
+      Thread.sleep(50);
+    }
+    assertEquals(ImportJob.Status.COMPLETED, job.getStatus(), job.getFailure());
+    return job;
+  }
+
+  @Test
+  public void TestFarmsAreImportedFromCsv() throws Exception {
+    ImportJob job = await(importService.importFarms(file(
+        "\uFEFFid,name,size\n"
+            + "99,Fazenda Boa Vista,500\n"
+            + ",Fazenda Santa Rita,300.5\n"
+            + ",Fazenda Sem Tamanho,\n"
+            + ",Fazenda Vazia\n"
+            + "\n"
+            + ",Fazenda Nova,10\n"), ImportJob.Format.CSV));
+
+    assertEquals(ImportJob.Type.FARMS, job.getType());
+    assertEquals(5, job.getRowsRead());
+    assertEquals(3, job.getRowsImported());
+    // Constraint messages follow the default locale, so only their field is checked
+    assertEquals(2, job.getErrors().size());
+    assertEquals(3, job.getErrors().get(0).row());
+    assertTrue(job.getErrors().get(0).message().startsWith("size: "));
+    assertEquals(new ImportRowErrorDto(4, "Número de colunas diferente do cabeçalho!"),
+        job.getErrors().get(1));
+
+    List<Farm> farms = farmRepository.findAll();
+    assertEquals(List.of("Fazenda Boa Vista", "Fazenda Santa Rita", "Fazenda Nova"),
+        farms.stream().map(Farm::getName).toList());
+    assertTrue(farms.stream().noneMatch(farm -> farm.getId() == 99L));
+  }
+
+  @Test
+  public void TestCropsAndFertilizersAreImportedFromNdjson() throws Exception {
+    Farm farm = farmRepository.save(new Farm(null, "Fazenda Boa Vista", 500.0));
+
+    ImportJob crops = await(importService.importCrops(file(
+        "{\"farmId\": " + farm.getId() + ", \"name\": \"Soja\", \"plantedArea\": 10.5,"
+            + " \"plantedDate\": \"2024-01-10\", \"harvestDate\": \"2024-05-10\"}\n"
+            + "{\"farmId\": 999999, \"name\": \"Milho\", \"plantedArea\": 5,"
+            + " \"plantedDate\": \"2024-01-10\", \"harvestDate\": \"2024-05-10\"}\n"
+            + "{\"farmId\": " + farm.getId() + ", \"name\": \"Feijão\", \"plantedArea\": 3,"
+            + " \"plantedDate\": \"ontem\", \"harvestDate\": \"2024-05-10\"}\n"
+            + "não é json\n"), ImportJob.Format.NDJSON));
+
+    assertEquals(4, crops.getRowsRead());
+    assertEquals(1, crops.getRowsImported());
+    assertEquals(List.of(2L, 3L, 4L),
+        crops.getErrors().stream().map(ImportRowErrorDto::row).sorted().toList());
+    assertEquals(1, jdbcTemplate.queryForObject(
+        "select crop_count from farm_month_rollup where farm_id = ?", Integer.class,
+        farm.getId()));
+
+    ImportJob fertilizers = await(importService.importFertilizers(file(
+        "name,brand,composition\n"
+            + "Compostagem,Feita em casa,Restos de alimentos\n"
+            + "Húmus,,Matéria orgânica\n"), ImportJob.Format.CSV));
+
+    assertEquals(1, fertilizers.getRowsImported());
+    assertEquals(1, fertilizers.getErrors().size());
+    assertTrue(fertilizers.getErrors().get(0).message().startsWith("brand: "));
+  }
+}
@@ -0,0 +1,57 @@
+package com.betrybe.agrix;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import java.util.List;
+
+/**
+ * An observation registry whose observations become OpenTelemetry spans, exported in
+ * memory as soon as they end instead of over OTLP.
+ */
+public class InMemoryTracing implements AutoCloseable {
+
+  private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+
+  private final SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+      .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+      .build();
+
+  private final ObservationRegistry observationRegistry = ObservationRegistry.create();
+
+  public InMemoryTracing() {
+    OpenTelemetrySdk openTelemetry = OpenTelemetrySdk.builder()
+        .setTracerProvider(tracerProvider)
+        .build();
+    OtelTracer tracer = new OtelTracer(openTelemetry.getTracer("agrix"),
+        new OtelCurrentTraceContext(), event -> { });
+    observationRegistry.observationConfig()
+        .observationHandler(new DefaultTracingObservationHandler(tracer));
+  }
+
+  public ObservationRegistry observationRegistry() {
+    return observationRegistry;
+  }
+
+  public List<SpanData> spans() {
+    return exporter.getFinishedSpanItems();
+  }
+
+  public SpanData span(String name) {
+    return spans().stream()
+        .filter(span -> span.getName().equals(name))
+        .findFirst()
+        .orElseThrow(() -> new AssertionError("Span não encontrado: " + name));
+  }
+
+  @Override
+  public void close() {
+    tracerProvider.close();
+  }
+}
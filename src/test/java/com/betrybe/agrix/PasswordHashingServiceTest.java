@@ -0,0 +1,113 @@
+package com.betrybe.agrix;
+
+import com.betrybe.agrix.exception.ServiceUnavailableException;
+import com.betrybe.agrix.security.PasswordHashingService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PasswordHashingServiceTest {
+
+  private final CountDownLatch started = new CountDownLatch(1);
+
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  private PasswordHashingService service;
+
+  // The encoder reads the password on the hashing thread, which holds that thread until
+  // the test releases it
+  private CharSequence blockingPassword() {
+    return new CharSequence() {
+      @Override
+      public String toString() {
+        started.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return "123456";
+      }
+
+      @Override
+      public int length() {
+        return toString().length();
+      }
+
+      @Override
+      public char charAt(int index) {
+        return toString().charAt(index);
+      }
+
+      @Override
+      public CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+      }
+    };
+  }
+
+  @AfterEach
+  public void shutdown() {
+    release.countDown();
+    if (service != null) {
+      service.shutdown();
+    }
+  }
+
+  @Test
+  public void TestFullQueueIsRejected() throws Exception {
+    service = new PasswordHashingService("bcrypt", 4, 1, 1, 5000);
+
+    CompletableFuture<String> running =
+        CompletableFuture.supplyAsync(() -> service.encode(blockingPassword()));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    CompletableFuture<String> queued =
+        CompletableFuture.supplyAsync(() -> service.encode("654321"));
+    while (service.getQueueDepth() < 1) {
+      Thread.sleep(5);
+    }
+
+    assertThrows(ServiceUnavailableException.class, () -> service.encode("000000"));
+    assertEquals(1, service.getRejectedCount());
+
+    release.countDown();
+    String runningHash = running.get(5, TimeUnit.SECONDS);
+    String queuedHash = queued.get(5, TimeUnit.SECONDS);
+    assertTrue(service.matches("123456", runningHash));
+    assertTrue(service.matches("654321", queuedHash));
+  }
+
+  @Test
+  public void TestSlowHashTimesOut() {
+    service = new PasswordHashingService("bcrypt", 4, 1, 10, 50);
+
+    assertThrows(ServiceUnavailableException.class, () -> service.encode(blockingPassword()));
+    assertEquals(1, service.getRejectedCount());
+  }
+
+  @Test
+  public void TestWeakerOrOtherHashesNeedAnUpgrade() {
+    // PBKDF2 with the Spring Security defaults can take seconds on a busy single-CPU machine
+    service = new PasswordHashingService("bcrypt", 5, 1, 10, 60000);
+
+    assertTrue(service.upgradeEncoding(new BCryptPasswordEncoder(4).encode("123456")));
+    assertFalse(service.upgradeEncoding(service.encode("123456")));
+
+    PasswordHashingService pbkdf2 = new PasswordHashingService("pbkdf2", 5, 1, 10, 60000);
+    try {
+      String hash = pbkdf2.encode("123456");
+      assertTrue(hash.startsWith("{pbkdf2}"));
+      assertTrue(service.matches("123456", hash));
+    } finally {
+      pbkdf2.shutdown();
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package com.betrybe.agrix;
+
+import com.betrybe.agrix.models.entity.Person;
+import com.betrybe.agrix.models.repository.PersonRepository;
+import com.betrybe.agrix.security.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// A hash weaker than the configured cost is replaced through PersonService.updatePassword
+// the first time its owner logs in
+@SpringBootTest(properties = "api.security.password.bcrypt-strength=5")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class PasswordUpgradeOnLoginTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private PersonRepository personRepository;
+
+  @Test
+  public void TestLoginRehashesWeakerPasswords() throws Exception {
+    Person person = personRepository.save(new Person(null, "rehash",
+        new BCryptPasswordEncoder(4).encode("123456"), Role.USER));
+
+    try {
+      mockMvc.perform(post("/auth/login")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content("{\"username\": \"rehash\", \"password\": \"123456\"}"))
+          .andExpect(status().isOk());
+
+      String upgraded = personRepository.findById(person.getId()).orElseThrow().getPassword();
+      assertTrue(upgraded.startsWith("{bcrypt}$2a$05$"), upgraded);
+
+      mockMvc.perform(post("/auth/login")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content("{\"username\": \"rehash\", \"password\": \"123456\"}"))
+          .andExpect(status().isOk());
+    } finally {
+      personRepository.deleteById(person.getId());
+    }
+  }
+}
@@ -3,6 +3,7 @@ package com.betrybe.agrix;
 
 import com.betrybe.agrix.models.entity.Person;
 import com.betrybe.agrix.models.repository.PersonRepository;
+import com.betrybe.agrix.security.PasswordHashingService;
 import com.betrybe.agrix.security.Role;
 import com.betrybe.agrix.services.PersonService;
 import java.util.Optional;
@@ -11,20 +12,30 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
 import static org.hibernate.validator.internal.util.Contracts.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
-@SpringJUnitConfig(PersonService.class)
+@SpringJUnitConfig({PersonService.class, PasswordHashingService.class})
 @SpringBootTest
 public class PersonServiceTest {
   @MockBean
   private PersonRepository personRepository;
 
+  @MockBean
+  private PlatformTransactionManager transactionManager;
+
+  @SpyBean
+  private PasswordHashingService passwordHashingService;
+
   @Autowired
   private PersonService personService;
 
@@ -129,4 +140,20 @@ public class PersonServiceTest {
     assertNull(createdPerson);
   }
 
-}
\ No newline at end of file
+  @Test
+  public void TestCreateHashesBeforeTheTransaction() {
+    Person person = new Person(null, "Irmã Dulce", "111111", Role.USER);
+    when(personRepository.save(any(Person.class))).thenAnswer(call -> call.getArgument(0));
+
+    Person created = personService.create(person);
+
+    InOrder order = inOrder(passwordHashingService, transactionManager, personRepository);
+    order.verify(passwordHashingService).encode("111111");
+    order.verify(transactionManager).getTransaction(any());
+    order.verify(personRepository).findByUsername("Irmã Dulce");
+    order.verify(personRepository).save(person);
+    order.verify(transactionManager).commit(any());
+    assertTrue(passwordHashingService.matches("111111", created.getPassword()));
+  }
+
+}
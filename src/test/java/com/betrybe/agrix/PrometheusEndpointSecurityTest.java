@@ -0,0 +1,47 @@
+package com.betrybe.agrix;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "agrix.metrics.scrape-token=token-do-prometheus")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+public class PrometheusEndpointSecurityTest {
+
+  private static final String PROMETHEUS = "/actuator/prometheus";
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  public void TestAnonymousAndPlainUsersAreRejected() throws Exception {
+    mockMvc.perform(get(PROMETHEUS)).andExpect(status().isForbidden());
+    mockMvc.perform(get(PROMETHEUS).with(user("ana").roles("USER")))
+        .andExpect(status().isForbidden());
+    mockMvc.perform(get(PROMETHEUS).with(user("bia").roles("MANAGER")))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  public void TestScrapeTokenAndAdminsAreAccepted() throws Exception {
+    mockMvc.perform(get(PROMETHEUS)
+            .header(HttpHeaders.AUTHORIZATION, "Bearer token-do-prometheus"))
+        .andExpect(status().isOk())
+        .andExpect(content().string(containsString("hikaricp_connections")));
+    mockMvc.perform(get(PROMETHEUS).with(user("admin").roles("ADMIN")))
+        .andExpect(status().isOk());
+  }
+}
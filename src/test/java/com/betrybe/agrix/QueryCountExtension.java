@@ -0,0 +1,64 @@
+package com.betrybe.agrix;
+
+import com.betrybe.agrix.datasource.QueryStats;
+import java.util.Map;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Records the SQL statements a test runs on its own thread, through a DataSource proxied by
+ * agrix.sql.stats.enabled (set in the test profile). Register it with
+ * {@code @RegisterExtension} and call {@link #reset()} once the test data is in place.
+ */
+public class QueryCountExtension implements BeforeEachCallback, AfterEachCallback {
+
+  private QueryStats stats;
+
+  @Override
+  public void beforeEach(ExtensionContext context) {
+    reset();
+  }
+
+  @Override
+  public void afterEach(ExtensionContext context) {
+    QueryStats.stop();
+  }
+
+  /**
+   * Forgets the statements run so far.
+   */
+  public void reset() {
+    stats = QueryStats.start();
+  }
+
+  public long statements() {
+    return stats.getStatements();
+  }
+
+  public long rows() {
+    return stats.getRows();
+  }
+
+  public void assertStatements(long expected) {
+    assertEquals(expected, stats.getStatements(), "comandos SQL");
+  }
+
+  public void assertStatementsAtMost(long budget) {
+    assertTrue(stats.getStatements() <= budget,
+        stats.getStatements() + " comandos SQL, acima do orçamento de " + budget);
+  }
+
+  /**
+   * Fails when a statement shape ran a number of times, the N+1 pattern.
+   *
+   * @param threshold The number of runs of one shape that fails the test.
+   */
+  public void assertNoRepeatedStatements(int threshold) {
+    Map<String, Integer> repeated = stats.repeatedShapes(threshold);
+    assertTrue(repeated.isEmpty(), "possível N+1: " + repeated);
+  }
+}
@@ -0,0 +1,154 @@
+package com.betrybe.agrix;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.betrybe.agrix.datasource.QueryStats;
+import com.betrybe.agrix.datasource.QueryStatsFilter;
+import com.betrybe.agrix.datasource.QueryStatsListener;
+import com.betrybe.agrix.datasource.StatementListenerProxy;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class QueryStatsFilterTest {
+
+  private JdbcTemplate jdbcTemplate;
+
+  private ListAppender<ILoggingEvent> warnings;
+
+  @RestController
+  static class FarmsController {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    FarmsController(JdbcTemplate jdbcTemplate) {
+      this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @GetMapping("/farms")
+    List<String> farms() {
+      return jdbcTemplate.queryForList("select name from farm order by id", String.class);
+    }
+
+    // One query for the farms, then one per farm: the N+1 pattern
+    @GetMapping("/farms/crops")
+    List<String> crops() {
+      return jdbcTemplate.queryForList("select id from farm order by id", Long.class).stream()
+          .flatMap(id -> jdbcTemplate.queryForList(
+              "select name from crop where farm_id = " + id, String.class).stream())
+          .toList();
+    }
+  }
+
+  @BeforeEach
+  public void setUp() {
+    JdbcDataSource h2 = new JdbcDataSource();
+    h2.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+    QueryStatsListener listener = new QueryStatsListener();
+    jdbcTemplate = new JdbcTemplate(
+        StatementListenerProxy.wrap(h2, List.of(listener), List.of(listener)));
+
+    jdbcTemplate.execute("create table farm (id bigint primary key, name varchar(255))");
+    jdbcTemplate.execute("create table crop (id bigint primary key, farm_id bigint,"
+        + " name varchar(255))");
+    for (long id = 1; id <= 6; id++) {
+      jdbcTemplate.update("insert into farm values (?, ?)", id, "Fazenda " + id);
+      jdbcTemplate.update("insert into crop values (?, ?, ?)", id, id, "Plantação " + id);
+    }
+
+    warnings = new ListAppender<>();
+    warnings.start();
+    ((Logger) LoggerFactory.getLogger(QueryStatsFilter.class)).addAppender(warnings);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    ((Logger) LoggerFactory.getLogger(QueryStatsFilter.class)).detachAppender(warnings);
+    QueryStats.stop();
+  }
+
+  private MockMvc mockMvc(QueryStatsFilter filter) {
+    return MockMvcBuilders.standaloneSetup(new FarmsController(jdbcTemplate))
+        .addFilters(filter)
+        .build();
+  }
+
+  @Test
+  public void TestHeadersReportStatementsAndRows() throws Exception {
+    mockMvc(new QueryStatsFilter(true, 30, 5, false))
+        .perform(get("/farms"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("X-Query-Count", "1"))
+        .andExpect(header().string("X-Query-Rows", "6"))
+        .andExpect(header().exists("X-Query-Time-Ms"));
+    assertTrue(warnings.list.isEmpty());
+
+    mockMvc(new QueryStatsFilter(false, 30, 5, false))
+        .perform(get("/farms"))
+        .andExpect(header().doesNotExist("X-Query-Count"));
+  }
+
+  @Test
+  public void TestBudgetAndRepeatedShapesAreLogged() throws Exception {
+    mockMvc(new QueryStatsFilter(true, 3, 5, false))
+        .perform(get("/farms/crops"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("X-Query-Count", "7"));
+
+    List<String> messages = warnings.list.stream()
+        .filter(event -> event.getLevel() == Level.WARN)
+        .map(ILoggingEvent::getFormattedMessage)
+        .toList();
+    assertEquals(2, messages.size(), messages.toString());
+    assertTrue(messages.get(0).contains("7 comandos SQL, acima do orçamento de 3"));
+    assertTrue(messages.get(1).contains(
+        "possível N+1, comando repetido 6 vezes: select name from crop where farm_id = ?"));
+  }
+
+  @Test
+  public void TestFailOnViolationFailsTheRequest() throws Exception {
+    MockMvc failing = mockMvc(new QueryStatsFilter(true, 30, 5, true));
+
+    failing.perform(get("/farms")).andExpect(status().isOk());
+    IllegalStateException violation = assertThrows(IllegalStateException.class,
+        () -> failing.perform(get("/farms/crops")));
+    assertTrue(violation.getMessage().startsWith("GET /farms/crops: possível N+1"));
+  }
+
+  @Test
+  public void TestStatementsDifferingInLiteralsShareAShape() {
+    QueryStats stats = QueryStats.start();
+
+    jdbcTemplate.queryForList("select id from farm where name = 'Fazenda 1'");
+    jdbcTemplate.queryForList("select id from farm where name = 'O''Brien'");
+    jdbcTemplate.queryForList("select id from farm where id in (1, 2, 3)");
+    jdbcTemplate.queryForList("select id from farm   where id in (4)");
+    jdbcTemplate.queryForList("select id from farm where id in (?, ?)", 1, 2);
+    jdbcTemplate.queryForList("select id from farm where id > 10.5");
+
+    assertEquals(Map.of(
+        "select id from farm where name = ?", 2,
+        "select id from farm where id in (?)", 3
+    ), stats.repeatedShapes(2));
+    assertEquals(1, stats.repeatedShapes(1).get("select id from farm where id > ?"));
+  }
+}
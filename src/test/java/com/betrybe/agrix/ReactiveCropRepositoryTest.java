@@ -0,0 +1,90 @@
+package com.betrybe.agrix;
+
+import com.betrybe.agrix.controllers.dto.CropDto;
+import com.betrybe.agrix.controllers.dto.CropSearchDto;
+import com.betrybe.agrix.reactive.ReactiveCropRepository;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReactiveCropRepositoryTest {
+
+  static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+
+  private ReactiveCropRepository repository;
+
+  @BeforeEach
+  public void setUp() {
+    repository = new ReactiveCropRepository(seededDatabase(), 2);
+  }
+
+  // Two farms and three crops; DB_CLOSE_DELAY keeps the database between connections.
+  static ConnectionFactory seededDatabase() {
+    ConnectionFactory connectionFactory = ConnectionFactories.get(
+        "r2dbc:h2:mem:///" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1");
+    DatabaseClient client = DatabaseClient.create(connectionFactory);
+    client.sql("create table farm (id bigint primary key, name varchar(255), size double)")
+        .then().block();
+    client.sql("create table crop (id bigint primary key, farm_id bigint, name varchar(255),"
+        + " planted_area double, planting_date date, harvest_date date)").then().block();
+    client.sql("insert into farm values (1, 'Fazenda 1', 100.0), (2, 'Fazenda 2', 50.0)")
+        .then().block();
+    client.sql("insert into crop values"
+            + " (1, 1, 'Milho', 10.0, :planted, :harvest),"
+            + " (2, 1, 'Mandioca', 20.0, :planted, :later),"
+            + " (3, 2, 'Milho_safrinha', 5.0, :planted, :harvest)")
+        .bind("planted", TODAY.minusDays(30))
+        .bind("harvest", TODAY.plusDays(10))
+        .bind("later", TODAY.plusDays(40))
+        .then().block();
+    return connectionFactory;
+  }
+
+  @Test
+  public void TestFarmsAndCropsAreRead() {
+    assertEquals(2, repository.findAllFarms().collectList().block().size());
+    assertEquals("Fazenda 2", repository.findFarmById(2L).block().name());
+    assertNull(repository.findFarmById(3L).block());
+
+    List<CropDto> crops = repository.findCropsByFarmId(1L).collectList().block();
+    assertEquals(List.of(1L, 2L), crops.stream().map(CropDto::id).toList());
+    assertEquals(new CropDto(1L, "Milho", 10.0, 1L, TODAY.minusDays(30), TODAY.plusDays(10)),
+        crops.get(0));
+    assertEquals(3, repository.findAllCrops().collectList().block().size());
+  }
+
+  @Test
+  public void TestSearchFiltersSortsAndPages() {
+    CropSearchDto byHarvest = new CropSearchDto(TODAY, TODAY.plusDays(20), null, null, null,
+        null, null, null);
+    assertEquals(List.of(1L, 3L), ids(repository.search(byHarvest, "harvestDate", true, 0, 10)
+        .collectList().block()));
+
+    CropSearchDto byName = new CropSearchDto(null, null, null, null, null, "milho_", null,
+        null);
+    assertEquals(List.of(3L), ids(repository.search(byName, "id", true, 0, 10)
+        .collectList().block()));
+
+    CropSearchDto all = new CropSearchDto(null, null, null, null, null, null, null, null);
+    assertEquals(List.of(2L), ids(repository.search(all, "plantedArea", false, 0, 1)
+        .collectList().block()));
+    assertEquals(List.of(1L), ids(repository.search(all, "plantedArea", false, 1, 1)
+        .collectList().block()));
+
+    assertThrows(IllegalArgumentException.class,
+        () -> repository.search(all, "farm", true, 0, 10));
+  }
+
+  private static List<Long> ids(List<CropDto> crops) {
+    return crops.stream().map(CropDto::id).toList();
+  }
+}
@@ -0,0 +1,131 @@
+package com.betrybe.agrix;
+
+import com.betrybe.agrix.controllers.dto.CropDto;
+import com.betrybe.agrix.controllers.dto.FarmDto;
+import com.betrybe.agrix.exception.NotFoundException;
+import com.betrybe.agrix.models.entity.Person;
+import com.betrybe.agrix.reactive.ReactiveCropRepository;
+import com.betrybe.agrix.reactive.ReactiveReadConfiguration;
+import com.betrybe.agrix.security.Role;
+import com.betrybe.agrix.security.TokenCache;
+import com.betrybe.agrix.services.PersonService;
+import com.betrybe.agrix.services.TokenService;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static com.betrybe.agrix.ReactiveCropRepositoryTest.TODAY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ReactiveReadApiTest {
+
+  private final TokenService tokenService = new TokenService("segredo", "HS256", "", "");
+
+  private final PersonService personService = mock(PersonService.class);
+
+  private WebTestClient client;
+
+  @BeforeEach
+  public void setUp() {
+    ReactiveCropRepository repository =
+        new ReactiveCropRepository(ReactiveCropRepositoryTest.seededDatabase(), 2);
+    client = WebTestClient.bindToRouterFunction(new ReactiveReadConfiguration()
+            .reactiveReadRoutes(repository, tokenService, personService, new TokenCache(100, Duration.ofHours(1))))
+        .build();
+  }
+
+  private String tokenFor(String username, Role role) {
+    Person person = new Person(null, username, "123456", role);
+    when(personService.getPersonByUsername(username)).thenReturn(person);
+    return tokenService.generateToken(person);
+  }
+
+  private WebTestClient.ResponseSpec get(String uri, String token) {
+    return client.get().uri(uri)
+        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+        .exchange();
+  }
+
+  @Test
+  public void TestHandlerStreamsFarmsAndCrops() {
+    String token = tokenFor("admin", Role.ADMIN);
+
+    get("/reactive/farms", token).expectStatus().isOk()
+        .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+        .expectBodyList(FarmDto.class)
+        .isEqualTo(List.of(new FarmDto(1L, "Fazenda 1", 100.0),
+            new FarmDto(2L, "Fazenda 2", 50.0)));
+    get("/reactive/farms/2", token).expectStatus().isOk()
+        .expectBody(FarmDto.class).isEqualTo(new FarmDto(2L, "Fazenda 2", 50.0));
+    get("/reactive/farms/1/crops", token).expectStatus().isOk()
+        .expectBodyList(CropDto.class).hasSize(2);
+    get("/reactive/crops", token).expectStatus().isOk()
+        .expectBodyList(CropDto.class).hasSize(3);
+    get("/reactive/crops/1", token).expectStatus().isOk()
+        .expectBody(CropDto.class).isEqualTo(new CropDto(1L, "Milho", 10.0, 1L,
+            TODAY.minusDays(30), TODAY.plusDays(10)));
+
+    List<CropDto> found = get("/reactive/crops/search?start=" + TODAY + "&end="
+        + TODAY.plusDays(20) + "&sort=harvestDate,desc", token)
+        .expectStatus().isOk()
+        .expectBodyList(CropDto.class).returnResult().getResponseBody();
+    assertEquals(2, found.size());
+  }
+
+  @Test
+  public void TestHandlerRejectsMissingAndInvalidInput() {
+    String token = tokenFor("admin", Role.ADMIN);
+
+    get("/reactive/farms/3", token).expectStatus().isNotFound()
+        .expectBody(String.class).isEqualTo("Fazenda não encontrada!");
+    get("/reactive/farms/3/crops", token).expectStatus().isNotFound();
+    get("/reactive/crops/9", token).expectStatus().isNotFound()
+        .expectBody(String.class).isEqualTo("Plantação não encontrada!");
+    get("/reactive/farms/abc", token).expectStatus().isBadRequest();
+    get("/reactive/crops/search?start=ontem", token).expectStatus().isBadRequest()
+        .expectBody(String.class).isEqualTo("Parâmetro inválido!");
+    get("/reactive/crops/search?size=0", token).expectStatus().isBadRequest()
+        .expectBody(String.class).isEqualTo("Paginação inválida!");
+    get("/reactive/crops/search?sort=name,up", token).expectStatus().isBadRequest()
+        .expectBody(String.class).isEqualTo("Ordenação inválida!");
+    get("/reactive/crops/search?sort=farm", token).expectStatus().isBadRequest()
+        .expectBody(String.class).isEqualTo("Ordenação inválida!");
+  }
+
+  @Test
+  public void TestAuthorizationChecksTokenAndRole() {
+    client.get().uri("/reactive/farms").exchange().expectStatus().isForbidden();
+    get("/reactive/farms", "invalido").expectStatus().isForbidden();
+
+    String user = tokenFor("user", Role.USER);
+    get("/reactive/farms", user).expectStatus().isOk();
+    get("/reactive/crops/1", user).expectStatus().isOk();
+    get("/reactive/crops", user).expectStatus().isForbidden();
+
+    String manager = tokenFor("manager", Role.MANAGER);
+    get("/reactive/crops", manager).expectStatus().isOk();
+
+    when(personService.getPersonByUsername("removido"))
+        .thenThrow(new NotFoundException("Pessoa não encontrada!"));
+    String removed = tokenService.generateToken(new Person(null, "removido", "1", Role.ADMIN));
+    get("/reactive/farms", removed).expectStatus().isForbidden();
+  }
+
+  @Test
+  public void TestAuthorizationCachesVerifiedTokens() {
+    String token = tokenFor("admin", Role.ADMIN);
+
+    get("/reactive/farms", token).expectStatus().isOk();
+    get("/reactive/crops", token).expectStatus().isOk();
+
+    verify(personService, times(1)).getPersonByUsername("admin");
+  }
+}
@@ -0,0 +1,131 @@
+package com.betrybe.agrix;
+
+import com.betrybe.agrix.controllers.dto.CropCreationDto;
+import com.betrybe.agrix.models.entity.Crop;
+import com.betrybe.agrix.models.entity.Farm;
+import com.betrybe.agrix.models.entity.Fertilizer;
+import com.betrybe.agrix.services.CropService;
+import com.betrybe.agrix.services.FarmService;
+import com.betrybe.agrix.services.FertilizerService;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Every read endpoint answers with open-session-in-view off and without touching a lazy
+// association: a lazy load would either fail the request or show up in the statistics.
+@SpringBootTest(properties = {
+    "spring.jpa.open-in-view=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+public class ReadEndpointsTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private FarmService farmService;
+
+  @Autowired
+  private CropService cropService;
+
+  @Autowired
+  private FertilizerService fertilizerService;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private Farm farm;
+
+  private Crop crop;
+
+  private Fertilizer fertilizer;
+
+  @BeforeEach
+  public void seed() {
+    farm = farmService.insertFarm(new Farm(null, "Fazenda Boa Vista", 100.0));
+    crop = cropService.insertCrop(farm.getId(), new CropCreationDto(
+        "Soja", 10.0, LocalDate.of(2024, 1, 10), LocalDate.of(2024, 5, 10)));
+    cropService.insertCrop(farm.getId(), new CropCreationDto(
+        "Milho", 5.0, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 6, 1)));
+    fertilizer = fertilizerService.insertFertilizer(
+        new Fertilizer(null, "Compostagem", "Feita em casa", "Restos de alimentos"));
+    cropService.associatedPost(crop.getId(), fertilizer.getId());
+  }
+
+  @AfterEach
+  public void cleanUp() {
+    for (String table : List.of("crop_fertilizer", "farm_month_rollup",
+        "fertilizer_usage_rollup", "crop", "fertilizer", "farm")) {
+      jdbcTemplate.update("delete from " + table);
+    }
+  }
+
+  private void assertNoLazyLoads(String uri, MediaType accept) throws Exception {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    MvcResult result = mockMvc.perform(get(uri).accept(accept)).andReturn();
+    if (result.getRequest().isAsyncStarted()) {
+      result = mockMvc.perform(asyncDispatch(result)).andReturn();
+    }
+
+    assertEquals(200, result.getResponse().getStatus(),
+        uri + ": " + result.getResponse().getContentAsString());
+    assertEquals(0, statistics.getEntityFetchCount(), uri + " carregou entidades sob demanda");
+    assertEquals(0, statistics.getCollectionFetchCount(), uri + " carregou coleções sob demanda");
+  }
+
+  @Test
+  public void TestJsonReadsNeedNoOpenSession() throws Exception {
+    for (String uri : List.of(
+        "/farms",
+        "/farms/" + farm.getId(),
+        "/farms/" + farm.getId() + "/crops",
+        "/crops",
+        "/crops/" + crop.getId(),
+        "/crops/search?farmId=" + farm.getId(),
+        "/crops/" + crop.getId() + "/fertilizers",
+        "/fertilizers",
+        "/fertilizers/" + fertilizer.getId(),
+        "/statistics/farms",
+        "/statistics/farms/" + farm.getId(),
+        "/statistics/farms/" + farm.getId() + "/monthly",
+        "/statistics/farms/" + farm.getId() + "/monthly-area",
+        "/statistics/fertilizers",
+        "/statistics/harvests")) {
+      assertNoLazyLoads(uri, MediaType.APPLICATION_JSON);
+    }
+  }
+
+  @Test
+  public void TestStreamedReadsNeedNoOpenSession() throws Exception {
+    for (String uri : List.of("/farms", "/crops", "/fertilizers")) {
+      assertNoLazyLoads(uri, MediaType.APPLICATION_NDJSON);
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package com.betrybe.agrix;
+
+import com.betrybe.agrix.cache.CacheConfiguration;
+import com.betrybe.agrix.controllers.dto.FarmDto;
+import com.betrybe.agrix.datasource.DatabaseConfiguration;
+import com.betrybe.agrix.datasource.QueryStatsConfiguration;
+import com.betrybe.agrix.exception.NotFoundException;
+import com.betrybe.agrix.models.entity.Farm;
+import com.betrybe.agrix.models.entity.Fertilizer;
+import com.betrybe.agrix.models.repository.FarmRepository;
+import com.betrybe.agrix.models.repository.FertilizerRepository;
+import com.betrybe.agrix.services.FarmService;
+import com.betrybe.agrix.services.FertilizerService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Each call commits on its own, since the caches only see committed changes
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+@Import({CacheConfiguration.class, FarmService.class, FertilizerService.class,
+    DatabaseConfiguration.class, QueryStatsConfiguration.class})
+public class ReferenceDataCacheTest {
+
+  @RegisterExtension
+  private final QueryCountExtension queries = new QueryCountExtension();
+
+  @Autowired
+  private FarmService farmService;
+
+  @Autowired
+  private FertilizerService fertilizerService;
+
+  @Autowired
+  private FarmRepository farmRepository;
+
+  @Autowired
+  private FertilizerRepository fertilizerRepository;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @AfterEach
+  public void tearDown() {
+    farmRepository.deleteAll();
+    fertilizerRepository.deleteAll();
+    cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+  }
+
+  @SuppressWarnings("unchecked")
+  private CacheStats stats(String cacheName) {
+    return ((Cache<Object, Object>) cacheManager.getCache(cacheName).getNativeCache()).stats();
+  }
+
+  @Test
+  public void TestRepeatedReadsAreServedFromTheCache() {
+    Farm farm = farmRepository.save(new Farm(null, "Fazenda Boa Vista", 500.0));
+    CacheStats before = stats(CacheConfiguration.FARMS);
+
+    queries.reset();
+    for (int i = 0; i < 10; i++) {
+      assertEquals(new FarmDto(farm.getId(), "Fazenda Boa Vista", 500.0),
+          farmService.getFarmById(farm.getId()));
+    }
+
+    queries.assertStatements(1);
+    CacheStats reads = stats(CacheConfiguration.FARMS).minus(before);
+    assertEquals(1, reads.missCount());
+    assertEquals(9, reads.hitCount());
+    assertEquals(0.9, reads.hitRate(), 1e-9);
+  }
+
+  @Test
+  public void TestCommittedChangesEvictTheEntry() {
+    Farm farm = farmRepository.save(new Farm(null, "Fazenda Boa Vista", 500.0));
+    farmService.getFarmById(farm.getId());
+
+    farm.setName("Fazenda Santa Rita");
+    farmRepository.save(farm);
+    assertEquals("Fazenda Santa Rita", farmService.getFarmById(farm.getId()).name());
+
+    Fertilizer compost = fertilizerRepository.save(
+        new Fertilizer(null, "Compostagem", "Feita em casa", "Restos de alimentos"));
+    fertilizerService.findByFertilizerId(compost.getId());
+    fertilizerRepository.delete(compost);
+    assertThrows(NotFoundException.class,
+        () -> fertilizerService.findByFertilizerId(compost.getId()));
+  }
+
+  @Test
+  public void TestRolledBackChangesKeepTheEntry() {
+    Farm farm = farmRepository.save(new Farm(null, "Fazenda Boa Vista", 500.0));
+    farmService.getFarmById(farm.getId());
+
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      Farm changed = farmRepository.findById(farm.getId()).orElseThrow();
+      changed.setName("Fazenda Santa Rita");
+      farmRepository.flush();
+      status.setRollbackOnly();
+    });
+
+    queries.reset();
+    assertEquals("Fazenda Boa Vista", farmService.getFarmById(farm.getId()).name());
+    queries.assertStatements(0);
+  }
+}
@@ -0,0 +1,161 @@
+package com.betrybe.agrix;
+
+import com.betrybe.agrix.datasource.ReplicaRoutingDataSource;
+import com.betrybe.agrix.datasource.ReplicaRoutingDataSource.Balancing;
+import com.betrybe.agrix.datasource.ReplicaRoutingDataSource.Replica;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReplicaRoutingDataSourceTest {
+
+  private final List<EmbeddedDatabase> databases = new ArrayList<>();
+
+  private EmbeddedDatabase database(String node) {
+    EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+        .setType(EmbeddedDatabaseType.H2)
+        .setName(node + "-" + UUID.randomUUID())
+        .build();
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+    jdbcTemplate.execute("create table node (name varchar(20))");
+    jdbcTemplate.update("insert into node values (?)", node);
+    databases.add(database);
+    return database;
+  }
+
+  @AfterEach
+  public void shutdown() {
+    databases.forEach(EmbeddedDatabase::shutdown);
+    ReplicaRoutingDataSource.setForcePrimary(false);
+  }
+
+  private static String readNode(DataSource dataSource, boolean readOnly) {
+    TransactionTemplate transactionTemplate =
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    transactionTemplate.setReadOnly(readOnly);
+    return transactionTemplate.execute(status -> new JdbcTemplate(dataSource)
+        .queryForObject("select name from node", String.class));
+  }
+
+  private static String nodeOf(Connection connection) throws SQLException {
+    return new JdbcTemplate(new SingleConnectionDataSource(connection, true))
+        .queryForObject("select name from node", String.class);
+  }
+
+  @Test
+  public void TestReadOnlyTransactionsUseReplica() {
+    ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(database("primary"),
+        List.of(new Replica("replica", database("replica"))), Balancing.ROUND_ROBIN);
+    DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+    assertEquals("replica", readNode(dataSource, true));
+    assertEquals("primary", readNode(dataSource, false));
+    assertEquals("primary", new JdbcTemplate(dataSource)
+        .queryForObject("select name from node", String.class));
+  }
+
+  @Test
+  public void TestForcePrimaryKeepsReadsOnPrimary() {
+    ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(database("primary"),
+        List.of(new Replica("replica", database("replica"))), Balancing.ROUND_ROBIN);
+    DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+    ReplicaRoutingDataSource.setForcePrimary(true);
+    assertEquals("primary", readNode(dataSource, true));
+
+    ReplicaRoutingDataSource.setForcePrimary(false);
+    assertEquals("replica", readNode(dataSource, true));
+  }
+
+  @Test
+  public void TestFailingReplicaIsEjectedUntilHealthy() {
+    FlakyDataSource flaky = new FlakyDataSource(database("replica"));
+    Replica replica = new Replica("replica", flaky);
+    ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(database("primary"),
+        List.of(replica), Balancing.ROUND_ROBIN);
+    DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+    flaky.down = true;
+    assertEquals("primary", readNode(dataSource, true));
+    assertFalse(replica.isUp());
+    assertEquals(1, replica.getEjections());
+
+    routing.checkHealth(1);
+    assertFalse(replica.isUp());
+
+    flaky.down = false;
+    assertEquals("primary", readNode(dataSource, true));
+    routing.checkHealth(1);
+    assertTrue(replica.isUp());
+    assertEquals("replica", readNode(dataSource, true));
+  }
+
+  @Test
+  public void TestBalancing() throws SQLException {
+    EmbeddedDatabase primary = database("primary");
+    List<Replica> replicas = List.of(
+        new Replica("first", database("first")), new Replica("second", database("second")));
+    ReplicaRoutingDataSource roundRobin =
+        new ReplicaRoutingDataSource(primary, replicas, Balancing.ROUND_ROBIN);
+    ReplicaRoutingDataSource leastConnections =
+        new ReplicaRoutingDataSource(primary, replicas, Balancing.LEAST_CONNECTIONS);
+
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    try {
+      List<String> rotation = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        try (Connection connection = roundRobin.getConnection()) {
+          rotation.add(nodeOf(connection));
+        }
+      }
+      assertEquals(List.of("first", "second", "first", "second"), rotation);
+
+      try (Connection held = leastConnections.getConnection()) {
+        assertEquals("first", nodeOf(held));
+        assertEquals(1, replicas.get(0).getActiveConnections());
+        try (Connection next = leastConnections.getConnection()) {
+          assertEquals("second", nodeOf(next));
+        }
+      }
+      assertEquals(0, replicas.get(0).getActiveConnections());
+    } finally {
+      TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+  }
+
+  private static class FlakyDataSource extends DelegatingDataSource {
+
+    private volatile boolean down;
+
+    FlakyDataSource(DataSource target) {
+      super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      if (down) {
+        throw new SQLException("Replica down");
+      }
+      return super.getConnection();
+    }
+  }
+}
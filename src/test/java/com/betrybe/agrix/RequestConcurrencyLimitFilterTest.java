@@ -0,0 +1,57 @@
+package com.betrybe.agrix;
+
+import com.betrybe.agrix.threads.RequestConcurrencyLimitFilter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RequestConcurrencyLimitFilterTest {
+
+  @Test
+  public void TestRequestOverLimitIsRejected() throws Exception {
+    RequestConcurrencyLimitFilter filter = new RequestConcurrencyLimitFilter(1, 50);
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+      try {
+        filter.doFilter(new MockHttpServletRequest("GET", "/farms"),
+            new MockHttpServletResponse(), (request, response) -> {
+              entered.countDown();
+              try {
+                release.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            });
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    assertTrue(entered.await(5, TimeUnit.SECONDS));
+    assertEquals(1, filter.getActiveCount());
+
+    MockHttpServletResponse rejected = new MockHttpServletResponse();
+    filter.doFilter(new MockHttpServletRequest("GET", "/farms"), rejected,
+        (request, response) -> { });
+    assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), rejected.getStatus());
+    assertEquals("1", rejected.getHeader("Retry-After"));
+    assertEquals(1, filter.getRejectedCount());
+
+    release.countDown();
+    first.get(5, TimeUnit.SECONDS);
+    assertEquals(0, filter.getActiveCount());
+
+    MockHttpServletResponse accepted = new MockHttpServletResponse();
+    filter.doFilter(new MockHttpServletRequest("GET", "/farms"), accepted,
+        (request, response) -> { });
+    assertEquals(HttpStatus.OK.value(), accepted.getStatus());
+  }
+}
@@ -0,0 +1,132 @@
+package com.betrybe.agrix;
+
+import com.betrybe.agrix.controllers.dto.AssociationResultDto;
+import com.betrybe.agrix.controllers.dto.AssociationResultDto.Status;
+import com.betrybe.agrix.controllers.dto.BulkAssociationResultDto;
+import com.betrybe.agrix.controllers.dto.CropCreationDto;
+import com.betrybe.agrix.controllers.dto.CropFertilizerPairDto;
+import com.betrybe.agrix.controllers.dto.FertilizerUsageDto;
+import com.betrybe.agrix.controllers.dto.MonthlyAreaDto;
+import com.betrybe.agrix.controllers.dto.RollupCheckDto;
+import com.betrybe.agrix.models.entity.Crop;
+import com.betrybe.agrix.models.entity.Farm;
+import com.betrybe.agrix.models.entity.Fertilizer;
+import com.betrybe.agrix.models.repository.CropFertilizerRepository;
+import com.betrybe.agrix.models.repository.FarmRepository;
+import com.betrybe.agrix.models.repository.FertilizerRepository;
+import com.betrybe.agrix.models.repository.RollupRepository;
+import com.betrybe.agrix.services.CropService;
+import com.betrybe.agrix.services.FarmService;
+import com.betrybe.agrix.services.RollupService;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({CropService.class, FarmService.class, CropFertilizerRepository.class,
+    RollupService.class, RollupRepository.class})
+public class RollupServiceTest {
+
+  @Autowired
+  private CropService cropService;
+
+  @Autowired
+  private RollupService rollupService;
+
+  @Autowired
+  private FarmRepository farmRepository;
+
+  @Autowired
+  private FertilizerRepository fertilizerRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private Farm farm;
+
+  private Crop soy;
+
+  private Crop corn;
+
+  private Fertilizer compost;
+
+  private void seed() {
+    farm = farmRepository.save(new Farm(null, "Fazenda Boa Vista", 100.0));
+    compost = fertilizerRepository.save(
+        new Fertilizer(null, "Compostagem", "Feita em casa", "Restos de alimentos"));
+    fertilizerRepository.save(new Fertilizer(null, "Húmus", "Minhocas", "Matéria orgânica"));
+
+    soy = cropService.insertCrop(farm.getId(), new CropCreationDto(
+        "Soja", 10.0, LocalDate.of(2024, 1, 10), LocalDate.of(2024, 5, 10)));
+    corn = cropService.insertCrop(farm.getId(), new CropCreationDto(
+        "Milho", 5.5, LocalDate.of(2024, 1, 20), LocalDate.of(2024, 6, 1)));
+    cropService.insertCrop(farm.getId(), new CropCreationDto(
+        "Feijão", 3.0, LocalDate.of(2024, 2, 5), LocalDate.of(2024, 4, 1)));
+    entityManager.flush();
+
+    cropService.associatedPost(soy.getId(), compost.getId());
+    cropService.associateAll(List.of(
+        new CropFertilizerPairDto(soy.getId(), compost.getId()),
+        new CropFertilizerPairDto(corn.getId(), compost.getId())));
+  }
+
+  @Test
+  public void TestRollupsFollowWrites() {
+    seed();
+
+    assertEquals(
+        List.of(new MonthlyAreaDto(2024, 1, 2, 15.5), new MonthlyAreaDto(2024, 2, 1, 3.0)),
+        rollupService.getMonthlyArea(farm.getId()));
+
+    List<FertilizerUsageDto> usage = rollupService.getFertilizerUsage();
+    assertEquals(List.of(2L, 0L), usage.stream().map(FertilizerUsageDto::cropCount).toList());
+  }
+
+  @Test
+  public void TestCheckFindsAndRebuildRepairsDrift() {
+    seed();
+    assertTrue(rollupService.check().consistent());
+
+    jdbcTemplate.update("update farm_month_rollup set crop_count = 7 where planting_month = 1");
+    jdbcTemplate.update("delete from fertilizer_usage_rollup");
+
+    RollupCheckDto drifted = rollupService.check();
+    assertFalse(drifted.consistent());
+    assertEquals(2, drifted.differences().size());
+
+    RollupCheckDto rebuilt = rollupService.rebuild();
+    assertTrue(rebuilt.consistent());
+    assertEquals(List.of(), rebuilt.differences());
+  }
+
+  @Test
+  public void TestReassociatingExistingPairsChangesNothing() {
+    seed();
+    List<FertilizerUsageDto> usage = rollupService.getFertilizerUsage();
+
+    cropService.associatedPost(soy.getId(), compost.getId());
+    BulkAssociationResultDto result = cropService.associateAll(List.of(
+        new CropFertilizerPairDto(corn.getId(), compost.getId()),
+        new CropFertilizerPairDto(soy.getId(), compost.getId())));
+
+    assertEquals(0, result.created());
+    assertEquals(List.of(Status.ALREADY_ASSOCIATED, Status.ALREADY_ASSOCIATED),
+        result.results().stream().map(AssociationResultDto::status).toList());
+    assertEquals(usage, rollupService.getFertilizerUsage());
+    assertTrue(rollupService.check().consistent());
+  }
+}
@@ -0,0 +1,62 @@
+package com.betrybe.agrix;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * Keeps the SQL statements run through the proxied DataSource together with their bound
+ * parameters, so a test can replay what the application actually generated, for example
+ * under EXPLAIN. Declare it as a bean next to the QueryStatsConfiguration.
+ */
+public class StatementCapture implements QueryExecutionListener {
+
+  /**
+   * A statement and the parameters bound to it, in placeholder order.
+   */
+  public record Statement(String sql, Object[] parameters) {}
+
+  private final List<Statement> statements = new ArrayList<>();
+
+  @Override
+  public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+  }
+
+  @Override
+  public synchronized void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    for (QueryInfo query : queryInfoList) {
+      List<List<ParameterSetOperation>> parameterSets = query.getParametersList();
+      List<ParameterSetOperation> parameters = parameterSets.isEmpty()
+          ? List.of() : parameterSets.get(0);
+      Object[] values = parameters.stream()
+          .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+          .map(operation -> operation.getArgs()[1])
+          .toArray();
+      statements.add(new Statement(query.getQuery(), values));
+    }
+  }
+
+  /**
+   * Forgets the statements captured so far.
+   */
+  public synchronized void clear() {
+    statements.clear();
+  }
+
+  /**
+   * Get the captured statements that contain a fragment, ignoring case.
+   *
+   * @param fragment The text to look for, e.g. "from crop".
+   * @return The matching statements, in execution order.
+   */
+  public synchronized List<Statement> matching(String fragment) {
+    String needle = fragment.toLowerCase();
+    return statements.stream()
+        .filter(statement -> statement.sql().toLowerCase().contains(needle))
+        .toList();
+  }
+}
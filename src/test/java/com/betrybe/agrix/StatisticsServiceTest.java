@@ -0,0 +1,105 @@
+package com.betrybe.agrix;
+
+import com.betrybe.agrix.controllers.dto.FarmUtilizationDto;
+import com.betrybe.agrix.controllers.dto.HarvestWeekDto;
+import com.betrybe.agrix.controllers.dto.MonthlyPlantedAreaDto;
+import com.betrybe.agrix.models.entity.Crop;
+import com.betrybe.agrix.models.entity.Farm;
+import com.betrybe.agrix.models.repository.CropRepository;
+import com.betrybe.agrix.models.repository.FarmRepository;
+import com.betrybe.agrix.services.StatisticsService;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(StatisticsService.class)
+public class StatisticsServiceTest {
+
+  // A Wednesday, so the first week starts on 2024-03-04.
+  private static final LocalDate TODAY = LocalDate.of(2024, 3, 6);
+
+  @Autowired
+  private StatisticsService statisticsService;
+
+  @Autowired
+  private FarmRepository farmRepository;
+
+  @Autowired
+  private CropRepository cropRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private Farm farm;
+
+  private Farm emptyFarm;
+
+  private void seed() {
+    farm = farmRepository.save(new Farm(null, "Fazenda Boa Vista", 100.0));
+    emptyFarm = farmRepository.save(new Farm(null, "Fazenda Vazia", 0.0));
+
+    cropRepository.save(new Crop(null, farm, "Soja", 20.0,
+        LocalDate.of(2024, 1, 10), TODAY));
+    cropRepository.save(new Crop(null, farm, "Soja", 10.0,
+        LocalDate.of(2024, 1, 20), TODAY.plusDays(7)));
+    cropRepository.save(new Crop(null, farm, "Milho", 30.0,
+        LocalDate.of(2024, 2, 1), TODAY.plusDays(14)));
+    cropRepository.save(new Crop(null, farm, "Milho", 5.0,
+        LocalDate.of(2024, 2, 1), TODAY.minusDays(1)));
+
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  public void TestFarmUtilization() {
+    seed();
+
+    List<FarmUtilizationDto> utilization = statisticsService.getFarmUtilization();
+
+    assertEquals(2, utilization.size());
+    assertEquals(4, utilization.get(0).cropCount());
+    assertEquals(65.0, utilization.get(0).plantedArea());
+    assertEquals(0.65, utilization.get(0).utilization(), 1e-9);
+    assertEquals(0, utilization.get(1).cropCount());
+    assertNull(utilization.get(1).utilization());
+  }
+
+  @Test
+  public void TestMonthlyPlantedArea() {
+    seed();
+
+    List<MonthlyPlantedAreaDto> months = statisticsService.getMonthlyPlantedArea(farm.getId());
+
+    assertEquals(List.of(
+        new MonthlyPlantedAreaDto(2024, 1, "Soja", 2L, 30.0),
+        new MonthlyPlantedAreaDto(2024, 2, "Milho", 2L, 35.0)
+    ), months);
+  }
+
+  @Test
+  public void TestUpcomingHarvestsPerWeek() {
+    seed();
+
+    List<HarvestWeekDto> weeks = statisticsService.getUpcomingHarvests(null, 3, TODAY);
+
+    assertEquals(List.of(
+        new HarvestWeekDto(LocalDate.of(2024, 3, 4), 1, 20.0),
+        new HarvestWeekDto(LocalDate.of(2024, 3, 11), 1, 10.0),
+        new HarvestWeekDto(LocalDate.of(2024, 3, 18), 1, 30.0)
+    ), weeks);
+    assertEquals(weeks, statisticsService.getUpcomingHarvests(farm.getId(), 3, TODAY));
+    assertEquals(0, statisticsService.getUpcomingHarvests(emptyFarm.getId(), 3, TODAY)
+        .stream().mapToLong(HarvestWeekDto::cropCount).sum());
+  }
+}
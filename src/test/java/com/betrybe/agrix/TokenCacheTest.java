@@ -0,0 +1,171 @@
+package com.betrybe.agrix;
+
+import com.betrybe.agrix.models.entity.Person;
+import com.betrybe.agrix.models.repository.PersonRepository;
+import com.betrybe.agrix.security.Role;
+import com.betrybe.agrix.security.TokenCache;
+import com.betrybe.agrix.security.TokenCache.VerifiedToken;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TokenCache.class)
+public class TokenCacheTest {
+
+  @Autowired
+  private TokenCache tokenCache;
+
+  @Autowired
+  private PersonRepository personRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private final AtomicInteger verifications = new AtomicInteger();
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  private Function<String, VerifiedToken> verifier(Person person, Instant expiresAt) {
+    return token -> {
+      verifications.incrementAndGet();
+      return VerifiedToken.of(person, expiresAt);
+    };
+  }
+
+  private void advance(Duration duration) {
+    nanos.addAndGet(duration.toNanos());
+  }
+
+  @AfterEach
+  public void cleanUp() {
+    tokenCache.invalidateAll();
+  }
+
+  @Test
+  public void TestTokensWithoutExpirationAreKeptForTheMaximumTtl() {
+    TokenCache cache = new TokenCache(100, Duration.ofMinutes(5), nanos::get);
+    Person person = new Person(1L, "ana", "123456", Role.USER);
+
+    VerifiedToken verified = cache.get("sem-exp", verifier(person, null));
+    advance(Duration.ofMinutes(4));
+    assertSame(verified, cache.get("sem-exp", verifier(person, null)));
+    assertEquals(1, verifications.get());
+
+    advance(Duration.ofMinutes(2));
+    cache.get("sem-exp", verifier(person, null));
+    assertEquals(2, verifications.get());
+  }
+
+  @Test
+  public void TestEntriesExpireWithTheirToken() {
+    TokenCache cache = new TokenCache(100, Duration.ofHours(1), nanos::get);
+    Person person = new Person(1L, "ana", "123456", Role.USER);
+
+    cache.get("expirado", verifier(person, Instant.now().minusSeconds(1)));
+    cache.get("expirado", verifier(person, Instant.now().minusSeconds(1)));
+    assertEquals(2, verifications.get());
+
+    Instant expiresAt = Instant.now().plusSeconds(60);
+    cache.get("valido", verifier(person, expiresAt));
+    advance(Duration.ofSeconds(30));
+    cache.get("valido", verifier(person, expiresAt));
+    assertEquals(3, verifications.get());
+
+    advance(Duration.ofSeconds(31));
+    cache.get("valido", verifier(person, expiresAt));
+    assertEquals(4, verifications.get());
+  }
+
+  @Test
+  public void TestPrincipalsAreCachedWithoutPassword() {
+    Person person = new Person(1L, "ana", "hash-da-senha", Role.USER);
+
+    VerifiedToken verified = tokenCache.get("token", verifier(person, null));
+
+    assertNull(verified.principal().getPassword());
+    assertEquals("ana", verified.principal().getUsername());
+    assertEquals(Role.USER, verified.principal().getRole());
+    verified.authorities().forEach(authority -> assertNull(((Person) authority).getPassword()));
+    assertEquals("hash-da-senha", person.getPassword());
+  }
+
+  @Test
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void TestRoleChangeDropsTheTokenAfterCommit() {
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    Person person = personRepository.save(new Person(null, "carla", "123456", Role.USER));
+    Instant expiresAt = Instant.now().plusSeconds(60);
+    tokenCache.get("token-carla", verifier(person, expiresAt));
+
+    try {
+      transaction.executeWithoutResult(status -> {
+        Person promoted = personRepository.findById(person.getId()).orElseThrow();
+        promoted.setRole(Role.ADMIN);
+        personRepository.flush();
+
+        // Until the commit, the committed role is still the one in use
+        assertEquals(Role.USER, tokenCache.get("token-carla",
+            verifier(person, expiresAt)).principal().getRole());
+      });
+      assertEquals(1, verifications.get());
+
+      Person promoted = personRepository.findById(person.getId()).orElseThrow();
+      assertEquals(Role.ADMIN, tokenCache.get("token-carla",
+          verifier(promoted, expiresAt)).principal().getRole());
+      assertEquals(2, verifications.get());
+
+      transaction.executeWithoutResult(status -> {
+        personRepository.findById(person.getId()).orElseThrow().setRole(Role.USER);
+        personRepository.flush();
+        status.setRollbackOnly();
+      });
+      tokenCache.get("token-carla", verifier(promoted, expiresAt));
+      assertEquals(2, verifications.get());
+    } finally {
+      personRepository.deleteById(person.getId());
+    }
+  }
+
+  @Test
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void TestRenamingAPersonDropsTheTokensOfTheOldUsername() {
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    Person person = personRepository.save(new Person(null, "ana", "123456", Role.USER));
+    Person other = personRepository.save(new Person(null, "bia", "123456", Role.USER));
+    Instant expiresAt = Instant.now().plusSeconds(60);
+
+    try {
+      tokenCache.get("token-ana", verifier(person, expiresAt));
+      tokenCache.get("token-bia", verifier(other, expiresAt));
+
+      transaction.executeWithoutResult(status ->
+          personRepository.findById(person.getId()).orElseThrow().setUsername("ana.maria"));
+
+      Person renamed = personRepository.findById(person.getId()).orElseThrow();
+      tokenCache.get("token-ana", verifier(renamed, expiresAt));
+      tokenCache.get("token-bia", verifier(other, expiresAt));
+      assertEquals(3, verifications.get());
+    } finally {
+      personRepository.deleteAllById(List.of(person.getId(), other.getId()));
+    }
+  }
+}
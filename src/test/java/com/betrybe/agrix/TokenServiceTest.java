@@ -0,0 +1,130 @@
+package com.betrybe.agrix;
+
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.betrybe.agrix.models.entity.Person;
+import com.betrybe.agrix.security.Role;
+import com.betrybe.agrix.services.TokenService;
+import com.betrybe.agrix.util.PemKeys;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TokenServiceTest {
+
+  private static final Instant NOW = Instant.parse("2026-10-18T12:00:00Z");
+
+  private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+  private final Person person = new Person(1L, "ana", "123456", Role.USER);
+
+  @TempDir
+  private Path keys;
+
+  private KeyPair rsaKeyPair() throws Exception {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(2048);
+    return generator.generateKeyPair();
+  }
+
+  private KeyPair ecKeyPair() throws Exception {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+    generator.initialize(new ECGenParameterSpec("secp256r1"));
+    return generator.generateKeyPair();
+  }
+
+  private Path writePem(String name, String type, byte[] encoded) throws Exception {
+    String pem = "-----BEGIN " + type + "-----\n"
+        + Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII))
+            .encodeToString(encoded)
+        + "\n-----END " + type + "-----\n";
+    return Files.writeString(keys.resolve(name), pem, StandardCharsets.US_ASCII);
+  }
+
+  private TokenService signer(String algorithm, KeyPair keyPair, Clock clock) throws Exception {
+    return new TokenService("", algorithm,
+        writePem(algorithm + "-public.pem", "PUBLIC KEY", keyPair.getPublic().getEncoded())
+            .toString(),
+        writePem(algorithm + "-private.pem", "PRIVATE KEY", keyPair.getPrivate().getEncoded())
+            .toString(),
+        clock);
+  }
+
+  private TokenService verifier(String algorithm, KeyPair keyPair, Clock clock)
+      throws Exception {
+    return new TokenService("", algorithm,
+        writePem(algorithm + "-verifier.pem", "PUBLIC KEY", keyPair.getPublic().getEncoded())
+            .toString(),
+        "", clock);
+  }
+
+  @Test
+  public void TestRs256TokensAreVerifiedWithThePublicKey() throws Exception {
+    KeyPair keyPair = rsaKeyPair();
+    String token = signer("RS256", keyPair, CLOCK).generateToken(person);
+
+    TokenService verifier = verifier("rs256", keyPair, CLOCK);
+    assertEquals("ana", verifier.validateToken(token));
+    assertEquals(NOW.plus(Duration.ofHours(2)),
+        verifier.verifyToken(token).getExpiresAtAsInstant());
+    assertThrows(IllegalStateException.class, () -> verifier.generateToken(person));
+  }
+
+  @Test
+  public void TestEs256TokensAreVerifiedWithThePublicKey() throws Exception {
+    KeyPair keyPair = ecKeyPair();
+    String token = signer("ES256", keyPair, CLOCK).generateToken(person);
+
+    assertEquals("ana", verifier("es256", keyPair, CLOCK).validateToken(token));
+  }
+
+  @Test
+  public void TestTokensFromAnotherKeyAreRejected() throws Exception {
+    String rsaToken = signer("RS256", rsaKeyPair(), CLOCK).generateToken(person);
+    TokenService rsaVerifier = verifier("RS256", rsaKeyPair(), CLOCK);
+    assertThrows(SignatureVerificationException.class, () -> rsaVerifier.verifyToken(rsaToken));
+
+    String ecToken = signer("ES256", ecKeyPair(), CLOCK).generateToken(person);
+    TokenService ecVerifier = verifier("ES256", ecKeyPair(), CLOCK);
+    assertThrows(SignatureVerificationException.class, () -> ecVerifier.verifyToken(ecToken));
+  }
+
+  @Test
+  public void TestExpirationIsCheckedAgainstTheClock() {
+    String token = new TokenService("segredo", "HS256", "", "", CLOCK).generateToken(person);
+
+    Clock beforeExpiry = Clock.offset(CLOCK, Duration.ofHours(2).minusSeconds(1));
+    assertEquals("ana",
+        new TokenService("segredo", "HS256", "", "", beforeExpiry).validateToken(token));
+
+    Clock afterExpiry = Clock.offset(CLOCK, Duration.ofHours(2).plusSeconds(1));
+    TokenService expired = new TokenService("segredo", "HS256", "", "", afterExpiry);
+    assertThrows(TokenExpiredException.class, () -> expired.verifyToken(token));
+  }
+
+  @Test
+  public void TestPemFilesWithoutTheExpectedBlockAreRejected() throws Exception {
+    KeyPair keyPair = rsaKeyPair();
+    Path privateKey =
+        writePem("private.pem", "PRIVATE KEY", keyPair.getPrivate().getEncoded());
+
+    assertEquals(keyPair.getPrivate(), PemKeys.readPrivateKey(privateKey, "RSA"));
+    assertThrows(IllegalStateException.class,
+        () -> PemKeys.readPublicKey(privateKey, "RSA"));
+    assertThrows(IllegalStateException.class,
+        () -> new TokenService("", "PS256", "", "", CLOCK));
+  }
+}
@@ -0,0 +1,72 @@
+package com.betrybe.agrix;
+
+import com.betrybe.agrix.datasource.QueryTracingListener;
+import com.betrybe.agrix.datasource.StatementListenerProxy;
+import com.betrybe.agrix.tracing.ContextPropagatingTaskDecorator;
+import io.micrometer.observation.Observation;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TracingTest {
+
+  private final InMemoryTracing tracing = new InMemoryTracing();
+
+  @AfterEach
+  public void tearDown() {
+    tracing.close();
+  }
+
+  @Test
+  public void TestStatementSpansHaveSanitizedSql() throws Exception {
+    JdbcDataSource h2 = new JdbcDataSource();
+    h2.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+    DataSource dataSource = StatementListenerProxy.wrap(h2,
+        List.of(new QueryTracingListener(tracing.observationRegistry())), List.of());
+
+    Observation request = Observation.start("request", tracing.observationRegistry());
+    try (Observation.Scope scope = request.openScope();
+        Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("create table farm (id bigint, name varchar(255))");
+      statement.execute("insert into farm values (1, 'Fazenda Segredo')");
+    }
+    request.stop();
+
+    SpanData insert = tracing.span("jdbc insert");
+    assertEquals("insert into farm values (?)",
+        insert.getAttributes().get(AttributeKey.stringKey("db.statement")));
+    assertEquals(tracing.span("request").getSpanId(), insert.getParentSpanId());
+  }
+
+  @Test
+  public void TestTraceFollowsDecoratedTasks() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    Observation request = Observation.start("request", tracing.observationRegistry());
+    try (Observation.Scope scope = request.openScope()) {
+      executor.submit(new ContextPropagatingTaskDecorator().decorate(
+          () -> Observation.createNotStarted("async", tracing.observationRegistry())
+              .observe(() -> { }))).get(5, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdown();
+    }
+    request.stop();
+
+    SpanData parent = tracing.span("request");
+    SpanData async = tracing.span("async");
+    assertEquals(parent.getTraceId(), async.getTraceId());
+    assertEquals(parent.getSpanId(), async.getParentSpanId());
+  }
+}
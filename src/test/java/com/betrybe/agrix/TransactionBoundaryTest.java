@@ -0,0 +1,102 @@
+package com.betrybe.agrix;
+
+import com.betrybe.agrix.controllers.dto.CropCreationDto;
+import com.betrybe.agrix.controllers.dto.CropDto;
+import com.betrybe.agrix.models.entity.Crop;
+import com.betrybe.agrix.models.entity.Farm;
+import com.betrybe.agrix.models.repository.CropFertilizerRepository;
+import com.betrybe.agrix.models.repository.CropRepository;
+import com.betrybe.agrix.models.repository.RollupRepository;
+import com.betrybe.agrix.services.CropService;
+import com.betrybe.agrix.services.FarmService;
+import com.betrybe.agrix.services.RollupService;
+import com.betrybe.agrix.util.DtoConverter;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.LazyInitializationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Runs without a test transaction, as a controller does, so every lazy load outside the
+// service boundaries throws instead of being served by an open session.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.enable_lazy_load_no_trans=false")
+@ActiveProfiles("test")
+@Import({CropService.class, FarmService.class, CropFertilizerRepository.class,
+    RollupService.class, RollupRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TransactionBoundaryTest {
+
+  @Autowired
+  private CropService cropService;
+
+  @Autowired
+  private FarmService farmService;
+
+  @Autowired
+  private CropRepository cropRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @AfterEach
+  public void cleanUp() {
+    for (String table : List.of("crop_fertilizer", "farm_month_rollup",
+        "fertilizer_usage_rollup", "crop", "fertilizer", "farm")) {
+      jdbcTemplate.update("delete from " + table);
+    }
+  }
+
+  private Crop seed() {
+    Farm farm = farmService.insertFarm(new Farm(null, "Fazenda Boa Vista", 100.0));
+    return cropService.insertCrop(farm.getId(), new CropCreationDto(
+        "Soja", 10.0, LocalDate.of(2024, 1, 10), LocalDate.of(2024, 5, 10)));
+  }
+
+  @Test
+  public void TestLazyLoadOutsideTransactionFails() {
+    Crop crop = seed();
+
+    Crop loaded = cropRepository.findById(crop.getId()).orElseThrow();
+
+    assertThrows(LazyInitializationException.class, () -> loaded.getFarm().getName());
+  }
+
+  @Test
+  public void TestServiceResultsNeedNoSession() {
+    Crop crop = seed();
+
+    CropDto created = DtoConverter.cropToDto(crop);
+    CropDto read = cropService.getByIdCrop(crop.getId());
+
+    assertEquals(created, read);
+    assertEquals(1, cropService.findByFarmId(crop.getFarmId(), 0, 10).getNumberOfElements());
+    assertEquals("Fazenda Boa Vista",
+        farmService.getFarmById(crop.getFarmId()).name());
+  }
+
+  @Test
+  public void TestReadsRunInReadOnlyTransactions() {
+    seed();
+    List<Boolean> readOnly = new ArrayList<>();
+
+    cropService.streamAllCrop(crop -> readOnly.add(
+        TransactionSynchronizationManager.isCurrentTransactionReadOnly()));
+
+    assertEquals(List.of(true), readOnly);
+    assertFalse(TransactionSynchronizationManager.isActualTransactionActive());
+    assertEquals(1, cropService.getCropPage(0L, 10).size());
+  }
+}
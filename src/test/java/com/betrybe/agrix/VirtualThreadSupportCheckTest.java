@@ -0,0 +1,32 @@
+package com.betrybe.agrix;
+
+import com.betrybe.agrix.threads.VirtualThreadSupportCheck;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The java21 profile compiles the configuration in, so its absence is simulated here
+public class VirtualThreadSupportCheckTest {
+
+  private final ApplicationContextRunner runner = new ApplicationContextRunner()
+      .withClassLoader(new FilteredClassLoader(
+          "com.betrybe.agrix.threads.VirtualThreadConfiguration"))
+      .withUserConfiguration(VirtualThreadSupportCheck.class);
+
+  @Test
+  public void TestVirtualThreadsWithoutJava21BuildFailStartup() {
+    runner.withPropertyValues("agrix.threads.virtual.enabled=true")
+        .run(context -> assertThat(context).hasFailed()
+            .getFailure().hasRootCauseInstanceOf(IllegalStateException.class)
+            .rootCause().hasMessageContaining("java21"));
+  }
+
+  @Test
+  public void TestPlatformThreadsStartWithoutJava21Build() {
+    runner.withPropertyValues("agrix.threads.virtual.enabled=false")
+        .run(context -> assertThat(context).hasNotFailed()
+            .doesNotHaveBean(VirtualThreadSupportCheck.class));
+  }
+}